@@ -0,0 +1,78 @@
+package com.vehicle.management.config;
+
+import com.vehicle.management.service.impl.CacheInvalidationServiceImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.TimeUnit;
+
+// O container não é um bean para que o Redis indisponível não impeça a subida da aplicação:
+// a inscrição no canal é feita (e refeita) periodicamente
+@Configuration
+public class CacheInvalidationConfig implements DisposableBean {
+
+    private final Logger logger = LoggerFactory.getLogger(CacheInvalidationConfig.class);
+
+    @Autowired
+    private RedisConnectionFactory connectionFactory;
+
+    @Autowired
+    private CacheInvalidationServiceImpl cacheInvalidationService;
+
+    private RedisMessageListenerContainer container;
+    private boolean failureLogged;
+
+    @Scheduled(fixedDelay = 5, timeUnit = TimeUnit.SECONDS)
+    public synchronized void subscribe() {
+        if (container != null && container.isListening()) {
+            return;
+        }
+
+        destroyContainer();
+        RedisMessageListenerContainer newContainer = new RedisMessageListenerContainer();
+        newContainer.setConnectionFactory(connectionFactory);
+        newContainer.addMessageListener(cacheInvalidationService,
+                new ChannelTopic(CacheInvalidationServiceImpl.CACHE_INVALIDATION_CHANNEL));
+        newContainer.afterPropertiesSet();
+
+        try {
+            newContainer.start();
+            container = newContainer;
+            failureLogged = false;
+            logger.info("Inscrito no canal de invalidação de cache {}", CacheInvalidationServiceImpl.CACHE_INVALIDATION_CHANNEL);
+        } catch (RuntimeException e) {
+            destroy(newContainer);
+            if (!failureLogged) {
+                logger.warn("Falha ao se inscrever no canal de invalidação de cache, nova tentativa em segundo plano: {}", e.getMessage());
+                failureLogged = true;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        destroyContainer();
+    }
+
+    private void destroyContainer() {
+        if (container != null) {
+            destroy(container);
+            container = null;
+        }
+    }
+
+    private void destroy(RedisMessageListenerContainer listenerContainer) {
+        try {
+            listenerContainer.destroy();
+        } catch (Exception e) {
+            logger.debug("Falha ao encerrar o container de invalidação de cache: {}", e.getMessage());
+        }
+    }
+}
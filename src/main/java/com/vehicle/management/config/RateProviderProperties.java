@@ -0,0 +1,48 @@
+package com.vehicle.management.config;
+
+import com.vehicle.management.model.rate.CurrencyCode;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "rate-provider")
+public class RateProviderProperties {
+    // {pairs} é substituído pelos pares solicitados, ex.: USD-BRL,USD-EUR
+    private String primaryUrl = "https://economia.awesomeapi.com.br/json/last/{pairs}";
+    private String fallbackUrl = "https://api.frankfurter.app/latest?from=USD";
+    private List<CurrencyCode> currencies = List.of(CurrencyCode.BRL, CurrencyCode.EUR, CurrencyCode.ARS);
+
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(3);
+    private Duration connectionRequestTimeout = Duration.ofMillis(500);
+    private Duration keepAlive = Duration.ofSeconds(30);
+    private int maxConnections = 20;
+    private Path lastKnownGoodFile = Path.of("data", "usd-brl-rate.properties");
+    private Path historyDirectory = Path.of("data", "rate-history");
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Stub stub = new Stub();
+
+    @Data
+    public static class CircuitBreaker {
+        private int failureThreshold = 3;
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Stub {
+        private Map<CurrencyCode, BigDecimal> rates = Map.of(
+                CurrencyCode.BRL, new BigDecimal("5.4321"),
+                CurrencyCode.EUR, new BigDecimal("0.9234"),
+                CurrencyCode.ARS, new BigDecimal("1045.50")
+        );
+        private Duration latency = Duration.ZERO;
+        private double failureRate = 0.0;
+    }
+}
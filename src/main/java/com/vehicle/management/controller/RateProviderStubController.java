@@ -0,0 +1,63 @@
+package com.vehicle.management.controller;
+
+import com.vehicle.management.config.RateProviderProperties;
+import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Provedor de cotação local para testes de carga offline (perfil "stub-rates")
+@Hidden
+@Profile("stub-rates")
+@RestController
+@RequestMapping("/stub/cotacoes")
+public class RateProviderStubController {
+
+    @Autowired
+    private RateProviderProperties rateProviderProperties;
+
+    @GetMapping("/json/last/{pairs}")
+    public ResponseEntity<Map<String, Object>> primary(@PathVariable String pairs) throws InterruptedException {
+        if (simulateFailure()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        stub().getRates().forEach((currency, rate) -> {
+            if (pairs.contains("USD-" + currency.name())) {
+                response.put("USD" + currency.name(), Map.of("bid", rate.toPlainString()));
+            }
+        });
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/latest")
+    public ResponseEntity<Map<String, Object>> fallback() throws InterruptedException {
+        if (simulateFailure()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        Map<String, Object> rates = new LinkedHashMap<>();
+        stub().getRates().forEach((currency, rate) -> rates.put(currency.name(), rate));
+        return ResponseEntity.ok(Map.of("rates", rates));
+    }
+
+    private boolean simulateFailure() throws InterruptedException {
+        if (!stub().getLatency().isZero()) {
+            Thread.sleep(stub().getLatency());
+        }
+        return ThreadLocalRandom.current().nextDouble() < stub().getFailureRate();
+    }
+
+    private RateProviderProperties.Stub stub() {
+        return rateProviderProperties.getStub();
+    }
+}
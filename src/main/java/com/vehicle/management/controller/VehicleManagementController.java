@@ -1,11 +1,27 @@
 package com.vehicle.management.controller;
 
+import com.vehicle.management.dto.ArchivedVehicleDTO;
+import com.vehicle.management.dto.VehicleAnalyticsReportDTO;
 import com.vehicle.management.dto.VehicleBrandReportDTO;
+import com.vehicle.management.dto.VehicleBulkResultDTO;
 import com.vehicle.management.dto.VehicleDTO;
+import com.vehicle.management.dto.VehicleImportReportDTO;
+import com.vehicle.management.dto.VehicleSearchCacheStatsDTO;
+import com.vehicle.management.dto.request.VehicleBulkFilterDTO;
+import com.vehicle.management.dto.request.VehicleBulkUpdateRequestDTO;
 import com.vehicle.management.dto.request.VehiclePatchRequestDTO;
 import com.vehicle.management.dto.request.VehicleRequestDTO;
 import com.vehicle.management.dto.response.AppResponseDTO;
+import com.vehicle.management.dto.response.CursorPageDTO;
+import com.vehicle.management.model.rate.CurrencyCode;
+import com.vehicle.management.model.transfer.VehicleFileFormat;
+import com.vehicle.management.service.VehicleAnalyticsService;
+import com.vehicle.management.service.VehicleArchiveService;
+import com.vehicle.management.service.VehicleBulkService;
+import com.vehicle.management.service.VehicleExportService;
+import com.vehicle.management.service.VehicleImportService;
 import com.vehicle.management.service.VehicleManagementService;
+import com.vehicle.management.service.VehicleSearchCacheService;
 import com.vehicle.management.mapper.VehicleSortMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -23,14 +39,25 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -46,9 +73,28 @@ public class VehicleManagementController {
     @Autowired
     private VehicleManagementService vehicleManagementService;
 
+    @Autowired
+    private VehicleAnalyticsService vehicleAnalyticsService;
+
+    @Autowired
+    private VehicleSearchCacheService vehicleSearchCacheService;
+
+    @Autowired
+    private VehicleArchiveService vehicleArchiveService;
+
+    @Autowired
+    private VehicleImportService vehicleImportService;
+
+    @Autowired
+    private VehicleExportService vehicleExportService;
+
+    @Autowired
+    private VehicleBulkService vehicleBulkService;
+
     @Operation(
             summary = "Listar veículos",
-            description = "Lista veículos com filtros opcionais e paginação",
+            description = "Lista veículos com filtros opcionais e paginação. Com o parâmetro 'cursor' (vazio na primeira página) "
+                    + "a paginação é por cursor: sem contagem total e com custo constante em páginas profundas",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Veículos retornados com sucesso"),
                     @ApiResponse(responseCode = "400", description = "Parâmetros inválidos"),
@@ -57,7 +103,7 @@ public class VehicleManagementController {
             }
     )
     @GetMapping
-    public ResponseEntity<AppResponseDTO<Page<VehicleDTO>>> getVehicles(
+    public ResponseEntity<AppResponseDTO<?>> getVehicles(
             @Parameter(description = "Placa do veículo", example = "ABC1234")
             @RequestParam(name = "placa", required = false) String plate,
 
@@ -81,20 +127,109 @@ public class VehicleManagementController {
             @Parameter(description = "Preço máximo", example = "100000")
             @RequestParam(name = "maxPreco", required = false) BigDecimal maxPrice,
 
+            @Parameter(description = "Moeda dos preços e dos filtros de preço (BRL, USD, EUR, ARS)", example = "BRL")
+            @RequestParam(name = "moeda", required = false) String currency,
+
+            @Parameter(description = "Converte os preços com a cotação vigente nesta data (ISO-8601)", example = "2024-01-30")
+            @RequestParam(name = "asOf", required = false) String asOf,
+
+            @Parameter(description = "Se false, não calcula o total (retorna apenas se há próxima página)", example = "true")
+            @RequestParam(name = "total", defaultValue = "true") boolean withTotal,
+
+            @Parameter(description = "Cursor da próxima página (modo cursor); envie vazio para a primeira página", example = "")
+            @RequestParam(name = "cursor", required = false) String cursor,
+
             @Parameter(hidden = true)
             @PageableDefault(sort = "id", direction = Sort.Direction.ASC) Pageable pageable
     ) {
 
         Pageable mappedPageable = mapPageable(pageable);
 
+        if (cursor != null) {
+            AppResponseDTO<CursorPageDTO<VehicleDTO>> response =
+                    vehicleManagementService.getVehiclesByCursor(
+                            plate, brand, year, color, minPrice, maxPrice,
+                            CurrencyCode.fromParameter(currency), parseAsOf(asOf), cursor, mappedPageable
+                    );
+            return ResponseEntity.status(response.getStatus()).body(response);
+        }
+
+        if (!withTotal) {
+            AppResponseDTO<Slice<VehicleDTO>> response =
+                    vehicleManagementService.getVehicleSliceByFilters(
+                            plate, brand, year, color, minPrice, maxPrice,
+                            CurrencyCode.fromParameter(currency), parseAsOf(asOf), mappedPageable
+                    );
+            return ResponseEntity.status(response.getStatus()).body(response);
+        }
+
         AppResponseDTO<Page<VehicleDTO>> response =
                 vehicleManagementService.getVehiclesByFilters(
-                        plate, brand, year, color, minPrice, maxPrice, mappedPageable
+                        plate, brand, year, color, minPrice, maxPrice,
+                        CurrencyCode.fromParameter(currency), parseAsOf(asOf), mappedPageable
                 );
 
         return ResponseEntity.status(response.getStatus()).body(response);
     }
 
+    @Operation(
+            summary = "Exportar veículos",
+            description = "Exporta todos os veículos que atendem aos filtros em NDJSON (padrão) ou CSV, em fluxo e sem "
+                    + "paginação. Os preços são convertidos com uma única cotação. O CSV tem as colunas aceitas pela importação",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Arquivo gerado"),
+                    @ApiResponse(responseCode = "400", description = "Parâmetros inválidos"),
+                    @ApiResponse(responseCode = "401", description = "Usuário não autenticado"),
+                    @ApiResponse(responseCode = "403", description = "Usuário sem permissão")
+            }
+    )
+    @GetMapping("/exportacao")
+    public ResponseEntity<StreamingResponseBody> exportVehicles(
+            @Parameter(description = "Placa do veículo", example = "ABC1234")
+            @RequestParam(name = "placa", required = false) String plate,
+
+            @Parameter(description = "Marca do veículo", example = "Toyota")
+            @RequestParam(name = "marca", required = false) String brand,
+
+            @Parameter(description = "Ano do veículo", example = "2022")
+            @RequestParam(name = "ano", required = false) Integer year,
+
+            @Parameter(description = "Cor do veículo", example = "Preto")
+            @RequestParam(name = "cor", required = false)
+            @Pattern(
+                    regexp = "^[A-Za-zÀ-ÿ\\s]+$",
+                    message = "O parâmetro 'cor' deve conter apenas letras"
+            )
+            String color,
+
+            @Parameter(description = "Preço mínimo", example = "30000")
+            @RequestParam(name = "minPreco", required = false) BigDecimal minPrice,
+
+            @Parameter(description = "Preço máximo", example = "100000")
+            @RequestParam(name = "maxPreco", required = false) BigDecimal maxPrice,
+
+            @Parameter(description = "Moeda dos preços e dos filtros de preço (BRL, USD, EUR, ARS)", example = "BRL")
+            @RequestParam(name = "moeda", required = false) String currency,
+
+            @Parameter(description = "Formato do arquivo (NDJSON ou CSV)", example = "CSV")
+            @RequestParam(name = "formato", required = false) String format
+    ) {
+        CurrencyCode currencyCode = CurrencyCode.fromParameter(currency);
+        VehicleFileFormat fileFormat = VehicleFileFormat.fromParameter(format);
+
+        StreamingResponseBody body = vehicleExportService.exportVehicles(
+                plate, brand, year, color, minPrice, maxPrice, currencyCode, fileFormat
+        );
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(fileFormat.mediaType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("veiculos." + fileFormat.fileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @Operation(
             summary = "Buscar veículo por ID",
             description = "Retorna os detalhes de um veículo específico",
@@ -119,11 +254,17 @@ public class VehicleManagementController {
                     regexp = "^[0-9a-fA-F\\-]{36}$",
                     message = "ID inválido"
             )
-            String id
+            String id,
+
+            @Parameter(description = "Moeda do preço (BRL, USD, EUR, ARS)", example = "BRL")
+            @RequestParam(name = "moeda", required = false) String currency,
+
+            @Parameter(description = "Converte o preço com a cotação vigente nesta data (ISO-8601)", example = "2024-01-30T15:00:00Z")
+            @RequestParam(name = "asOf", required = false) String asOf
     ) {
 
         AppResponseDTO<VehicleDTO> response =
-                vehicleManagementService.getVehicleById(UUID.fromString(id));
+                vehicleManagementService.getVehicleById(UUID.fromString(id), CurrencyCode.fromParameter(currency), parseAsOf(asOf));
 
         return ResponseEntity.status(response.getStatus()).body(response);
     }
@@ -151,6 +292,31 @@ public class VehicleManagementController {
         return ResponseEntity.status(response.getStatus()).body(response);
     }
 
+    @Operation(
+            summary = "Importar veículos em massa",
+            description = "Importa veículos de um corpo CSV (cabeçalho placa,marca,cor,ano,preco) ou NDJSON (um objeto "
+                    + "de veículo por linha), lido em fluxo e gravado em lotes. Preços em reais, convertidos com uma única "
+                    + "cotação. Linhas inválidas ou com placa existente são rejeitadas e listadas no relatório (somente ADMIN)",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Importação processada; ver o relatório de linhas rejeitadas"),
+                    @ApiResponse(responseCode = "400", description = "Cabeçalho do CSV inválido"),
+                    @ApiResponse(responseCode = "401", description = "Usuário não autenticado"),
+                    @ApiResponse(responseCode = "403", description = "Usuário sem permissão"),
+                    @ApiResponse(responseCode = "415", description = "Content-Type diferente de text/csv ou application/x-ndjson")
+            }
+    )
+    @PostMapping(value = "/importacao", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<AppResponseDTO<VehicleImportReportDTO>> importVehicles(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) {
+
+        AppResponseDTO<VehicleImportReportDTO> response =
+                vehicleImportService.importVehicles(body, VehicleFileFormat.fromContentType(contentType));
+
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
     @Operation(
             summary = "Atualização completa de veículo",
             description = "Atualiza todos os dados de um veículo existente. Acesso restrito a usuários ADMIN."
@@ -265,6 +431,166 @@ public class VehicleManagementController {
         return ResponseEntity.status(response.getStatus()).body(response);
     }
 
+    @Operation(
+            summary = "Relatório multidimensional de veículos",
+            description = "Agrega veículos ativos por qualquer combinação de marca, ano, cor e faixa de preço, com "
+                    + "quantidade, preços mínimo, máximo e médio e, opcionalmente, histograma por faixa de preço",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Relatório criado com sucesso"),
+                    @ApiResponse(responseCode = "400", description = "Parâmetros inválidos"),
+                    @ApiResponse(responseCode = "401", description = "Usuário não autenticado"),
+                    @ApiResponse(responseCode = "403", description = "Usuário sem permissão")
+            }
+    )
+    @GetMapping("/relatorios")
+    public ResponseEntity<AppResponseDTO<VehicleAnalyticsReportDTO>> getVehicleAnalyticsReport(
+            @Parameter(description = "Dimensões de agrupamento separadas por vírgula (marca, ano, cor, faixa_preco)", example = "marca,ano")
+            @RequestParam(name = "dimensoes", required = false) String dimensions,
+
+            @Parameter(description = "Marca do veículo", example = "Toyota")
+            @RequestParam(name = "marca", required = false) String brand,
+
+            @Parameter(description = "Ano do veículo", example = "2022")
+            @RequestParam(name = "ano", required = false) Integer year,
+
+            @Parameter(description = "Cor do veículo", example = "Preto")
+            @RequestParam(name = "cor", required = false) String color,
+
+            @Parameter(description = "Preço mínimo", example = "30000")
+            @RequestParam(name = "minPreco", required = false) BigDecimal minPrice,
+
+            @Parameter(description = "Preço máximo", example = "100000")
+            @RequestParam(name = "maxPreco", required = false) BigDecimal maxPrice,
+
+            @Parameter(description = "Moeda dos preços e dos filtros de preço (BRL, USD, EUR, ARS)", example = "BRL")
+            @RequestParam(name = "moeda", required = false) String currency,
+
+            @Parameter(description = "Inclui o histograma de preços de cada grupo", example = "false")
+            @RequestParam(name = "histograma", defaultValue = "false") boolean histogram
+    ) {
+
+        AppResponseDTO<VehicleAnalyticsReportDTO> response =
+                vehicleAnalyticsService.getReport(
+                        dimensions, brand, year, color, minPrice, maxPrice,
+                        CurrencyCode.fromParameter(currency), histogram
+                );
+
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    @Operation(
+            summary = "Métricas do cache de busca",
+            description = "Retorna acertos, falhas, despejos e invalidações do cache de resultados da listagem (somente ADMIN)"
+    )
+    @GetMapping("/admin/cache-busca")
+    public ResponseEntity<AppResponseDTO<VehicleSearchCacheStatsDTO>> getSearchCacheStats() {
+
+        AppResponseDTO<VehicleSearchCacheStatsDTO> response = vehicleSearchCacheService.getStats();
+
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    @Operation(
+            summary = "Listar veículos arquivados",
+            description = "Lista os veículos removidos, mais recentes primeiro, com filtro opcional por placa (somente ADMIN)"
+    )
+    @GetMapping("/admin/arquivo")
+    public ResponseEntity<AppResponseDTO<Page<ArchivedVehicleDTO>>> getArchivedVehicles(
+            @Parameter(description = "Placa do veículo", example = "ABC1234")
+            @RequestParam(name = "placa", required = false) String plate,
+
+            @Parameter(hidden = true)
+            @PageableDefault(sort = "archivedAt", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+
+        AppResponseDTO<Page<ArchivedVehicleDTO>> response =
+                vehicleArchiveService.getArchivedVehicles(plate, pageable);
+
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    @Operation(
+            summary = "Detalhar veículo arquivado",
+            description = "Retorna um veículo removido pelo id que ele tinha quando ativo (somente ADMIN)"
+    )
+    @GetMapping("/admin/arquivo/{id}")
+    public ResponseEntity<AppResponseDTO<ArchivedVehicleDTO>> getArchivedVehicleById(
+            @Parameter(description = "ID do veículo", example = "550e8400-e29b-41d4-a716-446655440000", required = true, in = ParameterIn.PATH)
+            @PathVariable
+            @NotBlank
+            @Pattern(
+                    regexp = "^[0-9a-fA-F\\-]{36}$",
+                    message = "ID inválido"
+            )
+            String id
+    ) {
+
+        AppResponseDTO<ArchivedVehicleDTO> response =
+                vehicleArchiveService.getArchivedVehicleById(UUID.fromString(id));
+
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    @Operation(
+            summary = "Alterar veículos em lote",
+            description = "Aplica nova cor e/ou reajuste percentual de preço a todos os veículos dos filtros, em um único "
+                    + "comando no banco. Ao menos um filtro e uma alteração são obrigatórios (somente ADMIN)",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Quantidade de veículos atualizados"),
+                    @ApiResponse(responseCode = "400", description = "Sem filtros, sem alteração ou reajuste inválido"),
+                    @ApiResponse(responseCode = "401", description = "Usuário não autenticado"),
+                    @ApiResponse(responseCode = "403", description = "Usuário sem permissão")
+            }
+    )
+    @PatchMapping("/admin/lote")
+    public ResponseEntity<AppResponseDTO<VehicleBulkResultDTO>> updateVehicles(
+            @RequestBody @Valid VehicleBulkUpdateRequestDTO request
+    ) {
+
+        AppResponseDTO<VehicleBulkResultDTO> response = vehicleBulkService.updateVehicles(request);
+
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    @Operation(
+            summary = "Remover veículos em lote",
+            description = "Desativa e arquiva todos os veículos dos filtros, em uma única transação. Ao menos um filtro "
+                    + "é obrigatório (somente ADMIN)",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Quantidade de veículos removidos"),
+                    @ApiResponse(responseCode = "400", description = "Sem filtros"),
+                    @ApiResponse(responseCode = "401", description = "Usuário não autenticado"),
+                    @ApiResponse(responseCode = "403", description = "Usuário sem permissão")
+            }
+    )
+    @PostMapping("/admin/lote/remocao")
+    public ResponseEntity<AppResponseDTO<VehicleBulkResultDTO>> deleteVehicles(
+            @RequestBody VehicleBulkFilterDTO filters
+    ) {
+
+        AppResponseDTO<VehicleBulkResultDTO> response = vehicleBulkService.deleteVehicles(filters);
+
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    // Data sem horário considera o fim do dia no horário de Brasília
+    private Instant parseAsOf(String asOf) {
+        if (asOf == null || asOf.isBlank()) {
+            return null;
+        }
+        try {
+            if (asOf.length() == 10) {
+                return LocalDate.parse(asOf).plusDays(1)
+                        .atStartOfDay(ZoneId.of("America/Sao_Paulo"))
+                        .toInstant()
+                        .minusSeconds(1);
+            }
+            return OffsetDateTime.parse(asOf).toInstant();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Parâmetro 'asOf' inválido. Use uma data (2024-01-30) ou data/hora ISO-8601 (2024-01-30T15:00:00Z).");
+        }
+    }
+
     private Pageable mapPageable(Pageable pageable) {
 
         Sort mappedSort = pageable.getSort().stream()
@@ -0,0 +1,43 @@
+package com.vehicle.management.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Schema(description = "Veículo removido, mantido no arquivo")
+public class ArchivedVehicleDTO {
+    @Schema(description = "Identificador que o veículo tinha quando ativo", example = "d290f1ee-6c54-4b01-90e6-d701748f0851")
+    private UUID id;
+
+    @Schema(description = "Placa do veículo", example = "ABC1234")
+    @JsonProperty("placa")
+    private String plate;
+
+    @Schema(description = "Marca do veículo", example = "Toyota")
+    @JsonProperty("marca")
+    private String brand;
+
+    @Schema(description = "Cor do veículo", example = "Preto")
+    @JsonProperty("cor")
+    private String color;
+
+    @Schema(description = "Ano de fabricação do veículo", example = "2022")
+    @JsonProperty("ano")
+    private Integer vehicleYear;
+
+    @Schema(description = "Preço do veículo em dólares no momento da remoção", example = "15000.00")
+    @JsonProperty("precoUsd")
+    private BigDecimal price;
+
+    @Schema(description = "Data e hora do arquivamento", example = "2024-01-30T15:00:00Z")
+    @JsonProperty("arquivadoEm")
+    private Instant archivedAt;
+}
@@ -0,0 +1,29 @@
+package com.vehicle.management.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Schema(description = "Faixa de preço [início, fim) na moeda da resposta")
+public class PriceBandDTO {
+    @Schema(description = "Início da faixa (inclusivo)", example = "50000.00")
+    @JsonProperty("inicio")
+    private BigDecimal start;
+
+    @Schema(description = "Fim da faixa (exclusivo); ausente na última faixa, que é aberta", example = "100000.00")
+    @JsonProperty("fim")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private BigDecimal end;
+
+    @Schema(description = "Quantidade de veículos na faixa (apenas no histograma)", example = "4")
+    @JsonProperty("quantidade")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long count;
+}
@@ -0,0 +1,53 @@
+package com.vehicle.management.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Agregado de um grupo do relatório; só as dimensões solicitadas aparecem")
+public class VehicleAnalyticsGroupDTO {
+    @Schema(description = "Marca do veículo", example = "Toyota")
+    @JsonProperty("marca")
+    private String brand;
+
+    @Schema(description = "Ano do veículo", example = "2022")
+    @JsonProperty("ano")
+    private Integer vehicleYear;
+
+    @Schema(description = "Cor do veículo", example = "Preto")
+    @JsonProperty("cor")
+    private String color;
+
+    @Schema(description = "Faixa de preço do grupo")
+    @JsonProperty("faixa_preco")
+    private PriceBandDTO priceBand;
+
+    @Schema(description = "Quantidade de veículos", example = "12")
+    @JsonProperty("quantidade")
+    private Long count;
+
+    @Schema(description = "Menor preço", example = "45000.00")
+    @JsonProperty("preco_minimo")
+    private BigDecimal minPrice;
+
+    @Schema(description = "Maior preço", example = "120000.00")
+    @JsonProperty("preco_maximo")
+    private BigDecimal maxPrice;
+
+    @Schema(description = "Preço médio", example = "78500.00")
+    @JsonProperty("preco_medio")
+    private BigDecimal averagePrice;
+
+    @Schema(description = "Quantidade de veículos por faixa de preço (apenas faixas não vazias)")
+    @JsonProperty("histograma")
+    private List<PriceBandDTO> histogram;
+}
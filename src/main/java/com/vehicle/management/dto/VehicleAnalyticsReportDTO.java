@@ -0,0 +1,31 @@
+package com.vehicle.management.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Schema(description = "Relatório multidimensional de veículos ativos")
+public class VehicleAnalyticsReportDTO {
+    @Schema(description = "Dimensões de agrupamento", example = "[\"marca\", \"ano\"]")
+    @JsonProperty("dimensoes")
+    private List<String> dimensions;
+
+    @Schema(description = "Quantidade de veículos que atendem aos filtros", example = "250")
+    @JsonProperty("total_veiculos")
+    private long totalVehicles;
+
+    @Schema(description = "Largura das faixas de preço na moeda da resposta", example = "54321.00")
+    @JsonProperty("largura_faixa")
+    private BigDecimal priceBandWidth;
+
+    @Schema(description = "Grupos agregados")
+    @JsonProperty("grupos")
+    private List<VehicleAnalyticsGroupDTO> groups;
+}
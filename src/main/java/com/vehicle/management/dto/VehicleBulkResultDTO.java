@@ -0,0 +1,16 @@
+package com.vehicle.management.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Schema(description = "Resultado de uma alteração em lote de veículos")
+public class VehicleBulkResultDTO {
+    @Schema(description = "Veículos alterados ou removidos", example = "42")
+    @JsonProperty("afetados")
+    private int affected;
+}
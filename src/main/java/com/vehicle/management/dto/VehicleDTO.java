@@ -40,7 +40,7 @@ public class VehicleDTO {
     @JsonAlias("vehicleYear")
     private Integer vehicleYear;
 
-    @Schema(description = "Preço do veículo em reais", example = "80000.00")
+    @Schema(description = "Preço do veículo na moeda solicitada (padrão: reais)", example = "80000.00")
     @JsonProperty("preco")
     @JsonAlias("price")
     private BigDecimal price;
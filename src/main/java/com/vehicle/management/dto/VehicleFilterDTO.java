@@ -1,6 +1,7 @@
 package com.vehicle.management.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.vehicle.management.model.rate.CurrencyCode;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -37,4 +38,13 @@ public class VehicleFilterDTO {
 
     @JsonProperty("preco_maximo")
     private BigDecimal maxPrice;
+
+    @JsonProperty("moeda")
+    private CurrencyCode currency;
+
+    @JsonProperty("data_cotacao")
+    private String asOf;
+
+    @JsonProperty("cursor")
+    private String cursor;
 }
\ No newline at end of file
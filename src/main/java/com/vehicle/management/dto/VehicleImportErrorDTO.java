@@ -0,0 +1,26 @@
+package com.vehicle.management.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Schema(description = "Linha do arquivo de importação que não foi gravada")
+public class VehicleImportErrorDTO {
+    @Schema(description = "Número da linha no arquivo (o cabeçalho do CSV é a linha 1)", example = "42")
+    @JsonProperty("linha")
+    private long line;
+
+    @Schema(description = "Placa informada na linha, quando legível", example = "ABC1234")
+    @JsonProperty("placa")
+    private String plate;
+
+    @Schema(description = "Motivos da rejeição", example = "[\"Ano é obrigatório\"]")
+    @JsonProperty("erros")
+    private List<String> messages;
+}
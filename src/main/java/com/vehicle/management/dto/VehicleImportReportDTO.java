@@ -0,0 +1,34 @@
+package com.vehicle.management.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Schema(description = "Resultado da importação de veículos em massa")
+public class VehicleImportReportDTO {
+    @Schema(description = "Linhas de veículos lidas (sem cabeçalho e linhas vazias)", example = "1000")
+    @JsonProperty("linhasLidas")
+    private long rows;
+
+    @Schema(description = "Veículos gravados", example = "987")
+    @JsonProperty("importados")
+    private long imported;
+
+    @Schema(description = "Linhas rejeitadas", example = "13")
+    @JsonProperty("rejeitados")
+    private long rejected;
+
+    @Schema(description = "Linhas rejeitadas e seus motivos, limitadas a vehicle.import.max-errors")
+    @JsonProperty("erros")
+    private List<VehicleImportErrorDTO> errors;
+
+    @Schema(description = "Indica que havia mais linhas rejeitadas do que as listadas em 'erros'", example = "false")
+    @JsonProperty("errosTruncados")
+    private boolean errorsTruncated;
+}
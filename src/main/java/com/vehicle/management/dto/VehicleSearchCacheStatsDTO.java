@@ -0,0 +1,44 @@
+package com.vehicle.management.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Schema(description = "Métricas do cache de resultados da listagem de veículos")
+public class VehicleSearchCacheStatsDTO {
+    @Schema(description = "Indica se o cache está habilitado", example = "true")
+    @JsonProperty("habilitado")
+    private boolean enabled;
+
+    @Schema(description = "Quantidade de entradas no cache", example = "842")
+    @JsonProperty("entradas")
+    private int size;
+
+    @Schema(description = "Capacidade máxima de entradas", example = "10000")
+    @JsonProperty("capacidade")
+    private int maxEntries;
+
+    @Schema(description = "Consultas atendidas pelo cache", example = "15230")
+    @JsonProperty("acertos")
+    private long hits;
+
+    @Schema(description = "Consultas que foram ao banco", example = "2311")
+    @JsonProperty("falhas")
+    private long misses;
+
+    @Schema(description = "Proporção de consultas atendidas pelo cache", example = "0.8683")
+    @JsonProperty("taxaAcerto")
+    private double hitRate;
+
+    @Schema(description = "Entradas descartadas por falta de espaço", example = "120")
+    @JsonProperty("despejos")
+    private long evictions;
+
+    @Schema(description = "Entradas descartadas por escritas em veículos", example = "57")
+    @JsonProperty("invalidacoes")
+    private long invalidations;
+}
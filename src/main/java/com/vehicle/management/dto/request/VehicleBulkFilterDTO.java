@@ -0,0 +1,49 @@
+package com.vehicle.management.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.vehicle.management.model.rate.CurrencyCode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Schema(
+        name = "VehicleBulkFilter",
+        description = "Filtros que selecionam os veículos de uma alteração em lote (mesmos da listagem; ao menos um é obrigatório)"
+)
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class VehicleBulkFilterDTO {
+    @Schema(description = "Placa do veículo", example = "ABC1234")
+    @JsonProperty("placa")
+    private String plate;
+
+    @Schema(description = "Marca do veículo", example = "Toyota")
+    @JsonProperty("marca")
+    private String brand;
+
+    @Schema(description = "Ano de fabricação do veículo", example = "2022")
+    @JsonProperty("ano")
+    private Integer vehicleYear;
+
+    @Schema(description = "Cor do veículo", example = "Preto")
+    @JsonProperty("cor")
+    private String color;
+
+    @Schema(description = "Preço mínimo na moeda informada", example = "50000.00")
+    @JsonProperty("preco_minimo")
+    private BigDecimal minPrice;
+
+    @Schema(description = "Preço máximo na moeda informada", example = "90000.00")
+    @JsonProperty("preco_maximo")
+    private BigDecimal maxPrice;
+
+    @Schema(description = "Moeda dos preços mínimo e máximo", example = "BRL", defaultValue = "BRL")
+    @JsonProperty("moeda")
+    private CurrencyCode currency;
+}
@@ -0,0 +1,40 @@
+package com.vehicle.management.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Schema(
+        name = "VehicleBulkUpdateRequest",
+        description = "Alteração aplicada a todos os veículos selecionados pelos filtros. Ao menos uma alteração é obrigatória."
+)
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class VehicleBulkUpdateRequestDTO {
+    @Schema(description = "Veículos que serão alterados", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "Filtros são obrigatórios")
+    @Valid
+    @JsonProperty("filtros")
+    private VehicleBulkFilterDTO filters;
+
+    @Schema(description = "Nova cor dos veículos", example = "Prata")
+    @JsonProperty("cor")
+    private String color;
+
+    @Schema(description = "Reajuste percentual do preço; negativo para desconto", example = "-5.5")
+    @DecimalMin(value = "-100", inclusive = false, message = "Reajuste deve ser maior que -100%")
+    @DecimalMax(value = "1000", message = "Reajuste deve ser no máximo 1000%")
+    @JsonProperty("ajuste_preco_percentual")
+    private BigDecimal priceAdjustmentPercent;
+}
@@ -1,8 +1,11 @@
 package com.vehicle.management.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.vehicle.management.model.rate.CurrencyCode;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
+import java.math.BigDecimal;
 import java.util.Map;
 
 @AllArgsConstructor
@@ -27,6 +30,14 @@ public class AppResponseDTO<T> {
     @Schema(description = "Conteúdo principal da resposta")
     private T content;
 
+    @Schema(description = "Moeda dos preços retornados", example = "BRL")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private CurrencyCode currency;
+
+    @Schema(description = "Cotação USD → moeda utilizada em todas as conversões da requisição", example = "5.4321")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private BigDecimal exchangeRate;
+
     public static <T> AppResponseDTO<T> getSuccessResponse(String message) {
         return AppResponseDTO.<T>builder()
                 .message(message)
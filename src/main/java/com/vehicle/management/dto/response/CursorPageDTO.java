@@ -0,0 +1,33 @@
+package com.vehicle.management.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Schema(description = "Página obtida por cursor (keyset), sem contagem total")
+public class CursorPageDTO<T> {
+
+    @Schema(description = "Itens da página")
+    @JsonProperty("conteudo")
+    private List<T> content;
+
+    @Schema(description = "Quantidade de itens retornados", example = "20")
+    @JsonProperty("tamanho")
+    private int size;
+
+    @Schema(description = "Indica se há uma próxima página", example = "true")
+    @JsonProperty("possui_proxima")
+    private boolean hasNext;
+
+    @Schema(description = "Cursor a ser enviado para obter a próxima página", example = "cHJpY2V8QVNDfDE1MDAwLjAwfDU1MGU4NDAw")
+    @JsonProperty("proximo_cursor")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+}
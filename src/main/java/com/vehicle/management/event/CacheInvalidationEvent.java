@@ -0,0 +1,12 @@
+package com.vehicle.management.event;
+
+// key nula invalida a região inteira; remote indica que a invalidação veio de outro nó pelo pub/sub
+public record CacheInvalidationEvent(CacheRegion region, String key, boolean remote) {
+    public CacheInvalidationEvent(CacheRegion region, String key) {
+        this(region, key, false);
+    }
+
+    public boolean isWholeRegion() {
+        return key == null;
+    }
+}
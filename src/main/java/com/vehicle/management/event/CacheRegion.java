@@ -0,0 +1,6 @@
+package com.vehicle.management.event;
+
+public enum CacheRegion {
+    RATE,
+    VEHICLE
+}
@@ -0,0 +1,6 @@
+package com.vehicle.management.event;
+
+import java.math.BigDecimal;
+
+public record ExchangeRateChangedEvent(BigDecimal usdToBrlRate) {
+}
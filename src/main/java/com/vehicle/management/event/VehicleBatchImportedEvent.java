@@ -0,0 +1,10 @@
+package com.vehicle.management.event;
+
+import com.vehicle.management.model.projection.VehicleRow;
+
+import java.util.List;
+
+// Veículos criados por um lote da importação: os agregados locais somam cada um, como em um VehicleChangedEvent
+// de criação, e o cache de buscas é descartado uma única vez pela invalidação do lote. Só circula dentro do nó.
+public record VehicleBatchImportedEvent(List<VehicleRow> rows) {
+}
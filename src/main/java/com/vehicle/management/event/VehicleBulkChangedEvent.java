@@ -0,0 +1,7 @@
+package com.vehicle.management.event;
+
+// Alteração em lote por filtro: sem o antes e depois de cada veículo, os agregados locais são marcados para
+// recarga, feita pelos agendadores de cada um fora da requisição.
+// Como o VehicleChangedEvent, só circula dentro do nó.
+public record VehicleBulkChangedEvent(int affected) {
+}
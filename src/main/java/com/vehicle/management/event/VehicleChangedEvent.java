@@ -0,0 +1,8 @@
+package com.vehicle.management.event;
+
+import com.vehicle.management.model.projection.VehicleRow;
+
+// Escrita local em um veículo ativo: before é nulo na criação e after é nulo na desativação.
+// Só circula dentro do nó; os outros nós recebem apenas o CacheInvalidationEvent.
+public record VehicleChangedEvent(VehicleRow before, VehicleRow after) {
+}
@@ -35,28 +35,11 @@ public class UserDataAndVehicleLoader implements CommandLineRunner {
     private void loadUsers() {
         if (userRepository.count() == 0) {
 
-            userRepository.save(new User(
-                    "adminUser",
-                    passwordEncoder.encode("adminUser123"),
-                    Set.of(Role.ROLE_ADMIN, Role.ROLE_USER)
-            ));
-
-            userRepository.save(new User(
-                    "onlyAdmin",
-                    passwordEncoder.encode("admin123"),
-                    Set.of(Role.ROLE_ADMIN)
-            ));
-
-            userRepository.save(new User(
-                    "onlyUser",
-                    passwordEncoder.encode("user123"),
-                    Set.of(Role.ROLE_USER)
-            ));
-
-            userRepository.save(new User(
-                    "noRole",
-                    passwordEncoder.encode("nopass"),
-                    Set.of()
+            userRepository.saveAll(List.of(
+                    new User("adminUser", passwordEncoder.encode("adminUser123"), Set.of(Role.ROLE_ADMIN, Role.ROLE_USER)),
+                    new User("onlyAdmin", passwordEncoder.encode("admin123"), Set.of(Role.ROLE_ADMIN)),
+                    new User("onlyUser", passwordEncoder.encode("user123"), Set.of(Role.ROLE_USER)),
+                    new User("noRole", passwordEncoder.encode("nopass"), Set.of())
             ));
         }
     }
@@ -94,6 +77,6 @@ public class UserDataAndVehicleLoader implements CommandLineRunner {
                 new Vehicle("GGG7002", "Audi", "Preto", 2022, new BigDecimal("185000.00"))
         );
 
-        vehicleRepository.saveAll(vehicles);
+        vehicleRepository.insertAll(vehicles);
     }
 }
\ No newline at end of file
@@ -1,10 +1,17 @@
 package com.vehicle.management.mapper;
 
+import com.vehicle.management.dto.ArchivedVehicleDTO;
 import com.vehicle.management.dto.VehicleDTO;
 import com.vehicle.management.dto.request.VehicleRequestDTO;
+import com.vehicle.management.model.entity.ArchivedVehicle;
 import com.vehicle.management.model.entity.Vehicle;
+import com.vehicle.management.model.projection.VehicleRow;
+import com.vehicle.management.model.rate.CurrencyCode;
+import com.vehicle.management.model.rate.RateSnapshot;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 
 @NoArgsConstructor
@@ -39,4 +46,82 @@ public class VehicleMapper {
                 .map(VehicleMapper::toDTO)
                 .toList();
     }
-}
\ No newline at end of file
+
+    public static VehicleDTO toDTO(Vehicle entity, RateSnapshot rateSnapshot) {
+        return toDTO(entity, rateSnapshot, CurrencyCode.BRL);
+    }
+
+    public static VehicleDTO toDTO(Vehicle entity, RateSnapshot rateSnapshot, CurrencyCode currency) {
+        VehicleDTO dto = toDTO(entity);
+        if (dto == null || dto.getPrice() == null) {
+            return dto;
+        }
+
+        if (currency == CurrencyCode.BRL && isMaterializedFor(entity, rateSnapshot)) {
+            dto.setPrice(entity.getPriceBrl());
+        } else {
+            dto.setPrice(rateSnapshot.fromUsd(dto.getPrice(), currency));
+        }
+        return dto;
+    }
+
+    public static List<VehicleDTO> toDTOList(List<Vehicle> entities, RateSnapshot rateSnapshot) {
+        return toDTOList(entities, rateSnapshot, CurrencyCode.BRL);
+    }
+
+    public static List<VehicleDTO> toDTOList(List<Vehicle> entities, RateSnapshot rateSnapshot, CurrencyCode currency) {
+        return entities.stream()
+                .map(entity -> toDTO(entity, rateSnapshot, currency))
+                .toList();
+    }
+
+    // Conversão feita no mesmo passo que monta o DTO, direto da projeção
+    // vehicles só guarda veículos ativos: os removidos vão para vehicles_archive
+    public static VehicleDTO fromRow(VehicleRow row, RateSnapshot rateSnapshot, CurrencyCode currency) {
+        BigDecimal price = row.price();
+        if (price != null) {
+            price = currency == CurrencyCode.BRL && isMaterializedFor(row.priceBrl(), row.priceBrlRate(), rateSnapshot)
+                    ? row.priceBrl()
+                    : rateSnapshot.fromUsd(price, currency);
+        }
+        return VehicleDTO.builder()
+                .id(row.id())
+                .plate(row.plate())
+                .brand(row.brand())
+                .color(row.color())
+                .vehicleYear(row.vehicleYear())
+                .price(price)
+                .active(true)
+                .build();
+    }
+
+    public static List<VehicleDTO> fromRows(List<VehicleRow> rows, RateSnapshot rateSnapshot, CurrencyCode currency) {
+        List<VehicleDTO> dtos = new ArrayList<>(rows.size());
+        for (VehicleRow row : rows) {
+            dtos.add(fromRow(row, rateSnapshot, currency));
+        }
+        return dtos;
+    }
+
+    public static ArchivedVehicleDTO toArchivedDTO(ArchivedVehicle entity) {
+        return ArchivedVehicleDTO.builder()
+                .id(entity.getId())
+                .plate(entity.getPlate())
+                .brand(entity.getBrand())
+                .color(entity.getColor())
+                .vehicleYear(entity.getVehicleYear())
+                .price(entity.getPrice())
+                .archivedAt(entity.getArchivedAt())
+                .build();
+    }
+
+    private static boolean isMaterializedFor(Vehicle entity, RateSnapshot rateSnapshot) {
+        return isMaterializedFor(entity.getPriceBrl(), entity.getPriceBrlRate(), rateSnapshot);
+    }
+
+    private static boolean isMaterializedFor(BigDecimal priceBrl, BigDecimal priceBrlRate, RateSnapshot rateSnapshot) {
+        return priceBrl != null
+                && priceBrlRate != null
+                && priceBrlRate.compareTo(rateSnapshot.rate()) == 0;
+    }
+}
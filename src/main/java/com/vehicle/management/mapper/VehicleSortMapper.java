@@ -14,4 +14,12 @@ public final class VehicleSortMapper {
             "preco", "price",
             "ativo", "active"
     );
-}
\ No newline at end of file
+
+    // Ordenações aceitas no modo cursor, cada uma alinhada a um índice terminado em id
+    public static final Map<String, String> KEYSET_FIELDS = Map.of(
+            "id", "id",
+            "plate", "plateNormalized",
+            "vehicleYear", "vehicleYear",
+            "price", "price"
+    );
+}
@@ -0,0 +1,62 @@
+package com.vehicle.management.model.analytics;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+// Agregado de um grupo; códigos das dimensões fora do agrupamento ficam em VehicleCube.NONE
+@Getter
+public final class CubeCell {
+    private final int brand;
+    private final int vehicleYear;
+    private final int color;
+    private final int priceBand;
+
+    private long count;
+    private long minPrice = Long.MAX_VALUE;
+    private long maxPrice = Long.MIN_VALUE;
+    private long priceSum;
+    private long[] histogram;
+
+    CubeCell(int brand, int vehicleYear, int color, int priceBand, boolean histogram) {
+        this.brand = brand;
+        this.vehicleYear = vehicleYear;
+        this.color = color;
+        this.priceBand = priceBand;
+        this.histogram = histogram ? new long[8] : null;
+    }
+
+    void add(long price, int band) {
+        count++;
+        minPrice = Math.min(minPrice, price);
+        maxPrice = Math.max(maxPrice, price);
+        priceSum += price;
+        if (histogram != null) {
+            ensureBands(band + 1);
+            histogram[band]++;
+        }
+    }
+
+    void merge(CubeCell other) {
+        count += other.count;
+        minPrice = Math.min(minPrice, other.minPrice);
+        maxPrice = Math.max(maxPrice, other.maxPrice);
+        priceSum += other.priceSum;
+        if (histogram != null) {
+            ensureBands(other.histogram.length);
+            for (int band = 0; band < other.histogram.length; band++) {
+                histogram[band] += other.histogram[band];
+            }
+        }
+    }
+
+    public long[] getHistogram() {
+        return histogram != null ? histogram.clone() : null;
+    }
+
+    private void ensureBands(int bands) {
+        if (histogram.length < bands) {
+            histogram = Arrays.copyOf(histogram, Math.max(bands, histogram.length * 2));
+        }
+    }
+}
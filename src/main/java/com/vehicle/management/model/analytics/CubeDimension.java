@@ -0,0 +1,43 @@
+package com.vehicle.management.model.analytics;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public enum CubeDimension {
+    BRAND("marca"),
+    YEAR("ano"),
+    COLOR("cor"),
+    PRICE_BAND("faixa_preco");
+
+    private final String parameter;
+
+    CubeDimension(String parameter) {
+        this.parameter = parameter;
+    }
+
+    public String parameter() {
+        return parameter;
+    }
+
+    // Lista separada por vírgula; vazia agrega tudo em um único grupo
+    public static Set<CubeDimension> fromParameter(String value) {
+        Set<CubeDimension> dimensions = EnumSet.noneOf(CubeDimension.class);
+        if (value == null || value.isBlank()) {
+            return dimensions;
+        }
+        for (String name : value.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            dimensions.add(Arrays.stream(values())
+                    .filter(dimension -> dimension.parameter.equalsIgnoreCase(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Dimensão inválida. Valores permitidos: "
+                            + Arrays.stream(values()).map(CubeDimension::parameter).collect(Collectors.joining(", ")))));
+        }
+        return dimensions;
+    }
+}
@@ -0,0 +1,19 @@
+package com.vehicle.management.model.analytics;
+
+import java.util.Set;
+
+// Filtros já normalizados e preços em unidades de USD (FixedPointPrice.USD_SCALE)
+public record CubeQuery(
+        Set<CubeDimension> dimensions,
+        String brand,
+        Integer vehicleYear,
+        String color,
+        Long minPrice,
+        Long maxPrice,
+        long priceBandWidth,
+        boolean histogram
+) {
+    public boolean groupsBy(CubeDimension dimension) {
+        return dimensions.contains(dimension);
+    }
+}
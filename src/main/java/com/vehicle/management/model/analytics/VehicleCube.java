@@ -0,0 +1,178 @@
+package com.vehicle.management.model.analytics;
+
+import com.vehicle.management.model.column.ColumnDictionary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Veículos ativos em colunas primitivas (marca e cor codificadas por dicionário, preço em unidades de USD).
+// Não é thread-safe: quem usa serializa as escritas e só agrega sem escrita concorrente.
+public final class VehicleCube {
+    public static final int NONE = ColumnDictionary.NONE;
+    public static final int MAX_PRICE_BANDS = 4_095;
+
+    private static final int LEAF_SIZE = 8_192;
+
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private final ColumnDictionary brands = new ColumnDictionary();
+    private final ColumnDictionary colors = new ColumnDictionary();
+
+    private int[] brandCodes = new int[1_024];
+    private int[] colorCodes = new int[1_024];
+    private int[] years = new int[1_024];
+    private long[] prices = new long[1_024];
+    private int[] freeSlots = new int[64];
+    private int freeCount;
+    private int highWater;
+
+    public void upsert(UUID id, String brand, String color, int vehicleYear, long price) {
+        Integer slot = slots.get(id);
+        if (slot == null) {
+            slot = allocateSlot();
+            slots.put(id, slot);
+        }
+        brandCodes[slot] = brands.encode(brand);
+        colorCodes[slot] = colors.encode(color);
+        years[slot] = vehicleYear;
+        prices[slot] = price;
+    }
+
+    public boolean remove(UUID id) {
+        Integer slot = slots.remove(id);
+        if (slot == null) {
+            return false;
+        }
+        brandCodes[slot] = NONE;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        return true;
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    public String brandLabel(int code) {
+        return brands.label(code);
+    }
+
+    public String colorLabel(int code) {
+        return colors.label(code);
+    }
+
+    // Grupos ordenados por marca, ano, cor e faixa de preço
+    public List<CubeCell> aggregate(CubeQuery query, ForkJoinPool pool) {
+        int brand = query.brand() != null ? brands.codeOf(query.brand()) : NONE;
+        int color = query.color() != null ? colors.codeOf(query.color()) : NONE;
+        if ((query.brand() != null && brand == NONE) || (query.color() != null && color == NONE)) {
+            return List.of();
+        }
+
+        Map<Long, CubeCell> cells = pool.invoke(new AggregateTask(query, brand, color, 0, highWater));
+        List<CubeCell> result = new ArrayList<>(cells.values());
+        result.sort(Comparator
+                .comparing((CubeCell cell) -> cell.getBrand() != NONE ? brands.label(cell.getBrand()) : "")
+                .thenComparingInt(CubeCell::getVehicleYear)
+                .thenComparing(cell -> cell.getColor() != NONE ? colors.label(cell.getColor()) : "")
+                .thenComparingInt(CubeCell::getPriceBand));
+        return result;
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (highWater == brandCodes.length) {
+            int capacity = highWater * 2;
+            brandCodes = Arrays.copyOf(brandCodes, capacity);
+            colorCodes = Arrays.copyOf(colorCodes, capacity);
+            years = Arrays.copyOf(years, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+        }
+        return highWater++;
+    }
+
+    // Divide as posições ao meio até LEAF_SIZE; cada folha agrega localmente e os mapas são mesclados na volta
+    private final class AggregateTask extends RecursiveTask<Map<Long, CubeCell>> {
+        private final CubeQuery query;
+        private final int brand;
+        private final int color;
+        private final int from;
+        private final int to;
+
+        private AggregateTask(CubeQuery query, int brand, int color, int from, int to) {
+            this.query = query;
+            this.brand = brand;
+            this.color = color;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<Long, CubeCell> compute() {
+            if (to - from <= LEAF_SIZE) {
+                return scan();
+            }
+            int middle = (from + to) >>> 1;
+            AggregateTask left = new AggregateTask(query, brand, color, from, middle);
+            left.fork();
+            Map<Long, CubeCell> cells = new AggregateTask(query, brand, color, middle, to).compute();
+            left.join().forEach((key, cell) -> cells.merge(key, cell, (current, other) -> {
+                current.merge(other);
+                return current;
+            }));
+            return cells;
+        }
+
+        private Map<Long, CubeCell> scan() {
+            boolean byBrand = query.groupsBy(CubeDimension.BRAND);
+            boolean byYear = query.groupsBy(CubeDimension.YEAR);
+            boolean byColor = query.groupsBy(CubeDimension.COLOR);
+            boolean byBand = query.groupsBy(CubeDimension.PRICE_BAND);
+            long minPrice = query.minPrice() != null ? query.minPrice() : Long.MIN_VALUE;
+            long maxPrice = query.maxPrice() != null ? query.maxPrice() : Long.MAX_VALUE;
+            Integer vehicleYear = query.vehicleYear();
+
+            Map<Long, CubeCell> cells = new HashMap<>();
+            for (int slot = from; slot < to; slot++) {
+                int slotBrand = brandCodes[slot];
+                if (slotBrand == NONE
+                        || (brand != NONE && slotBrand != brand)
+                        || (color != NONE && colorCodes[slot] != color)
+                        || (vehicleYear != null && years[slot] != vehicleYear)
+                        || prices[slot] < minPrice
+                        || prices[slot] > maxPrice) {
+                    continue;
+                }
+
+                long price = prices[slot];
+                int band = (int) Math.min(Math.max(price, 0) / query.priceBandWidth(), MAX_PRICE_BANDS - 1);
+                int cellBrand = byBrand ? slotBrand : NONE;
+                int cellYear = byYear ? years[slot] : NONE;
+                int cellColor = byColor ? colorCodes[slot] : NONE;
+                int cellBand = byBand ? band : NONE;
+                cells.computeIfAbsent(key(cellBrand, cellYear, cellColor, cellBand),
+                        ignored -> new CubeCell(cellBrand, cellYear, cellColor, cellBand, query.histogram())
+                ).add(price, band);
+            }
+            return cells;
+        }
+    }
+
+    // 20 bits por dicionário, 12 bits para ano e faixa (NONE vira 0, códigos reais são deslocados em 1)
+    private static long key(int brand, int vehicleYear, int color, int band) {
+        return ((long) (brand + 1) << 44)
+                | ((long) (color + 1) << 24)
+                | ((long) ((vehicleYear + 1) & 0xFFF) << 12)
+                | ((band + 1) & 0xFFF);
+    }
+}
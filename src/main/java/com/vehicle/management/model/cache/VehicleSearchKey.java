@@ -0,0 +1,58 @@
+package com.vehicle.management.model.cache;
+
+import com.vehicle.management.model.entity.Vehicle;
+import com.vehicle.management.model.projection.VehicleRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+// Filtros normalizados da listagem (preços já em USD) mais a página pedida
+public record VehicleSearchKey(
+        String plate,
+        String brand,
+        Integer vehicleYear,
+        String color,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        int page,
+        int size,
+        Sort sort
+) {
+    public static VehicleSearchKey of(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Pageable pageable
+    ) {
+        return new VehicleSearchKey(
+                Vehicle.normalize(plate),
+                Vehicle.normalize(brand),
+                vehicleYear,
+                Vehicle.normalize(color),
+                minPrice != null ? minPrice.stripTrailingZeros() : null,
+                maxPrice != null ? maxPrice.stripTrailingZeros() : null,
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                pageable.getSort()
+        );
+    }
+
+    // Mesmos critérios do WHERE da listagem: se o veículo não atende aos filtros, nenhuma página deste filtro muda
+    public boolean matches(VehicleRow row) {
+        return (plate == null || plate.equals(Vehicle.normalize(row.plate())))
+                && (brand == null || brand.equals(Vehicle.normalize(row.brand())))
+                && (vehicleYear == null || vehicleYear.equals(row.vehicleYear()))
+                && (color == null || color.equals(Vehicle.normalize(row.color())))
+                && (minPrice == null || row.price().compareTo(minPrice) >= 0)
+                && (maxPrice == null || row.price().compareTo(maxPrice) <= 0);
+    }
+
+    public boolean matchesAny(VehicleRow before, VehicleRow after) {
+        return (Objects.nonNull(before) && matches(before)) || (Objects.nonNull(after) && matches(after));
+    }
+}
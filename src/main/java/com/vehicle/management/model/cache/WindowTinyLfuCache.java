@@ -0,0 +1,173 @@
+package com.vehicle.management.model.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+// Cache limitado com a política W-TinyLFU: toda chave nova entra numa janela LRU (1% da capacidade); ao sair dela
+// só é admitida na área principal (SLRU: probation + protected) se for mais frequente que a vítima da probation,
+// segundo o FrequencySketch. Protege os itens populares de rajadas de chaves vistas uma única vez.
+public final class WindowTinyLfuCache<K, V> {
+
+    private final int windowCapacity;
+    private final int protectedCapacity;
+    private final int mainCapacity;
+    private final Duration ttl;
+    private final FrequencySketch sketch;
+
+    // Ordem de acesso: o primeiro de cada mapa é o menos recente
+    private final LinkedHashMap<K, CacheEntry<V>> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, CacheEntry<V>> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, CacheEntry<V>> protectedRegion = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    public WindowTinyLfuCache(int maximumSize, Duration ttl) {
+        int capacity = Math.max(2, maximumSize);
+        this.windowCapacity = Math.max(1, capacity / 100);
+        this.mainCapacity = capacity - windowCapacity;
+        this.protectedCapacity = (int) (mainCapacity * 0.8);
+        this.ttl = ttl;
+        this.sketch = new FrequencySketch(capacity);
+    }
+
+    public synchronized V get(K key, Instant now) {
+        sketch.increment(key);
+        CacheEntry<V> entry = window.get(key);
+        if (entry == null) {
+            entry = protectedRegion.get(key);
+        }
+        if (entry == null) {
+            entry = probation.get(key);
+            if (entry != null && !entry.isExpired(now)) {
+                promote(key, entry);
+            }
+        }
+
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (entry.isExpired(now)) {
+            removeFromRegions(key);
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value, Instant now) {
+        CacheEntry<V> entry = new CacheEntry<>(value, now.plus(ttl));
+        if (window.containsKey(key)) {
+            window.put(key, entry);
+            return;
+        }
+        if (protectedRegion.containsKey(key)) {
+            protectedRegion.put(key, entry);
+            return;
+        }
+        if (probation.containsKey(key)) {
+            probation.put(key, entry);
+            return;
+        }
+
+        window.put(key, entry);
+        if (window.size() > windowCapacity) {
+            Map.Entry<K, CacheEntry<V>> candidate = pollFirst(window);
+            admit(candidate.getKey(), candidate.getValue());
+        }
+    }
+
+    public synchronized int invalidateIf(BiPredicate<K, V> predicate) {
+        int removed = 0;
+        for (LinkedHashMap<K, CacheEntry<V>> region : regions()) {
+            Iterator<Map.Entry<K, CacheEntry<V>>> iterator = region.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<K, CacheEntry<V>> entry = iterator.next();
+                if (predicate.test(entry.getKey(), entry.getValue().value())) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+        }
+        invalidations += removed;
+        return removed;
+    }
+
+    public synchronized int invalidateAll() {
+        int removed = size();
+        regions().forEach(Map::clear);
+        invalidations += removed;
+        return removed;
+    }
+
+    public synchronized int size() {
+        return window.size() + probation.size() + protectedRegion.size();
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits, misses, evictions, invalidations, size());
+    }
+
+    // A candidata que saiu da janela disputa a vaga com a menos recente da probation
+    private void admit(K candidateKey, CacheEntry<V> candidate) {
+        if (probation.size() + protectedRegion.size() < mainCapacity) {
+            probation.put(candidateKey, candidate);
+            return;
+        }
+        if (probation.isEmpty()) {
+            evictions++;
+            return;
+        }
+        K victimKey = probation.keySet().iterator().next();
+        if (sketch.frequency(candidateKey) > sketch.frequency(victimKey)) {
+            probation.remove(victimKey);
+            probation.put(candidateKey, candidate);
+        }
+        evictions++;
+    }
+
+    private void promote(K key, CacheEntry<V> entry) {
+        probation.remove(key);
+        protectedRegion.put(key, entry);
+        if (protectedRegion.size() > protectedCapacity) {
+            Map.Entry<K, CacheEntry<V>> demoted = pollFirst(protectedRegion);
+            probation.put(demoted.getKey(), demoted.getValue());
+        }
+    }
+
+    private void removeFromRegions(K key) {
+        if (window.remove(key) == null && probation.remove(key) == null) {
+            protectedRegion.remove(key);
+        }
+    }
+
+    private List<LinkedHashMap<K, CacheEntry<V>>> regions() {
+        return List.of(window, probation, protectedRegion);
+    }
+
+    private static <K, V> Map.Entry<K, V> pollFirst(LinkedHashMap<K, V> map) {
+        Iterator<Map.Entry<K, V>> iterator = map.entrySet().iterator();
+        Map.Entry<K, V> first = iterator.next();
+        Map.Entry<K, V> polled = Map.entry(first.getKey(), first.getValue());
+        iterator.remove();
+        return polled;
+    }
+
+    private record CacheEntry<V>(V value, Instant expiresAt) {
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+
+    public record CacheStats(long hits, long misses, long evictions, long invalidations, int size) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.vehicle.management.model.column;
+
+import com.vehicle.management.model.entity.Vehicle;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Codifica textos em ids sequenciais pela forma normalizada, exibindo a primeira grafia recebida.
+// Os códigos nunca são reaproveitados: o dicionário só é descartado junto com a estrutura que o usa.
+public final class ColumnDictionary {
+    public static final int NONE = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> labels = new ArrayList<>();
+
+    public int encode(String label) {
+        return codes.computeIfAbsent(Vehicle.normalize(label), key -> {
+            labels.add(label);
+            return labels.size() - 1;
+        });
+    }
+
+    public int codeOf(String label) {
+        return codes.getOrDefault(Vehicle.normalize(label), NONE);
+    }
+
+    public String label(int code) {
+        return labels.get(code);
+    }
+
+    public int size() {
+        return labels.size();
+    }
+}
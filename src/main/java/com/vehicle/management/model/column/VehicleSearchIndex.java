@@ -0,0 +1,236 @@
+package com.vehicle.management.model.column;
+
+import com.vehicle.management.model.entity.Vehicle;
+import com.vehicle.management.model.price.FixedPointPrice;
+import com.vehicle.management.model.projection.VehicleRow;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+// Veículos ativos em colunas primitivas com um bitmap por marca, cor e ano: os filtros de igualdade viram
+// interseções de bitmaps e a faixa de preço é verificada só nas posições que sobraram.
+// Não é thread-safe: quem usa serializa as escritas e só consulta sem escrita concorrente.
+public final class VehicleSearchIndex {
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private final Map<String, Integer> plates = new HashMap<>();
+    private final ColumnDictionary brands = new ColumnDictionary();
+    private final ColumnDictionary colors = new ColumnDictionary();
+    private final List<BitSet> brandBitmaps = new ArrayList<>();
+    private final List<BitSet> colorBitmaps = new ArrayList<>();
+    private final Map<Integer, BitSet> yearBitmaps = new HashMap<>();
+    private final BitSet live = new BitSet();
+
+    private VehicleRow[] rows = new VehicleRow[1_024];
+    private int[] brandCodes = new int[1_024];
+    private int[] colorCodes = new int[1_024];
+    private int[] years = new int[1_024];
+    private long[] prices = new long[1_024];
+    private int[] freeSlots = new int[64];
+    private int freeCount;
+    private int highWater;
+
+    public void upsert(VehicleRow row) {
+        Integer slot = slots.get(row.id());
+        if (slot != null) {
+            clear(slot);
+        } else {
+            slot = allocateSlot();
+            slots.put(row.id(), slot);
+        }
+
+        int brand = brands.encode(row.brand());
+        int color = colors.encode(row.color());
+        rows[slot] = row;
+        brandCodes[slot] = brand;
+        colorCodes[slot] = color;
+        years[slot] = row.vehicleYear();
+        prices[slot] = toUnits(row);
+
+        plates.put(Vehicle.normalize(row.plate()), slot);
+        bitmap(brandBitmaps, brand).set(slot);
+        bitmap(colorBitmaps, color).set(slot);
+        yearBitmaps.computeIfAbsent(row.vehicleYear(), key -> new BitSet()).set(slot);
+        live.set(slot);
+    }
+
+    public boolean remove(UUID id) {
+        Integer slot = slots.remove(id);
+        if (slot == null) {
+            return false;
+        }
+        clear(slot);
+        rows[slot] = null;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        return true;
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    // Mesma semântica de VehicleFilterRepository.findSliceByFilters; preços em unidades de USD (FixedPointPrice.USD_SCALE)
+    public SearchResult search(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            Long minPrice,
+            Long maxPrice,
+            Sort sort,
+            long offset,
+            int limit
+    ) {
+        Comparator<Integer> order = comparator(sort);
+        BitSet candidates = candidates(plate, brand, vehicleYear, color);
+        if (candidates.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        long min = minPrice != null ? minPrice : Long.MIN_VALUE;
+        long max = maxPrice != null ? maxPrice : Long.MAX_VALUE;
+        int keep = (int) Math.min(offset + limit, Integer.MAX_VALUE);
+
+        // Só as offset + limit primeiras posições na ordenação pedida ficam no heap (o topo é a "pior" delas)
+        PriorityQueue<Integer> top = new PriorityQueue<>(Math.max(1, Math.min(keep, 1_024)), order.reversed());
+        long total = 0;
+        for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+            if (prices[slot] < min || prices[slot] > max) {
+                continue;
+            }
+            total++;
+            if (top.size() < keep) {
+                top.add(slot);
+            } else if (keep > 0 && order.compare(slot, top.peek()) < 0) {
+                top.poll();
+                top.add(slot);
+            }
+        }
+
+        Integer[] ordered = top.toArray(new Integer[0]);
+        Arrays.sort(ordered, order);
+        List<VehicleRow> page = new ArrayList<>(limit);
+        for (int i = (int) Math.min(offset, ordered.length); i < ordered.length; i++) {
+            page.add(rows[ordered[i]]);
+        }
+        return new SearchResult(page, total);
+    }
+
+    private BitSet candidates(String plate, String brand, Integer vehicleYear, String color) {
+        List<BitSet> filters = new ArrayList<>(4);
+        if (plate != null) {
+            Integer slot = plates.get(Vehicle.normalize(plate));
+            BitSet single = new BitSet();
+            if (slot != null) {
+                single.set(slot);
+            }
+            filters.add(single);
+        }
+        if (brand != null) {
+            filters.add(existing(brandBitmaps, brands.codeOf(brand)));
+        }
+        if (vehicleYear != null) {
+            filters.add(yearBitmaps.getOrDefault(vehicleYear, new BitSet()));
+        }
+        if (color != null) {
+            filters.add(existing(colorBitmaps, colors.codeOf(color)));
+        }
+        if (filters.isEmpty()) {
+            return live;
+        }
+
+        // Começa pelo bitmap mais seletivo; a cópia só é feita quando há interseção a calcular
+        filters.sort(Comparator.comparingInt(BitSet::cardinality));
+        if (filters.size() == 1) {
+            return filters.get(0);
+        }
+        BitSet result = (BitSet) filters.get(0).clone();
+        for (int i = 1; i < filters.size() && !result.isEmpty(); i++) {
+            result.and(filters.get(i));
+        }
+        return result;
+    }
+
+    private Comparator<Integer> comparator(Sort sort) {
+        Comparator<Integer> order = null;
+        for (Sort.Order sortOrder : sort) {
+            Comparator<Integer> next = switch (sortOrder.getProperty()) {
+                case "id" -> (a, b) -> compareIds(rows[a].id(), rows[b].id());
+                case "plate" -> Comparator.comparing(slot -> rows[slot].plate());
+                case "brand" -> Comparator.comparing(slot -> rows[slot].brand());
+                case "color" -> Comparator.comparing(slot -> rows[slot].color());
+                case "vehicleYear" -> Comparator.comparingInt(slot -> years[slot]);
+                case "price" -> Comparator.comparingLong(slot -> prices[slot]);
+                // Só há veículos ativos no índice
+                case "active" -> (a, b) -> 0;
+                default -> throw new IllegalArgumentException(
+                        String.format("Ordenação por (%s) não suportada.", sortOrder.getProperty()));
+            };
+            if (sortOrder.isDescending()) {
+                next = next.reversed();
+            }
+            order = order == null ? next : order.thenComparing(next);
+        }
+        // Desempate pelo id para a paginação ser estável
+        Comparator<Integer> byId = (a, b) -> compareIds(rows[a].id(), rows[b].id());
+        return order == null ? byId : order.thenComparing(byId);
+    }
+
+    private void clear(int slot) {
+        VehicleRow previous = rows[slot];
+        plates.remove(Vehicle.normalize(previous.plate()), slot);
+        brandBitmaps.get(brandCodes[slot]).clear(slot);
+        colorBitmaps.get(colorCodes[slot]).clear(slot);
+        yearBitmaps.get(years[slot]).clear(slot);
+        live.clear(slot);
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (highWater == rows.length) {
+            int capacity = highWater * 2;
+            rows = Arrays.copyOf(rows, capacity);
+            brandCodes = Arrays.copyOf(brandCodes, capacity);
+            colorCodes = Arrays.copyOf(colorCodes, capacity);
+            years = Arrays.copyOf(years, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+        }
+        return highWater++;
+    }
+
+    private static BitSet bitmap(List<BitSet> bitmaps, int code) {
+        while (bitmaps.size() <= code) {
+            bitmaps.add(new BitSet());
+        }
+        return bitmaps.get(code);
+    }
+
+    private static BitSet existing(List<BitSet> bitmaps, int code) {
+        return code != ColumnDictionary.NONE && code < bitmaps.size() ? bitmaps.get(code) : new BitSet();
+    }
+
+    private static long toUnits(VehicleRow row) {
+        return FixedPointPrice.toUnits(row.price(), FixedPointPrice.USD_SCALE);
+    }
+
+    // Mesma ordem do BINARY(16) no banco: bytes sem sinal
+    private static int compareIds(UUID a, UUID b) {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    public record SearchResult(List<VehicleRow> rows, long total) {
+    }
+}
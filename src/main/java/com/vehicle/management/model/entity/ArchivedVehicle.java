@@ -0,0 +1,50 @@
+package com.vehicle.management.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+// Veículo desativado, fora da tabela quente: sem unicidade de placa, que pode voltar a ser cadastrada
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "vehicles_archive",
+        indexes = {
+            @Index(name = "idx_vehicles_archive_plate_normalized", columnList = "plate_normalized, archived_at"),
+            @Index(name = "idx_vehicles_archive_archived_at", columnList = "archived_at, id")
+        }
+)
+public class ArchivedVehicle {
+
+    // Mesmo id que o veículo tinha em vehicles
+    @Id
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Column(nullable = false)
+    private String plate;
+
+    @Column(name = "plate_normalized", nullable = false)
+    private String plateNormalized;
+
+    @Column(nullable = false)
+    private String brand;
+
+    @Column(nullable = false)
+    private String color;
+
+    @Column(nullable = false, name = "vehicle_year")
+    private Integer vehicleYear;
+
+    @Column(nullable = false, precision = 15, scale = Vehicle.PRICE_SCALE)
+    private BigDecimal price;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
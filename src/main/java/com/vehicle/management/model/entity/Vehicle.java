@@ -1,9 +1,12 @@
 package com.vehicle.management.model.entity;
 
+import com.vehicle.management.model.id.GeneratedUuidV7;
+import com.vehicle.management.model.price.FixedPointPrice;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.util.Locale;
 import java.util.UUID;
 
 @Getter
@@ -14,11 +17,20 @@ import java.util.UUID;
 @Entity
 @Table(name = "vehicles", uniqueConstraints = {
             @UniqueConstraint(columnNames = "plate")
+        },
+        indexes = {
+            @Index(name = "idx_vehicles_plate_normalized", columnList = "plate_normalized, id"),
+            @Index(name = "idx_vehicles_brand_year", columnList = "brand_normalized, vehicle_year"),
+            @Index(name = "idx_vehicles_brand_color", columnList = "brand_normalized, color_normalized"),
+            @Index(name = "idx_vehicles_price", columnList = "price, id"),
+            @Index(name = "idx_vehicles_year", columnList = "vehicle_year, id")
         }
 )
 public class Vehicle {
+    public static final int PRICE_SCALE = 2;
+
     @Id
-    @GeneratedValue
+    @GeneratedUuidV7
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
@@ -34,12 +46,32 @@ public class Vehicle {
     @Column(nullable = false, name = "vehicle_year")
     private Integer vehicleYear;
 
-    @Column(nullable = false, precision = 15, scale = 2)
+    @Column(nullable = false, precision = 15, scale = PRICE_SCALE)
     private BigDecimal price;
 
+    // Preço em reais materializado a partir de price * priceBrlRate (opcional, recalculado em lote)
+    @Column(name = "price_brl", precision = 15, scale = 2)
+    private BigDecimal priceBrl;
+
+    @Column(name = "price_brl_rate", precision = 15, scale = FixedPointPrice.RATE_SCALE)
+    private BigDecimal priceBrlRate;
+
     @Column(nullable = false)
     private boolean active = true;
 
+    // Cópias em minúsculas mantidas na escrita: os filtros comparam direto com elas, sem LOWER() na coluna
+    @Setter(AccessLevel.NONE)
+    @Column(name = "plate_normalized", nullable = false)
+    private String plateNormalized;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "brand_normalized", nullable = false)
+    private String brandNormalized;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "color_normalized", nullable = false)
+    private String colorNormalized;
+
     public Vehicle(String plate, String brand, String color, Integer vehicleYear, BigDecimal price) {
         this.plate = plate;
         this.brand = brand;
@@ -48,7 +80,26 @@ public class Vehicle {
         this.price = price;
     }
 
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+        // Preço alterado invalida o valor materializado até o próximo recálculo em lote
+        this.priceBrl = null;
+        this.priceBrlRate = null;
+    }
+
     public void deactivate() {
         this.active = false;
     }
+
+    @PrePersist
+    @PreUpdate
+    void normalizeFilterColumns() {
+        this.plateNormalized = normalize(plate);
+        this.brandNormalized = normalize(brand);
+        this.colorNormalized = normalize(color);
+    }
+
+    public static String normalize(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : null;
+    }
 }
\ No newline at end of file
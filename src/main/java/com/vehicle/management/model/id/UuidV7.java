@@ -0,0 +1,62 @@
+package com.vehicle.management.model.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+// UUID versão 7 (RFC 9562): 48 bits de milissegundos Unix, 4 de versão, 12 de contador, 2 de variante e 62
+// aleatórios. Cada id gerado é maior que o anterior (no mesmo milissegundo o contador desempata), então as
+// inserções caem no fim do índice da chave primária em vez de espalhadas por ele, e ordenar por id é ordenar
+// por criação. Como bytes big-endian (BINARY(16)) a ordem é a mesma de UUID.compareTo.
+public final class UuidV7 {
+    private static final UuidV7 SHARED = new UuidV7(new SecureRandom());
+
+    private static final int COUNTER_MASK = 0xFFF;
+    // O contador começa na metade inferior, em posição aleatória, deixando espaço para os incrementos
+    private static final int COUNTER_SEED_BOUND = 0x800;
+
+    private final SecureRandom random;
+    private long lastMillis = -1;
+    private int counter;
+
+    UuidV7(SecureRandom random) {
+        this.random = random;
+    }
+
+    public static UUID next() {
+        return SHARED.next(System.currentTimeMillis());
+    }
+
+    public static boolean isVersion7(UUID id) {
+        return id.version() == 7;
+    }
+
+    public static long timestampOf(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+    UUID next(long nowMillis) {
+        long randomBits = random.nextLong();
+        long millis;
+        int sequence;
+        synchronized (this) {
+            // Relógio que volta não quebra a ordem: continua do último milissegundo usado
+            millis = Math.max(nowMillis, lastMillis);
+            if (millis == lastMillis) {
+                counter++;
+                if (counter > COUNTER_MASK) {
+                    // Mais de 4096 ids no mesmo milissegundo: avança o timestamp em vez de repetir
+                    millis++;
+                    counter = random.nextInt(COUNTER_SEED_BOUND);
+                }
+            } else {
+                counter = random.nextInt(COUNTER_SEED_BOUND);
+            }
+            lastMillis = millis;
+            sequence = counter;
+        }
+
+        long mostSignificantBits = (millis << 16) | 0x7000L | sequence;
+        long leastSignificantBits = (randomBits & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
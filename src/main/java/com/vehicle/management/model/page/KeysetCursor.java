@@ -0,0 +1,70 @@
+package com.vehicle.management.model.page;
+
+import com.vehicle.management.model.entity.Vehicle;
+import com.vehicle.management.model.projection.VehicleRow;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+// Posição após a última linha entregue: (chave de ordenação, id), serializada como token opaco
+public record KeysetCursor(String property, Sort.Direction direction, Object value, UUID id) {
+
+    private static final String SEPARATOR = "|";
+    private static final String INVALID_CURSOR = "Cursor inválido ou gerado para outra ordenação.";
+
+    public static KeysetCursor after(VehicleRow row, String property, Sort.Direction direction) {
+        return new KeysetCursor(property, direction, keyOf(row, property), row.id());
+    }
+
+    public static KeysetCursor decode(String token, String property, Sort.Direction direction) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // A chave (placa) pode conter o separador: ordenação e direção vêm antes dela e o id é o último campo
+            int afterProperty = decoded.indexOf(SEPARATOR);
+            int afterDirection = decoded.indexOf(SEPARATOR, afterProperty + 1);
+            int beforeId = decoded.lastIndexOf(SEPARATOR);
+            if (afterProperty < 0 || afterDirection < 0 || beforeId <= afterDirection
+                    || !decoded.substring(0, afterProperty).equals(property)
+                    || !decoded.substring(afterProperty + 1, afterDirection).equals(direction.name())) {
+                throw new IllegalArgumentException(INVALID_CURSOR);
+            }
+            String key = decoded.substring(afterDirection + 1, beforeId);
+            return new KeysetCursor(property, direction, parseKey(property, key), UUID.fromString(decoded.substring(beforeId + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String key = value instanceof BigDecimal decimal ? decimal.toPlainString() : String.valueOf(value);
+        String raw = String.join(SEPARATOR, property, direction.name(), key, id.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isIdOnly() {
+        return "id".equals(property);
+    }
+
+    private static Object keyOf(VehicleRow row, String property) {
+        return switch (property) {
+            case "id" -> row.id();
+            case "plateNormalized" -> Vehicle.normalize(row.plate());
+            case "vehicleYear" -> row.vehicleYear();
+            case "price" -> row.price();
+            default -> throw new IllegalArgumentException(INVALID_CURSOR);
+        };
+    }
+
+    private static Object parseKey(String property, String key) {
+        return switch (property) {
+            case "id" -> UUID.fromString(key);
+            case "plateNormalized" -> key;
+            case "vehicleYear" -> Integer.valueOf(key);
+            case "price" -> new BigDecimal(key);
+            default -> throw new IllegalArgumentException(INVALID_CURSOR);
+        };
+    }
+}
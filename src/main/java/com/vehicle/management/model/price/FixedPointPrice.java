@@ -0,0 +1,55 @@
+package com.vehicle.management.model.price;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// Aritmética de preços em long com escala fixa; BigDecimal só aparece na fronteira (entidade / JSON)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FixedPointPrice {
+    public static final int USD_SCALE = 4;
+    public static final int BRL_SCALE = 2;
+    public static final int RATE_SCALE = 6;
+    public static final long NO_SCALED_RATE = -1L;
+
+    private static final long BRL_FROM_PRODUCT_DIVISOR = 100_000_000L; // 10^(USD_SCALE + RATE_SCALE - BRL_SCALE)
+    private static final long USD_FROM_BRL_MULTIPLIER = 100_000_000L;  // 10^(USD_SCALE + RATE_SCALE - BRL_SCALE)
+
+    public static long scaleRate(BigDecimal rate) {
+        if (rate.signum() <= 0) {
+            return NO_SCALED_RATE;
+        }
+        try {
+            return toUnits(rate, RATE_SCALE);
+        } catch (ArithmeticException e) {
+            return NO_SCALED_RATE;
+        }
+    }
+
+    public static long toUnits(BigDecimal amount, int scale) {
+        return amount.movePointRight(scale).longValueExact();
+    }
+
+    public static BigDecimal toBigDecimal(long units, int scale) {
+        return BigDecimal.valueOf(units, scale);
+    }
+
+    public static long usdToBrlCents(long usdUnits, long scaledRate) {
+        return divideHalfUp(Math.multiplyExact(usdUnits, scaledRate), BRL_FROM_PRODUCT_DIVISOR);
+    }
+
+    public static long brlCentsToUsd(long brlCents, long scaledRate) {
+        return divideHalfUp(Math.multiplyExact(brlCents, USD_FROM_BRL_MULTIPLIER), scaledRate);
+    }
+
+    // Equivalente a RoundingMode.HALF_UP para divisor positivo
+    static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = Math.abs(dividend % divisor);
+        if (remainder >= divisor - remainder) {
+            quotient += Long.signum(dividend);
+        }
+        return quotient;
+    }
+}
@@ -0,0 +1,33 @@
+package com.vehicle.management.model.projection;
+
+import com.vehicle.management.model.entity.Vehicle;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.UUID;
+
+// Projeção somente leitura das listagens: sem entidade gerenciada nem snapshot para dirty checking
+public record VehicleRow(
+        UUID id,
+        String plate,
+        String brand,
+        String color,
+        Integer vehicleYear,
+        BigDecimal price,
+        BigDecimal priceBrl,
+        BigDecimal priceBrlRate
+) {
+    // Mesmo conteúdo que a projeção traria do banco após a escrita (price com a escala da coluna)
+    public static VehicleRow of(Vehicle vehicle) {
+        return new VehicleRow(
+                vehicle.getId(),
+                vehicle.getPlate(),
+                vehicle.getBrand(),
+                vehicle.getColor(),
+                vehicle.getVehicleYear(),
+                vehicle.getPrice().setScale(Vehicle.PRICE_SCALE, RoundingMode.HALF_UP),
+                vehicle.getPriceBrl(),
+                vehicle.getPriceBrlRate()
+        );
+    }
+}
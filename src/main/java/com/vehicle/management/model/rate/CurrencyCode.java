@@ -0,0 +1,25 @@
+package com.vehicle.management.model.rate;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+// Cotações são sempre obtidas a partir do dólar (USD → moeda)
+public enum CurrencyCode {
+    USD,
+    BRL,
+    EUR,
+    ARS;
+
+    public static CurrencyCode fromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            return BRL;
+        }
+        try {
+            return CurrencyCode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Moeda inválida. Valores permitidos: " + Arrays.stream(values())
+                    .map(Enum::name)
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.vehicle.management.model.rate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+
+public record LastKnownGoodRate(
+        Map<CurrencyCode, BigDecimal> rates,
+        Instant fetchedAt
+) {
+}
@@ -0,0 +1,127 @@
+package com.vehicle.management.model.rate;
+
+import com.vehicle.management.model.price.FixedPointPrice;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.vehicle.management.model.price.FixedPointPrice.BRL_SCALE;
+import static com.vehicle.management.model.price.FixedPointPrice.NO_SCALED_RATE;
+import static com.vehicle.management.model.price.FixedPointPrice.RATE_SCALE;
+import static com.vehicle.management.model.price.FixedPointPrice.USD_SCALE;
+
+// Matriz de cotações USD → moeda obtida de uma vez; rate/scaledRate guardam o par USD → BRL do caminho principal
+public record RateSnapshot(
+        BigDecimal rate,
+        long scaledRate,
+        Map<CurrencyCode, BigDecimal> rates,
+        Instant fetchedAt,
+        Instant refreshAt,
+        Instant expiresAt
+) {
+    private static final int DISPLAY_SCALE = 2;
+
+    public static RateSnapshot of(BigDecimal rate, Duration timeToLive, Duration refreshAhead) {
+        return of(Map.of(CurrencyCode.BRL, rate), timeToLive, refreshAhead);
+    }
+
+    public static RateSnapshot of(Map<CurrencyCode, BigDecimal> rates, Duration timeToLive, Duration refreshAhead) {
+        BigDecimal rate = rates.get(CurrencyCode.BRL);
+        if (rate == null) {
+            throw new IllegalArgumentException("A cotação USD → BRL é obrigatória");
+        }
+
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(timeToLive);
+        return new RateSnapshot(rate, FixedPointPrice.scaleRate(rate), withUsd(rates), now,
+                expiresAt.minus(refreshAhead), expiresAt);
+    }
+
+    // Cotação histórica (asOf): nunca é reaproveitada, por isso já nasce expirada
+    public static RateSnapshot historical(Map<CurrencyCode, BigDecimal> rates, Instant asOf) {
+        BigDecimal rate = rates.get(CurrencyCode.BRL);
+        if (rate == null) {
+            throw new IllegalArgumentException("A cotação USD → BRL é obrigatória");
+        }
+        return new RateSnapshot(rate, FixedPointPrice.scaleRate(rate), withUsd(rates), asOf, asOf, asOf);
+    }
+
+    private static Map<CurrencyCode, BigDecimal> withUsd(Map<CurrencyCode, BigDecimal> rates) {
+        EnumMap<CurrencyCode, BigDecimal> matrix = new EnumMap<>(CurrencyCode.class);
+        matrix.putAll(rates);
+        matrix.put(CurrencyCode.USD, BigDecimal.ONE);
+        return Map.copyOf(matrix);
+    }
+
+    public RateSnapshot retryAfter(Duration retryInterval) {
+        Instant now = Instant.now();
+        return new RateSnapshot(rate, scaledRate, rates, fetchedAt, now, now.plus(retryInterval));
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    public boolean shouldRefresh(Instant now) {
+        return !now.isBefore(refreshAt);
+    }
+
+    public BigDecimal rate(CurrencyCode currency) {
+        BigDecimal currencyRate = rates.get(currency);
+        if (currencyRate == null) {
+            throw new IllegalArgumentException(String.format("Cotação indisponível para a moeda (%s) informada.", currency));
+        }
+        return currencyRate;
+    }
+
+    // Taxa cruzada derivada em memória a partir das cotações em dólar
+    public BigDecimal crossRate(CurrencyCode from, CurrencyCode to) {
+        return rate(to).divide(rate(from), RATE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    public long toBrlCents(long usdUnits) {
+        return FixedPointPrice.usdToBrlCents(usdUnits, scaledRate);
+    }
+
+    public BigDecimal toBrl(BigDecimal usdAmount) {
+        if (scaledRate != NO_SCALED_RATE) {
+            try {
+                long brlCents = toBrlCents(FixedPointPrice.toUnits(usdAmount, USD_SCALE));
+                return FixedPointPrice.toBigDecimal(brlCents, BRL_SCALE);
+            } catch (ArithmeticException e) {
+                // Valor fora da escala/faixa do caminho em long: segue para o BigDecimal
+            }
+        }
+        return usdAmount.multiply(rate).setScale(BRL_SCALE, RoundingMode.HALF_UP);
+    }
+
+    public BigDecimal toUsd(BigDecimal brlAmount) {
+        if (scaledRate != NO_SCALED_RATE) {
+            try {
+                long usdUnits = FixedPointPrice.brlCentsToUsd(FixedPointPrice.toUnits(brlAmount, BRL_SCALE), scaledRate);
+                return FixedPointPrice.toBigDecimal(usdUnits, USD_SCALE);
+            } catch (ArithmeticException e) {
+                // Valor fora da escala/faixa do caminho em long: segue para o BigDecimal
+            }
+        }
+        return brlAmount.divide(rate, USD_SCALE, RoundingMode.HALF_UP);
+    }
+
+    public BigDecimal fromUsd(BigDecimal usdAmount, CurrencyCode currency) {
+        if (currency == CurrencyCode.BRL) {
+            return toBrl(usdAmount);
+        }
+        return usdAmount.multiply(rate(currency)).setScale(DISPLAY_SCALE, RoundingMode.HALF_UP);
+    }
+
+    public BigDecimal toUsd(BigDecimal amount, CurrencyCode currency) {
+        if (currency == CurrencyCode.BRL) {
+            return toUsd(amount);
+        }
+        return amount.divide(rate(currency), USD_SCALE, RoundingMode.HALF_UP);
+    }
+}
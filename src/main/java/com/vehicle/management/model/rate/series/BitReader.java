@@ -0,0 +1,32 @@
+package com.vehicle.management.model.rate.series;
+
+public class BitReader {
+    private final long[] words;
+    private final int bitLength;
+    private int position;
+
+    BitReader(long[] words, int bitLength) {
+        this.words = words;
+        this.bitLength = bitLength;
+    }
+
+    public long read(int bits) {
+        if (position + bits > bitLength) {
+            throw new IllegalStateException("Fim inesperado do bloco da série de cotações");
+        }
+        long value = 0;
+        while (bits > 0) {
+            int available = 64 - (position & 63);
+            int chunkBits = Math.min(available, bits);
+            long chunk = (words[position >>> 6] >>> (available - chunkBits)) & BitWriter.mask(chunkBits);
+            value = (value << chunkBits) | chunk;
+            position += chunkBits;
+            bits -= chunkBits;
+        }
+        return value;
+    }
+
+    public boolean readBit() {
+        return read(1) == 1;
+    }
+}
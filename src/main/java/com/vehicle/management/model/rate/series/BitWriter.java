@@ -0,0 +1,56 @@
+package com.vehicle.management.model.rate.series;
+
+import java.util.Arrays;
+
+public class BitWriter {
+    private long[] words;
+    private int bitLength;
+
+    public BitWriter() {
+        this(new long[4], 0);
+    }
+
+    BitWriter(long[] words, int bitLength) {
+        this.words = words;
+        this.bitLength = bitLength;
+    }
+
+    public void write(long value, int bits) {
+        while (bits > 0) {
+            int wordIndex = bitLength >>> 6;
+            if (wordIndex == words.length) {
+                words = Arrays.copyOf(words, words.length * 2);
+            }
+            int free = 64 - (bitLength & 63);
+            int chunkBits = Math.min(free, bits);
+            long chunk = (value >>> (bits - chunkBits)) & mask(chunkBits);
+            words[wordIndex] |= chunk << (free - chunkBits);
+            bitLength += chunkBits;
+            bits -= chunkBits;
+        }
+    }
+
+    BitWriter copy() {
+        return new BitWriter(Arrays.copyOf(words, words.length), bitLength);
+    }
+
+    public void trim() {
+        words = Arrays.copyOf(words, Math.max(1, (bitLength + 63) >>> 6));
+    }
+
+    public int bitLength() {
+        return bitLength;
+    }
+
+    public long[] words() {
+        return words;
+    }
+
+    public BitReader reader() {
+        return new BitReader(words, bitLength);
+    }
+
+    static long mask(int bits) {
+        return bits == 64 ? -1L : (1L << bits) - 1;
+    }
+}
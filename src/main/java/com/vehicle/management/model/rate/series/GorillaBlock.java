@@ -0,0 +1,227 @@
+package com.vehicle.management.model.rate.series;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+// Bloco no estilo Gorilla: timestamps em delta-of-delta e valores em XOR com o valor anterior
+public class GorillaBlock {
+    private static final int FIRST_DELTA_BITS = 14;
+
+    private final long start;
+    private final BitWriter bits;
+    private int count;
+    private long firstTimestamp;
+    private long lastTimestamp;
+    private long lastDelta;
+    private long lastValueBits;
+    private int lastLeading = Integer.MAX_VALUE;
+    private int lastTrailing;
+
+    public GorillaBlock(long start) {
+        this.start = start;
+        this.bits = new BitWriter();
+    }
+
+    public void append(long timestamp, double value) {
+        long valueBits = Double.doubleToRawLongBits(value);
+        if (count == 0) {
+            bits.write(timestamp - start, FIRST_DELTA_BITS);
+            bits.write(valueBits, 64);
+            firstTimestamp = timestamp;
+        } else {
+            long delta = timestamp - lastTimestamp;
+            writeDeltaOfDelta(delta - lastDelta);
+            writeValue(valueBits ^ lastValueBits);
+            lastDelta = delta;
+        }
+        lastTimestamp = timestamp;
+        lastValueBits = valueBits;
+        count++;
+    }
+
+    // Último valor com timestamp <= informado; NaN se o bloco começa depois dele
+    public double valueAt(long timestamp) {
+        double[] found = {Double.NaN};
+        forEach((pointTimestamp, value) -> {
+            if (pointTimestamp > timestamp) {
+                return false;
+            }
+            found[0] = value;
+            return true;
+        });
+        return found[0];
+    }
+
+    public void forEach(PointVisitor visitor) {
+        BitReader reader = bits.reader();
+        long timestamp = 0;
+        long delta = 0;
+        long valueBits = 0;
+        int leading = 0;
+        int trailing = 0;
+
+        for (int i = 0; i < count; i++) {
+            if (i == 0) {
+                timestamp = start + reader.read(FIRST_DELTA_BITS);
+                valueBits = reader.read(64);
+            } else {
+                delta += readDeltaOfDelta(reader);
+                timestamp += delta;
+                if (reader.readBit()) {
+                    if (reader.readBit()) {
+                        leading = (int) reader.read(5);
+                        int significant = (int) reader.read(6) + 1;
+                        trailing = 64 - leading - significant;
+                    }
+                    int significant = 64 - leading - trailing;
+                    valueBits ^= reader.read(significant) << trailing;
+                }
+            }
+            if (!visitor.visit(timestamp, Double.longBitsToDouble(valueBits))) {
+                return;
+            }
+        }
+    }
+
+    // Cópia independente, inclusive do estado de escrita: o bloco aberto pode ser gravado fora do lock da série
+    public GorillaBlock copy() {
+        GorillaBlock copy = new GorillaBlock(start, bits.copy(), count);
+        copy.firstTimestamp = firstTimestamp;
+        copy.lastTimestamp = lastTimestamp;
+        copy.lastDelta = lastDelta;
+        copy.lastValueBits = lastValueBits;
+        copy.lastLeading = lastLeading;
+        copy.lastTrailing = lastTrailing;
+        return copy;
+    }
+
+    public void seal() {
+        bits.trim();
+    }
+
+    public void writeTo(DataOutput output) throws IOException {
+        output.writeLong(start);
+        output.writeInt(count);
+        output.writeInt(bits.bitLength());
+        long[] words = bits.words();
+        int wordCount = (bits.bitLength() + 63) >>> 6;
+        output.writeInt(wordCount);
+        for (int i = 0; i < wordCount; i++) {
+            output.writeLong(words[i]);
+        }
+    }
+
+    // Reconstrói o estado de escrita decodificando os pontos, para o bloco aberto poder continuar recebendo dados
+    public static GorillaBlock readFrom(DataInput input) throws IOException {
+        long start = input.readLong();
+        int count = input.readInt();
+        int bitLength = input.readInt();
+        long[] words = new long[Math.max(1, input.readInt())];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = input.readLong();
+        }
+
+        GorillaBlock encoded = new GorillaBlock(start, new BitWriter(words, bitLength), count);
+        GorillaBlock block = new GorillaBlock(start);
+        encoded.forEach((timestamp, value) -> {
+            block.append(timestamp, value);
+            return true;
+        });
+        return block;
+    }
+
+    private GorillaBlock(long start, BitWriter bits, int count) {
+        this.start = start;
+        this.bits = bits;
+        this.count = count;
+    }
+
+    private void writeDeltaOfDelta(long deltaOfDelta) {
+        if (deltaOfDelta == 0) {
+            bits.write(0b0, 1);
+        } else if (deltaOfDelta >= -63 && deltaOfDelta <= 64) {
+            bits.write(0b10, 2);
+            bits.write(deltaOfDelta + 63, 7);
+        } else if (deltaOfDelta >= -255 && deltaOfDelta <= 256) {
+            bits.write(0b110, 3);
+            bits.write(deltaOfDelta + 255, 9);
+        } else if (deltaOfDelta >= -2047 && deltaOfDelta <= 2048) {
+            bits.write(0b1110, 4);
+            bits.write(deltaOfDelta + 2047, 12);
+        } else {
+            bits.write(0b1111, 4);
+            bits.write(deltaOfDelta, 32);
+        }
+    }
+
+    private long readDeltaOfDelta(BitReader reader) {
+        if (!reader.readBit()) {
+            return 0;
+        }
+        if (!reader.readBit()) {
+            return reader.read(7) - 63;
+        }
+        if (!reader.readBit()) {
+            return reader.read(9) - 255;
+        }
+        if (!reader.readBit()) {
+            return reader.read(12) - 2047;
+        }
+        return (int) reader.read(32);
+    }
+
+    private void writeValue(long xor) {
+        if (xor == 0) {
+            bits.write(0b0, 1);
+            return;
+        }
+        bits.write(0b1, 1);
+
+        int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+        int trailing = Long.numberOfTrailingZeros(xor);
+        if (lastLeading != Integer.MAX_VALUE && leading >= lastLeading && trailing >= lastTrailing) {
+            // Reaproveita a janela de bits significativos do valor anterior
+            bits.write(0b0, 1);
+            bits.write(xor >>> lastTrailing, 64 - lastLeading - lastTrailing);
+            return;
+        }
+
+        int significant = 64 - leading - trailing;
+        bits.write(0b1, 1);
+        bits.write(leading, 5);
+        bits.write(significant - 1, 6);
+        bits.write(xor >>> trailing, significant);
+        lastLeading = leading;
+        lastTrailing = trailing;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getFirstTimestamp() {
+        return firstTimestamp;
+    }
+
+    public long getLastTimestamp() {
+        return lastTimestamp;
+    }
+
+    public double getLastValue() {
+        return Double.longBitsToDouble(lastValueBits);
+    }
+
+    public int getBitLength() {
+        return bits.bitLength();
+    }
+
+    @FunctionalInterface
+    public interface PointVisitor {
+        boolean visit(long timestamp, double value);
+    }
+}
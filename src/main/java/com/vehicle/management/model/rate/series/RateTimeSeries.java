@@ -0,0 +1,98 @@
+package com.vehicle.management.model.rate.series;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+
+// Série de uma moeda em blocos de 2h indexados pela posição: a consulta acessa um único bloco,
+// independente do tamanho do histórico
+public class RateTimeSeries {
+    public static final long BLOCK_SECONDS = 2 * 60 * 60;
+
+    // Posição i = bloco (firstBucket + i); intervalos sem pontos apontam para o último bloco anterior
+    private final List<GorillaBlock> blocks = new ArrayList<>();
+    private long firstBucket;
+
+    // Retorna o bloco fechado quando o ponto inaugura um novo bloco
+    public GorillaBlock append(long timestamp, double value) {
+        long bucket = Math.floorDiv(timestamp, BLOCK_SECONDS);
+        GorillaBlock current = getOpenBlock();
+        if (current == null) {
+            firstBucket = bucket;
+            blocks.add(newBlock(bucket, timestamp, value));
+            return null;
+        }
+        if (timestamp <= current.getLastTimestamp()) {
+            return null;
+        }
+        if (bucket == lastBucket()) {
+            current.append(timestamp, value);
+            return null;
+        }
+
+        current.seal();
+        fillUntil(bucket, current);
+        blocks.add(newBlock(bucket, timestamp, value));
+        return current;
+    }
+
+    public void restore(GorillaBlock block) {
+        if (block.getCount() == 0) {
+            return;
+        }
+        long bucket = Math.floorDiv(block.getStart(), BLOCK_SECONDS);
+        GorillaBlock current = getOpenBlock();
+        if (current == null) {
+            firstBucket = bucket;
+        } else if (bucket <= lastBucket()) {
+            return;
+        } else {
+            current.seal();
+            fillUntil(bucket, current);
+        }
+        blocks.add(block);
+    }
+
+    public OptionalDouble valueAt(long timestamp) {
+        if (blocks.isEmpty()) {
+            return OptionalDouble.empty();
+        }
+        long bucket = Math.floorDiv(timestamp, BLOCK_SECONDS);
+        long index = bucket - firstBucket;
+        if (index < 0) {
+            return OptionalDouble.empty();
+        }
+        if (index >= blocks.size()) {
+            return OptionalDouble.of(getOpenBlock().getLastValue());
+        }
+
+        GorillaBlock block = blocks.get((int) index);
+        if (Math.floorDiv(block.getStart(), BLOCK_SECONDS) != bucket) {
+            return OptionalDouble.of(block.getLastValue());
+        }
+        if (timestamp < block.getFirstTimestamp()) {
+            return index == 0 ? OptionalDouble.empty() : OptionalDouble.of(blocks.get((int) index - 1).getLastValue());
+        }
+        return OptionalDouble.of(block.valueAt(timestamp));
+    }
+
+    public GorillaBlock getOpenBlock() {
+        return blocks.isEmpty() ? null : blocks.get(blocks.size() - 1);
+    }
+
+    private long lastBucket() {
+        return firstBucket + blocks.size() - 1;
+    }
+
+    private void fillUntil(long bucket, GorillaBlock previous) {
+        while (firstBucket + blocks.size() < bucket) {
+            blocks.add(previous);
+        }
+    }
+
+    private GorillaBlock newBlock(long bucket, long timestamp, double value) {
+        GorillaBlock block = new GorillaBlock(bucket * BLOCK_SECONDS);
+        block.append(timestamp, value);
+        return block;
+    }
+}
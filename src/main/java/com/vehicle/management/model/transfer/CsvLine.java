@@ -0,0 +1,58 @@
+package com.vehicle.management.model.transfer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Uma linha CSV (RFC 4180) sem quebras de linha dentro de campos: cada registro ocupa exatamente uma linha
+public final class CsvLine {
+
+    private CsvLine() {
+    }
+
+    // Vírgula ou ponto e vírgula, conforme o cabeçalho (planilhas em português exportam com ';')
+    public static char detectSeparator(String header) {
+        return header.indexOf(';') >= 0 && header.indexOf(',') < 0 ? ';' : ',';
+    }
+
+    public static List<String> split(String line, char separator) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == separator) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Aspas sem fechamento na linha.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // Aspas só quando o valor contém separador, aspas ou quebra de linha
+    public static String escape(String value, char separator) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(separator) < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
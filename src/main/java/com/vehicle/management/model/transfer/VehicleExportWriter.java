@@ -0,0 +1,68 @@
+package com.vehicle.management.model.transfer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.vehicle.management.dto.VehicleDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+// Escreve um veículo por linha direto na saída; o CSV usa as mesmas colunas aceitas pela importação
+public class VehicleExportWriter {
+
+    private static final char SEPARATOR = ',';
+    private static final String CSV_HEADER = "id,placa,marca,cor,ano,preco\n";
+
+    private final OutputStream output;
+    private final VehicleFileFormat format;
+    private final ObjectWriter jsonWriter;
+    private long written;
+
+    public VehicleExportWriter(OutputStream output, VehicleFileFormat format, ObjectMapper objectMapper) {
+        this.output = output;
+        this.format = format;
+        this.jsonWriter = objectMapper.writerFor(VehicleDTO.class);
+        if (format == VehicleFileFormat.CSV) {
+            writeText(CSV_HEADER);
+        }
+    }
+
+    // Chamado de dentro do forEach do cursor, que não aceita exceções verificadas
+    public void write(VehicleDTO vehicle) {
+        try {
+            if (format == VehicleFileFormat.CSV) {
+                writeText(csvLine(vehicle));
+            } else {
+                output.write(jsonWriter.writeValueAsBytes(vehicle));
+                output.write('\n');
+            }
+            written++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long written() {
+        return written;
+    }
+
+    private String csvLine(VehicleDTO vehicle) {
+        return vehicle.getId()
+                + "," + CsvLine.escape(vehicle.getPlate(), SEPARATOR)
+                + "," + CsvLine.escape(vehicle.getBrand(), SEPARATOR)
+                + "," + CsvLine.escape(vehicle.getColor(), SEPARATOR)
+                + "," + (vehicle.getVehicleYear() != null ? vehicle.getVehicleYear() : "")
+                + "," + (vehicle.getPrice() != null ? vehicle.getPrice().toPlainString() : "")
+                + "\n";
+    }
+
+    private void writeText(String text) {
+        try {
+            output.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
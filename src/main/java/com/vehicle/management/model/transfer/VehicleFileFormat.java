@@ -0,0 +1,56 @@
+package com.vehicle.management.model.transfer;
+
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+// Formatos de arquivo aceitos na troca de veículos em massa, identificados pelo Content-Type
+public enum VehicleFileFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    VehicleFileFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String fileExtension() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    public static VehicleFileFormat fromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            return NDJSON;
+        }
+        try {
+            return VehicleFileFormat.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Formato inválido. Valores permitidos: " + Arrays.stream(values())
+                    .map(Enum::name)
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    public static VehicleFileFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            try {
+                MediaType parsed = MediaType.parseMediaType(contentType);
+                for (VehicleFileFormat format : values()) {
+                    if (parsed.isCompatibleWith(MediaType.parseMediaType(format.mediaType))) {
+                        return format;
+                    }
+                }
+            } catch (IllegalArgumentException ignored) {
+                // Content-Type malformado cai na mensagem abaixo
+            }
+        }
+        throw new IllegalArgumentException("Formato inválido. Use Content-Type text/csv ou application/x-ndjson.");
+    }
+}
@@ -0,0 +1,145 @@
+package com.vehicle.management.model.transfer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vehicle.management.dto.request.VehicleRequestDTO;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Lê o corpo da importação linha a linha: só a linha corrente fica em memória, qualquer que seja o tamanho do arquivo
+public class VehicleImportReader {
+
+    // Mesmos nomes do JSON de VehicleRequestDTO, incluindo os aliases em inglês
+    private static final Map<String, String> CSV_COLUMNS = Map.ofEntries(
+            Map.entry("placa", "placa"), Map.entry("plate", "placa"),
+            Map.entry("marca", "marca"), Map.entry("brand", "marca"),
+            Map.entry("cor", "cor"), Map.entry("color", "cor"),
+            Map.entry("ano", "ano"), Map.entry("vehicleyear", "ano"),
+            Map.entry("preco", "preco"), Map.entry("preço", "preco"), Map.entry("price", "preco")
+    );
+    private static final List<String> REQUIRED_COLUMNS = List.of("placa", "marca", "cor", "ano", "preco");
+
+    private final BufferedReader reader;
+    private final VehicleFileFormat format;
+    private final ObjectMapper objectMapper;
+    private long lineNumber;
+
+    // Posição de cada coluna obrigatória no CSV, na ordem de REQUIRED_COLUMNS
+    private int[] columnIndexes;
+    private char separator;
+
+    public VehicleImportReader(BufferedReader reader, VehicleFileFormat format, ObjectMapper objectMapper) throws IOException {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+        if (format == VehicleFileFormat.CSV) {
+            readHeader();
+        }
+    }
+
+    // Próxima linha não vazia; null no fim do arquivo
+    public VehicleImportRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        return format == VehicleFileFormat.CSV ? parseCsv(line) : parseJson(line);
+    }
+
+    private void readHeader() throws IOException {
+        String header = reader.readLine();
+        lineNumber++;
+        if (header == null || header.isBlank()) {
+            throw new IllegalArgumentException("Arquivo CSV sem cabeçalho. Colunas esperadas: " + String.join(", ", REQUIRED_COLUMNS));
+        }
+        // BOM do UTF-8 gravado por planilhas
+        if (header.charAt(0) == '\uFEFF') {
+            header = header.substring(1);
+        }
+
+        separator = CsvLine.detectSeparator(header);
+        List<String> names = CsvLine.split(header, separator);
+        columnIndexes = new int[REQUIRED_COLUMNS.size()];
+        Arrays.fill(columnIndexes, -1);
+        for (int i = 0; i < names.size(); i++) {
+            String column = CSV_COLUMNS.get(names.get(i).trim().toLowerCase(Locale.ROOT));
+            if (column != null) {
+                columnIndexes[REQUIRED_COLUMNS.indexOf(column)] = i;
+            }
+        }
+        for (int i = 0; i < columnIndexes.length; i++) {
+            if (columnIndexes[i] < 0) {
+                throw new IllegalArgumentException("Coluna obrigatória ausente no cabeçalho do CSV: " + REQUIRED_COLUMNS.get(i));
+            }
+        }
+    }
+
+    private VehicleImportRow parseCsv(String line) {
+        List<String> fields;
+        try {
+            fields = CsvLine.split(line, separator);
+        } catch (IllegalArgumentException e) {
+            return VehicleImportRow.failed(lineNumber, e.getMessage());
+        }
+
+        String year = field(fields, 3);
+        String price = field(fields, 4);
+        VehicleRequestDTO vehicle = VehicleRequestDTO.builder()
+                .plate(field(fields, 0))
+                .brand(field(fields, 1))
+                .color(field(fields, 2))
+                .build();
+        try {
+            vehicle.setVehicleYear(year != null ? Integer.valueOf(year) : null);
+        } catch (NumberFormatException e) {
+            return VehicleImportRow.failed(lineNumber, vehicle, "Ano inválido: " + year);
+        }
+        try {
+            vehicle.setPrice(price != null ? parsePrice(price) : null);
+        } catch (NumberFormatException e) {
+            return VehicleImportRow.failed(lineNumber, vehicle, "Preço inválido: " + price);
+        }
+        return VehicleImportRow.parsed(lineNumber, vehicle);
+    }
+
+    private VehicleImportRow parseJson(String line) {
+        try {
+            VehicleRequestDTO vehicle = objectMapper.readValue(line, VehicleRequestDTO.class);
+            if (vehicle == null) {
+                return VehicleImportRow.failed(lineNumber, "Linha JSON sem objeto de veículo.");
+            }
+            return VehicleImportRow.parsed(lineNumber, vehicle);
+        } catch (JsonProcessingException e) {
+            return VehicleImportRow.failed(lineNumber, "JSON inválido: " + e.getOriginalMessage());
+        }
+    }
+
+    // Campo vazio equivale a ausente, para a validação do DTO informar o obrigatório
+    private String field(List<String> fields, int column) {
+        int index = columnIndexes[column];
+        if (index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // Com ';' como separador a vírgula decimal também é aceita (85000,00)
+    private BigDecimal parsePrice(String value) {
+        if (separator == ';' && value.indexOf(',') >= 0 && value.indexOf('.') < 0) {
+            return new BigDecimal(value.replace(',', '.'));
+        }
+        return new BigDecimal(value);
+    }
+}
@@ -0,0 +1,27 @@
+package com.vehicle.management.model.transfer;
+
+import com.vehicle.management.dto.request.VehicleRequestDTO;
+
+// Linha lida do arquivo. Com erro de leitura, vehicle traz só o que foi possível interpretar (ex.: a placa) ou é nulo
+public record VehicleImportRow(long line, VehicleRequestDTO vehicle, String error) {
+
+    public static VehicleImportRow parsed(long line, VehicleRequestDTO vehicle) {
+        return new VehicleImportRow(line, vehicle, null);
+    }
+
+    public static VehicleImportRow failed(long line, String error) {
+        return new VehicleImportRow(line, null, error);
+    }
+
+    public static VehicleImportRow failed(long line, VehicleRequestDTO partial, String error) {
+        return new VehicleImportRow(line, partial, error);
+    }
+
+    public boolean isParsed() {
+        return error == null;
+    }
+
+    public String plate() {
+        return vehicle != null ? vehicle.getPlate() : null;
+    }
+}
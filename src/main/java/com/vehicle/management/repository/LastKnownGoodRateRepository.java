@@ -0,0 +1,87 @@
+package com.vehicle.management.repository;
+
+import com.vehicle.management.config.RateProviderProperties;
+import com.vehicle.management.model.rate.CurrencyCode;
+import com.vehicle.management.model.rate.LastKnownGoodRate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+// O banco H2 é em memória, então a última cotação válida é mantida em arquivo para sobreviver a reinícios
+@Repository
+public class LastKnownGoodRateRepository {
+    private static final String RATE_PREFIX = "rate.";
+    private static final String FETCHED_AT = "fetchedAt";
+
+    private final Logger logger = LoggerFactory.getLogger(LastKnownGoodRateRepository.class);
+
+    @Autowired
+    private RateProviderProperties rateProviderProperties;
+
+    public Optional<LastKnownGoodRate> find() {
+        Path file = rateProviderProperties.getLastKnownGoodFile();
+        if (file == null || !Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Properties properties = new Properties();
+            properties.load(reader);
+
+            Map<CurrencyCode, BigDecimal> rates = new EnumMap<>(CurrencyCode.class);
+            for (CurrencyCode currency : CurrencyCode.values()) {
+                String rate = properties.getProperty(RATE_PREFIX + currency.name());
+                if (rate != null) {
+                    rates.put(currency, new BigDecimal(rate));
+                }
+            }
+            if (!rates.containsKey(CurrencyCode.BRL)) {
+                return Optional.empty();
+            }
+            return Optional.of(new LastKnownGoodRate(rates, Instant.parse(properties.getProperty(FETCHED_AT))));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Falha ao ler a última cotação válida em {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void save(LastKnownGoodRate lastKnownGoodRate) {
+        Path file = rateProviderProperties.getLastKnownGoodFile();
+        if (file == null) {
+            return;
+        }
+
+        Properties properties = new Properties();
+        lastKnownGoodRate.rates().forEach((currency, rate) ->
+                properties.setProperty(RATE_PREFIX + currency.name(), rate.toPlainString()));
+        properties.setProperty(FETCHED_AT, lastKnownGoodRate.fetchedAt().toString());
+
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            // Grava em arquivo temporário e troca de forma atômica para nunca deixar um arquivo parcial
+            Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                properties.store(writer, null);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Falha ao persistir a última cotação válida em {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.vehicle.management.repository;
+
+import com.vehicle.management.config.RateProviderProperties;
+import com.vehicle.management.model.rate.CurrencyCode;
+import com.vehicle.management.model.rate.series.GorillaBlock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// Blocos fechados são apenas acrescentados em "sealed.bin"; os blocos abertos ficam em "open.bin", regravado a cada ponto
+@Repository
+public class RateHistoryRepository {
+    private static final String SEALED_FILE = "sealed.bin";
+    private static final String OPEN_FILE = "open.bin";
+
+    private final Logger logger = LoggerFactory.getLogger(RateHistoryRepository.class);
+
+    @Autowired
+    private RateProviderProperties rateProviderProperties;
+
+    public Map<CurrencyCode, List<GorillaBlock>> load() {
+        Map<CurrencyCode, List<GorillaBlock>> blocks = new EnumMap<>(CurrencyCode.class);
+        Path directory = rateProviderProperties.getHistoryDirectory();
+        if (directory == null) {
+            return blocks;
+        }
+        read(directory.resolve(SEALED_FILE), blocks);
+        read(directory.resolve(OPEN_FILE), blocks);
+        return blocks;
+    }
+
+    public void appendSealed(Map<CurrencyCode, GorillaBlock> sealed) {
+        if (sealed.isEmpty()) {
+            return;
+        }
+        write(SEALED_FILE, sealed, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    public void saveOpen(Map<CurrencyCode, GorillaBlock> open) {
+        Path directory = rateProviderProperties.getHistoryDirectory();
+        if (directory == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, OPEN_FILE, ".tmp");
+            try (OutputStream output = Files.newOutputStream(temp)) {
+                output.write(encode(open));
+            }
+            Files.move(temp, directory.resolve(OPEN_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Falha ao persistir o histórico de cotações em {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private void write(String fileName, Map<CurrencyCode, GorillaBlock> blocks, StandardOpenOption... options) {
+        Path directory = rateProviderProperties.getHistoryDirectory();
+        if (directory == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            Files.write(directory.resolve(fileName), encode(blocks), options);
+        } catch (IOException e) {
+            logger.warn("Falha ao persistir o histórico de cotações em {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private byte[] encode(Map<CurrencyCode, GorillaBlock> blocks) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(bytes))) {
+            for (Map.Entry<CurrencyCode, GorillaBlock> entry : blocks.entrySet()) {
+                output.writeUTF(entry.getKey().name());
+                entry.getValue().writeTo(output);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private void read(Path file, Map<CurrencyCode, List<GorillaBlock>> blocks) {
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            while (true) {
+                String currency;
+                try {
+                    currency = input.readUTF();
+                } catch (EOFException e) {
+                    return;
+                }
+                GorillaBlock block = GorillaBlock.readFrom(input);
+                blocks.computeIfAbsent(CurrencyCode.valueOf(currency), key -> new ArrayList<>()).add(block);
+            }
+        } catch (IOException | RuntimeException e) {
+            // Registro truncado (ex.: queda durante a escrita): mantém o que foi lido até ali
+            logger.warn("Falha ao ler o histórico de cotações em {}: {}", file, e.getMessage());
+        }
+    }
+}
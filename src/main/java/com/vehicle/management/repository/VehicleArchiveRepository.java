@@ -0,0 +1,42 @@
+package com.vehicle.management.repository;
+
+import com.vehicle.management.model.entity.ArchivedVehicle;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface VehicleArchiveRepository extends JpaRepository<ArchivedVehicle, UUID> {
+    Page<ArchivedVehicle> findByPlateNormalized(String plateNormalized, Pageable pageable);
+
+    @Query("SELECT v.id FROM Vehicle v WHERE v.active = false")
+    List<UUID> findInactiveIds(Pageable pageable);
+
+    @Modifying
+    @Query(value = """
+    INSERT INTO vehicles_archive (id, plate, plate_normalized, brand, color, vehicle_year, price, archived_at)
+    SELECT id, plate, plate_normalized, brand, color, vehicle_year, price, CURRENT_TIMESTAMP
+    FROM vehicles
+    WHERE id IN (:ids) AND active = FALSE
+    """, nativeQuery = true)
+    int copyInactive(@Param("ids") List<UUID> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM vehicles WHERE id IN (:ids) AND active = FALSE", nativeQuery = true)
+    int deleteInactive(@Param("ids") List<UUID> ids);
+
+    // Cópia e remoção na mesma transação: o veículo nunca fica nas duas tabelas nem em nenhuma
+    @Transactional
+    default int moveInactive(List<UUID> ids) {
+        copyInactive(ids);
+        return deleteInactive(ids);
+    }
+}
@@ -0,0 +1,9 @@
+package com.vehicle.management.repository;
+
+import com.vehicle.management.model.entity.Vehicle;
+
+import java.util.List;
+
+public interface VehicleBulkRepository {
+    List<Vehicle> insertAll(List<Vehicle> vehicles);
+}
@@ -0,0 +1,38 @@
+package com.vehicle.management.repository;
+
+import com.vehicle.management.model.entity.Vehicle;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class VehicleBulkRepositoryImpl implements VehicleBulkRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Mesmo tamanho do lote JDBC: cada flush envia exatamente um executeBatch por tabela
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    // Inserção em massa numa única transação: persist sem o merge/SELECT que o save faria para ids atribuídos,
+    // e flush + clear a cada lote para o contexto de persistência não crescer com a coleção inteira.
+    // Os veículos devolvidos já estão destacados (detached), com id preenchido.
+    @Override
+    @Transactional
+    public List<Vehicle> insertAll(List<Vehicle> vehicles) {
+        int size = Math.max(1, batchSize);
+        for (int i = 0; i < vehicles.size(); i++) {
+            entityManager.persist(vehicles.get(i));
+            if ((i + 1) % size == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return vehicles;
+    }
+}
@@ -0,0 +1,77 @@
+package com.vehicle.management.repository;
+
+import com.vehicle.management.model.entity.Vehicle;
+import com.vehicle.management.model.page.KeysetCursor;
+import com.vehicle.management.model.projection.VehicleRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface VehicleFilterRepository {
+    Slice<VehicleRow> findSliceByFilters(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Pageable pageable
+    );
+
+    long countByFilters(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice
+    );
+
+    List<VehicleRow> findByFiltersAfter(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            KeysetCursor after,
+            String property,
+            Sort.Direction direction,
+            int limit
+    );
+
+    void forEachByFilters(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            int fetchSize,
+            Consumer<VehicleRow> consumer
+    );
+
+    int updateByFilters(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            String newColor,
+            BigDecimal priceFactor
+    );
+
+    int archiveByFilters(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice
+    );
+}
@@ -0,0 +1,322 @@
+package com.vehicle.management.repository;
+
+import com.vehicle.management.model.entity.Vehicle;
+import com.vehicle.management.model.page.KeysetCursor;
+import com.vehicle.management.model.projection.VehicleRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static java.util.Objects.nonNull;
+
+@Transactional(readOnly = true)
+public class VehicleFilterRepositoryImpl implements VehicleFilterRepository {
+
+    private static final String ALIAS = "v";
+    private static final String ROW_SELECT = "SELECT new com.vehicle.management.model.projection.VehicleRow("
+            + "v.id, v.plate, v.brand, v.color, v.vehicleYear, v.price, v.priceBrl, v.priceBrlRate) FROM Vehicle v";
+    private static final String[] PARAMETERS = {"plate", "brand", "vehicleYear", "color", "minPrice", "maxPrice"};
+    private static final String[] PREDICATES = {
+            "v.plateNormalized = :plate",
+            "v.brandNormalized = :brand",
+            "v.vehicleYear = :vehicleYear",
+            "v.colorNormalized = :color",
+            "v.price >= :minPrice",
+            "v.price <= :maxPrice"
+    };
+
+    // Um par de consultas por combinação de filtros informados (no máximo 2^6): o texto
+    // estável permite que o Hibernate e o H2 reaproveitem o plano de cada combinação
+    private final Map<Integer, FilterQueries> queriesByShape = new ConcurrentHashMap<>();
+    private final Map<KeysetShape, String> keysetQueries = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Busca uma linha a mais para saber se há próxima página, sem COUNT
+    @Override
+    public Slice<VehicleRow> findSliceByFilters(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Pageable pageable
+    ) {
+        Object[] values = normalizedValues(plate, brand, vehicleYear, color, minPrice, maxPrice);
+        int shape = shapeOf(values);
+        FilterQueries queries = queriesByShape.computeIfAbsent(shape, VehicleFilterRepositoryImpl::buildQueries);
+
+        TypedQuery<VehicleRow> query = entityManager.createQuery(
+                QueryUtils.applySorting(queries.rowSelect(), pageable.getSort(), ALIAS),
+                VehicleRow.class
+        );
+        bind(query, shape, values);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.getResultList(), pageable, false);
+        }
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
+        List<VehicleRow> content = query.getResultList();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    @Override
+    public long countByFilters(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice
+    ) {
+        Object[] values = normalizedValues(plate, brand, vehicleYear, color, minPrice, maxPrice);
+        int shape = shapeOf(values);
+        FilterQueries queries = queriesByShape.computeIfAbsent(shape, VehicleFilterRepositoryImpl::buildQueries);
+
+        TypedQuery<Long> count = entityManager.createQuery(queries.count(), Long.class);
+        bind(count, shape, values);
+        return count.getSingleResult();
+    }
+
+    @Override
+    public List<VehicleRow> findByFiltersAfter(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            KeysetCursor after,
+            String property,
+            Sort.Direction direction,
+            int limit
+    ) {
+        Object[] values = normalizedValues(plate, brand, vehicleYear, color, minPrice, maxPrice);
+        int shape = shapeOf(values);
+        KeysetShape keysetShape = new KeysetShape(shape, property, direction, nonNull(after));
+
+        TypedQuery<VehicleRow> query = entityManager.createQuery(
+                keysetQueries.computeIfAbsent(keysetShape, VehicleFilterRepositoryImpl::buildKeysetQuery),
+                VehicleRow.class
+        );
+        bind(query, shape, values);
+        if (nonNull(after)) {
+            if (!after.isIdOnly()) {
+                query.setParameter("keysetValue", after.value());
+            }
+            query.setParameter("keysetId", after.id());
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    // Cursor só de avanço: as linhas são entregues ao consumer à medida que o JDBC as busca, de fetchSize em fetchSize,
+    // sem OFFSET, sem COUNT e sem entidades no contexto de persistência. A transação fica aberta até o fim da leitura
+    @Override
+    public void forEachByFilters(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            int fetchSize,
+            Consumer<VehicleRow> consumer
+    ) {
+        Object[] values = normalizedValues(plate, brand, vehicleYear, color, minPrice, maxPrice);
+        int shape = shapeOf(values);
+        FilterQueries queries = queriesByShape.computeIfAbsent(shape, VehicleFilterRepositoryImpl::buildQueries);
+
+        TypedQuery<VehicleRow> query = entityManager.createQuery(queries.rowSelectById(), VehicleRow.class);
+        bind(query, shape, values);
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        try (Stream<VehicleRow> rows = query.getResultStream()) {
+            rows.forEach(consumer);
+        }
+    }
+
+    // Um único UPDATE para todos os veículos do filtro. Os campos *_normalized são atualizados junto, porque
+    // o UPDATE em massa não passa pelo @PreUpdate. O preço em reais materializado volta para NULL e é
+    // recalculado pelo reprecificador; até lá a leitura converte pela cotação vigente
+    @Override
+    @Transactional
+    public int updateByFilters(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            String newColor,
+            BigDecimal priceFactor
+    ) {
+        Object[] values = normalizedValues(plate, brand, vehicleYear, color, minPrice, maxPrice);
+        int shape = shapeOf(values);
+
+        StringJoiner assignments = new StringJoiner(", ", "UPDATE Vehicle v SET ", "");
+        if (nonNull(newColor)) {
+            assignments.add("v.color = :newColor");
+            assignments.add("v.colorNormalized = :newColorNormalized");
+        }
+        if (nonNull(priceFactor)) {
+            assignments.add("v.price = ROUND(v.price * CAST(:priceFactor AS BigDecimal(19, 10)), " + Vehicle.PRICE_SCALE + ")");
+            assignments.add("v.priceBrl = NULL");
+            assignments.add("v.priceBrlRate = NULL");
+        }
+
+        Query update = entityManager.createQuery(assignments + filterPredicates(shape).toString());
+        bind(update, shape, values);
+        if (nonNull(newColor)) {
+            update.setParameter("newColor", newColor);
+            update.setParameter("newColorNormalized", Vehicle.normalize(newColor));
+        }
+        if (nonNull(priceFactor)) {
+            update.setParameter("priceFactor", priceFactor);
+        }
+        return update.executeUpdate();
+    }
+
+    // Desativa e move para vehicles_archive numa transação, com três comandos sobre o conjunto inteiro
+    // (como archive(id) faz para um veículo). Retorna quantos veículos ativos foram removidos
+    @Override
+    @Transactional
+    public int archiveByFilters(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice
+    ) {
+        Object[] values = normalizedValues(plate, brand, vehicleYear, color, minPrice, maxPrice);
+        int shape = shapeOf(values);
+
+        Query deactivate = entityManager.createQuery(
+                "UPDATE Vehicle v SET v.active = false" + filterPredicates(shape).add("v.active = true"));
+        bind(deactivate, shape, values);
+        int deactivated = deactivate.executeUpdate();
+        if (deactivated == 0) {
+            return 0;
+        }
+
+        String inactive = filterPredicates(shape).add("v.active = false").toString();
+        Query copy = entityManager.createQuery("""
+                INSERT INTO ArchivedVehicle (id, plate, plateNormalized, brand, color, vehicleYear, price, archivedAt)
+                SELECT v.id, v.plate, v.plateNormalized, v.brand, v.color, v.vehicleYear, v.price, :archivedAt
+                FROM Vehicle v""" + inactive);
+        bind(copy, shape, values);
+        copy.setParameter("archivedAt", Instant.now());
+        copy.executeUpdate();
+
+        Query delete = entityManager.createQuery("DELETE FROM Vehicle v" + inactive);
+        bind(delete, shape, values);
+        delete.executeUpdate();
+        return deactivated;
+    }
+
+    private static Object[] normalizedValues(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice
+    ) {
+        return new Object[]{
+                Vehicle.normalize(plate),
+                Vehicle.normalize(brand),
+                vehicleYear,
+                Vehicle.normalize(color),
+                minPrice,
+                maxPrice
+        };
+    }
+
+    static int shapeOf(Object[] values) {
+        int shape = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (nonNull(values[i])) {
+                shape |= 1 << i;
+            }
+        }
+        return shape;
+    }
+
+    int cachedShapes() {
+        return queriesByShape.size();
+    }
+
+    private static FilterQueries buildQueries(int shape) {
+        String where = filterPredicates(shape).toString();
+        return new FilterQueries(
+                ROW_SELECT + where,
+                ROW_SELECT + where + " ORDER BY v.id",
+                "SELECT COUNT(v) FROM Vehicle v" + where
+        );
+    }
+
+    // "(chave, id) > (:chave, :id)" é resolvido pelo H2 como busca no índice (chave, id), sem OFFSET nem COUNT
+    private static String buildKeysetQuery(KeysetShape keysetShape) {
+        StringJoiner where = filterPredicates(keysetShape.filters());
+        String column = "v." + keysetShape.property();
+        String comparison = keysetShape.direction().isAscending() ? " > " : " < ";
+        String direction = keysetShape.direction().isAscending() ? " ASC" : " DESC";
+        boolean idOnly = "id".equals(keysetShape.property());
+
+        if (keysetShape.after()) {
+            where.add(idOnly
+                    ? "v.id" + comparison + ":keysetId"
+                    : "(" + column + ", v.id)" + comparison + "(:keysetValue, :keysetId)");
+        }
+        String orderBy = idOnly
+                ? " ORDER BY v.id" + direction
+                : " ORDER BY " + column + direction + ", v.id" + direction;
+        return ROW_SELECT + where + orderBy;
+    }
+
+    private static StringJoiner filterPredicates(int shape) {
+        // Desativados vão para vehicles_archive: a tabela só tem veículos ativos e dispensa o filtro por active
+        StringJoiner where = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+        for (int i = 0; i < PREDICATES.length; i++) {
+            if ((shape & 1 << i) != 0) {
+                where.add(PREDICATES[i]);
+            }
+        }
+        return where;
+    }
+
+    private static void bind(Query query, int shape, Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if ((shape & 1 << i) != 0) {
+                query.setParameter(PARAMETERS[i], values[i]);
+            }
+        }
+    }
+
+    private record FilterQueries(String rowSelect, String rowSelectById, String count) {
+    }
+
+    private record KeysetShape(int filters, String property, Sort.Direction direction, boolean after) {
+    }
+}
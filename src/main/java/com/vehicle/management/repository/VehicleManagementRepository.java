@@ -2,8 +2,10 @@ package com.vehicle.management.repository;
 
 import com.vehicle.management.dto.VehicleBrandReportDTO;
 import com.vehicle.management.model.entity.Vehicle;
-import org.springframework.data.domain.Page;
+import com.vehicle.management.model.page.KeysetCursor;
+import com.vehicle.management.model.projection.VehicleRow;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -12,43 +14,51 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Repository
-public interface VehicleManagementRepository extends JpaRepository<Vehicle, UUID> {
+public interface VehicleManagementRepository extends JpaRepository<Vehicle, UUID>, VehicleFilterRepository, VehicleBulkRepository {
+    @Transactional(readOnly = true)
     @Query("""
-        SELECT v FROM Vehicle v WHERE
-        (:plate IS NULL OR LOWER(v.plate) = LOWER(:plate)) AND
-        (:brand IS NULL OR LOWER(v.brand) = LOWER(:brand)) AND
-        (:vehicleYear IS NULL OR v.vehicleYear = :vehicleYear) AND
-        (:color IS NULL OR LOWER(v.color) = LOWER(:color)) AND
-        (:minPrice IS NULL OR v.price >= :minPrice) AND
-        (:maxPrice IS NULL OR v.price <= :maxPrice) AND
-        v.active = true
+    SELECT new com.vehicle.management.model.projection.VehicleRow(
+        v.id, v.plate, v.brand, v.color, v.vehicleYear, v.price, v.priceBrl, v.priceBrlRate
+    )
+    FROM Vehicle v
+    WHERE v.id = :id
     """)
-    Page<Vehicle> findByFilters(
-            @Param("plate") String plate,
-            @Param("brand") String brand,
-            @Param("vehicleYear") Integer vehicleYear,
-            @Param("color") String color,
-            @Param("minPrice") BigDecimal minPrice,
-            @Param("maxPrice") BigDecimal maxPrice,
-            Pageable pageable
-    );
+    Optional<VehicleRow> findRowById(@Param("id") UUID id);
 
-    Page<Vehicle> findByPriceBetweenAndActiveTrue(BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable);
+    Optional<Vehicle> findByPlate(String plate);
 
-    Page<Vehicle> findByActiveTrue(Pageable pageable);
+    // Placas já cadastradas entre as informadas: uma consulta por lote da importação, pelo índice único de plate
+    @Transactional(readOnly = true)
+    @Query("SELECT v.plate FROM Vehicle v WHERE v.plate IN :plates")
+    List<String> findExistingPlates(@Param("plates") Collection<String> plates);
 
-    Optional<Vehicle> findByIdAndActiveTrue(UUID id);
+    // Trava a linha até o fim da transação de arquivamento; só uma exclusão concorrente recebe 1
+    @Modifying
+    @Transactional
+    @Query("UPDATE Vehicle v SET v.active = false WHERE v.id = :id AND v.active = true")
+    int deactivateById(UUID id);
 
-    Optional<Vehicle> findByPlateAndActiveTrue(String plate);
+    @Query("""
+    SELECT v.id FROM Vehicle v
+    WHERE v.priceBrlRate IS NULL OR v.priceBrlRate <> :rate
+    """)
+    List<UUID> findIdsToReprice(@Param("rate") BigDecimal rate, Pageable pageable);
 
     @Modifying
     @Transactional
-    @Query("UPDATE Vehicle v SET v.active = false WHERE v.id = :id")
-    void deactivateById(UUID id);
+    @Query(value = """
+    UPDATE vehicles
+    SET price_brl = ROUND(price * CAST(:rate AS DECIMAL(15, 6)), 2), price_brl_rate = :rate
+    WHERE id IN (:ids)
+    """, nativeQuery = true)
+    int repriceByIds(@Param("ids") List<UUID> ids, @Param("rate") BigDecimal rate);
 
     @Query("""
     SELECT new com.vehicle.management.dto.VehicleBrandReportDTO(
@@ -56,8 +66,20 @@ public interface VehicleManagementRepository extends JpaRepository<Vehicle, UUID
         COUNT(v)
     )
     FROM Vehicle v
-    WHERE v.active = true
     GROUP BY v.brand
     """)
-    Page<VehicleBrandReportDTO> countVehiclesByBrand(Pageable pageable);
+    List<VehicleBrandReportDTO> countVehiclesByBrand();
+
+    // Percorre os veículos ativos em lotes pelo id (keyset), cada lote em sua própria consulta
+    default void forEachActiveRow(int batchSize, Consumer<VehicleRow> consumer) {
+        KeysetCursor after = null;
+        List<VehicleRow> rows;
+        do {
+            rows = findByFiltersAfter(null, null, null, null, null, null, after, "id", Sort.Direction.ASC, batchSize);
+            rows.forEach(consumer);
+            if (!rows.isEmpty()) {
+                after = KeysetCursor.after(rows.get(rows.size() - 1), "id", Sort.Direction.ASC);
+            }
+        } while (rows.size() == batchSize);
+    }
 }
\ No newline at end of file
@@ -3,9 +3,12 @@ package com.vehicle.management.security.config;
 import com.vehicle.management.security.jwt.CustomAccessDeniedHandler;
 import com.vehicle.management.security.jwt.CustomAuthenticationEntryPoint;
 import com.vehicle.management.security.jwt.JwtAuthFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -29,6 +32,9 @@ public class SecurityConfig {
     @Autowired
     private CustomAuthenticationEntryPoint authenticationEntryPoint;
 
+    @Autowired
+    private Environment environment;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -40,7 +46,11 @@ public class SecurityConfig {
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
-                .authorizeHttpRequests(auth -> auth
+                .authorizeHttpRequests(auth -> {
+                    auth
+                        // Fim de uma resposta em fluxo (StreamingResponseBody) e página de erro (ex.: 415): a requisição
+                        // original já passou pela autorização, e sem sessão o despacho interno não teria o usuário
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers(
                                 "/swagger-ui.html",
                                 "/swagger-ui/**",
@@ -51,13 +61,20 @@ public class SecurityConfig {
                                 "/favicon.ico"
                         ).permitAll()
                         .requestMatchers("/auth/**").permitAll()
-                        .requestMatchers("/h2-console/**").permitAll()
+                        .requestMatchers("/h2-console/**").permitAll();
+                    // O provedor de cotação falso só é registrado no perfil stub-rates
+                    if (environment.acceptsProfiles(Profiles.of("stub-rates"))) {
+                        auth.requestMatchers("/stub/**").permitAll();
+                    }
+                    auth
+                        .requestMatchers("/veiculos/admin/**")
+                        .hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/veiculos/**")
                         .hasAnyRole("USER", "ADMIN")
                         .requestMatchers("/veiculos/**")
                         .hasRole("ADMIN")
-                        .anyRequest().authenticated()
-                )
+                        .anyRequest().authenticated();
+                })
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
 
         http.headers(headers -> headers.frameOptions(frame -> frame.disable()));
@@ -1,5 +1,6 @@
 package com.vehicle.management.security.user.model.entity;
 
+import com.vehicle.management.model.id.GeneratedUuidV7;
 import com.vehicle.management.security.model.enums.Role;
 import jakarta.persistence.*;
 
@@ -13,7 +14,7 @@ import java.util.UUID;
 )
 public class User {
     @Id
-    @GeneratedValue
+    @GeneratedUuidV7
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
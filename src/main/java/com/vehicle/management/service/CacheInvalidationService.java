@@ -0,0 +1,8 @@
+package com.vehicle.management.service;
+
+import com.vehicle.management.event.CacheRegion;
+
+public interface CacheInvalidationService {
+    void invalidate(CacheRegion region, Object key);
+    void invalidateAll(CacheRegion region);
+}
@@ -0,0 +1,10 @@
+package com.vehicle.management.service;
+
+import com.vehicle.management.model.rate.RateSnapshot;
+
+import java.time.Instant;
+
+public interface RateHistoryService {
+    void record(RateSnapshot snapshot);
+    RateSnapshot getSnapshotAt(Instant asOf);
+}
@@ -0,0 +1,12 @@
+package com.vehicle.management.service;
+
+import com.vehicle.management.dto.VehicleAnalyticsReportDTO;
+import com.vehicle.management.dto.response.AppResponseDTO;
+import com.vehicle.management.model.rate.CurrencyCode;
+
+import java.math.BigDecimal;
+
+public interface VehicleAnalyticsService {
+    AppResponseDTO<VehicleAnalyticsReportDTO> getReport(String dimensions, String brand, Integer vehicleYear, String color, BigDecimal minPrice, BigDecimal maxPrice, CurrencyCode currency, boolean histogram);
+    void rebuild();
+}
@@ -0,0 +1,21 @@
+package com.vehicle.management.service;
+
+import com.vehicle.management.dto.ArchivedVehicleDTO;
+import com.vehicle.management.dto.response.AppResponseDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public interface VehicleArchiveService {
+    boolean archive(UUID id);
+
+    int archiveDeactivated();
+
+    int archiveByFilters(String plate, String brand, Integer vehicleYear, String color, BigDecimal minPrice, BigDecimal maxPrice);
+
+    AppResponseDTO<Page<ArchivedVehicleDTO>> getArchivedVehicles(String plate, Pageable pageable);
+
+    AppResponseDTO<ArchivedVehicleDTO> getArchivedVehicleById(UUID id);
+}
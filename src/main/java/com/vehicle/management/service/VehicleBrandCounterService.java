@@ -0,0 +1,10 @@
+package com.vehicle.management.service;
+
+import com.vehicle.management.dto.VehicleBrandReportDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface VehicleBrandCounterService {
+    Page<VehicleBrandReportDTO> getReport(Pageable pageable);
+    void reconcile();
+}
@@ -0,0 +1,12 @@
+package com.vehicle.management.service;
+
+import com.vehicle.management.dto.VehicleBulkResultDTO;
+import com.vehicle.management.dto.request.VehicleBulkFilterDTO;
+import com.vehicle.management.dto.request.VehicleBulkUpdateRequestDTO;
+import com.vehicle.management.dto.response.AppResponseDTO;
+
+public interface VehicleBulkService {
+    AppResponseDTO<VehicleBulkResultDTO> updateVehicles(VehicleBulkUpdateRequestDTO request);
+
+    AppResponseDTO<VehicleBulkResultDTO> deleteVehicles(VehicleBulkFilterDTO filters);
+}
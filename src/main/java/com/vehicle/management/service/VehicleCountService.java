@@ -0,0 +1,7 @@
+package com.vehicle.management.service;
+
+import java.math.BigDecimal;
+
+public interface VehicleCountService {
+    long countByFilters(String plate, String brand, Integer vehicleYear, String color, BigDecimal minPrice, BigDecimal maxPrice);
+}
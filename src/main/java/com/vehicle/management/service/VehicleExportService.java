@@ -0,0 +1,20 @@
+package com.vehicle.management.service;
+
+import com.vehicle.management.model.rate.CurrencyCode;
+import com.vehicle.management.model.transfer.VehicleFileFormat;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.math.BigDecimal;
+
+public interface VehicleExportService {
+    StreamingResponseBody exportVehicles(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            CurrencyCode currency,
+            VehicleFileFormat format
+    );
+}
@@ -0,0 +1,11 @@
+package com.vehicle.management.service;
+
+import com.vehicle.management.dto.VehicleImportReportDTO;
+import com.vehicle.management.dto.response.AppResponseDTO;
+import com.vehicle.management.model.transfer.VehicleFileFormat;
+
+import java.io.InputStream;
+
+public interface VehicleImportService {
+    AppResponseDTO<VehicleImportReportDTO> importVehicles(InputStream body, VehicleFileFormat format);
+}
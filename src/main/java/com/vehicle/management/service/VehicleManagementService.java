@@ -6,15 +6,21 @@ import com.vehicle.management.dto.request.VehiclePatchRequestDTO;
 import com.vehicle.management.dto.request.VehicleRequestDTO;
 
 import com.vehicle.management.dto.response.AppResponseDTO;
+import com.vehicle.management.dto.response.CursorPageDTO;
+import com.vehicle.management.model.rate.CurrencyCode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.UUID;
 
 public interface VehicleManagementService {
-    AppResponseDTO<Page<VehicleDTO>> getVehiclesByFilters(String plate, String brand, Integer vehicleYear, String color, BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable);
-    AppResponseDTO<VehicleDTO> getVehicleById(UUID id);
+    AppResponseDTO<Page<VehicleDTO>> getVehiclesByFilters(String plate, String brand, Integer vehicleYear, String color, BigDecimal minPrice, BigDecimal maxPrice, CurrencyCode currency, Instant asOf, Pageable pageable);
+    AppResponseDTO<Slice<VehicleDTO>> getVehicleSliceByFilters(String plate, String brand, Integer vehicleYear, String color, BigDecimal minPrice, BigDecimal maxPrice, CurrencyCode currency, Instant asOf, Pageable pageable);
+    AppResponseDTO<CursorPageDTO<VehicleDTO>> getVehiclesByCursor(String plate, String brand, Integer vehicleYear, String color, BigDecimal minPrice, BigDecimal maxPrice, CurrencyCode currency, Instant asOf, String cursor, Pageable pageable);
+    AppResponseDTO<VehicleDTO> getVehicleById(UUID id, CurrencyCode currency, Instant asOf);
     AppResponseDTO<Page<VehicleBrandReportDTO>> getVehicleBrandReport(Pageable pageable);
     AppResponseDTO<VehicleDTO> addVehicle(VehicleRequestDTO vehicleDTO);
     AppResponseDTO<VehicleDTO> updateVehicle(UUID id, VehicleRequestDTO vehicleDTO);
@@ -1,9 +1,12 @@
 package com.vehicle.management.service;
 
+import com.vehicle.management.model.rate.RateSnapshot;
+
 import java.math.BigDecimal;
 
 public interface VehiclePriceConversionService {
     BigDecimal getUsdToBrlRate();
+    RateSnapshot getRateSnapshot();
     BigDecimal convertBrlToUsd(BigDecimal brlAmount);
     BigDecimal convertUsdToBrl(BigDecimal usdAmount);
 }
@@ -0,0 +1,7 @@
+package com.vehicle.management.service;
+
+import java.math.BigDecimal;
+
+public interface VehicleRepricingService {
+    int repriceAll(BigDecimal usdToBrlRate);
+}
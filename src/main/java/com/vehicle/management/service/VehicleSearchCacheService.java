@@ -0,0 +1,25 @@
+package com.vehicle.management.service;
+
+import com.vehicle.management.dto.VehicleSearchCacheStatsDTO;
+import com.vehicle.management.dto.response.AppResponseDTO;
+import com.vehicle.management.model.projection.VehicleRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.function.Supplier;
+
+public interface VehicleSearchCacheService {
+    Page<VehicleRow> getPage(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Pageable pageable,
+            Supplier<Page<VehicleRow>> loader
+    );
+
+    AppResponseDTO<VehicleSearchCacheStatsDTO> getStats();
+}
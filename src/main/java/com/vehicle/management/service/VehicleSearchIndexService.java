@@ -0,0 +1,13 @@
+package com.vehicle.management.service;
+
+import com.vehicle.management.model.projection.VehicleRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+
+public interface VehicleSearchIndexService {
+    boolean isAvailable();
+    Page<VehicleRow> search(String plate, String brand, Integer vehicleYear, String color, BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable);
+    void rebuild();
+}
@@ -0,0 +1,98 @@
+package com.vehicle.management.service.impl;
+
+import com.vehicle.management.event.CacheInvalidationEvent;
+import com.vehicle.management.event.CacheRegion;
+import com.vehicle.management.service.CacheInvalidationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static java.util.Objects.nonNull;
+
+@Service
+public class CacheInvalidationServiceImpl implements CacheInvalidationService, MessageListener {
+    public static final String CACHE_INVALIDATION_CHANNEL = "CACHE_INVALIDATION";
+    private static final char SEPARATOR = '|';
+
+    private final Logger logger = LoggerFactory.getLogger(CacheInvalidationServiceImpl.class);
+
+    // Identifica este nó para ignorar as próprias mensagens, que já foram aplicadas localmente
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void invalidate(CacheRegion region, Object key) {
+        publish(new CacheInvalidationEvent(region, String.valueOf(key)));
+    }
+
+    @Override
+    public void invalidateAll(CacheRegion region) {
+        publish(new CacheInvalidationEvent(region, null));
+    }
+
+    private void publish(CacheInvalidationEvent event) {
+        // Dentro de uma transação só avisa após o commit, para os outros nós não recarregarem o dado antigo
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doPublish(event);
+                }
+            });
+            return;
+        }
+        doPublish(event);
+    }
+
+    private void doPublish(CacheInvalidationEvent event) {
+        eventPublisher.publishEvent(event);
+        try {
+            redisTemplate.convertAndSend(CACHE_INVALIDATION_CHANNEL, encode(event));
+        } catch (RuntimeException e) {
+            // Sem Redis os caches dos outros nós expiram pelo próprio TTL
+            logger.warn("Falha ao publicar a invalidação de cache {}: {}", event, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", 3);
+        if (parts.length != 3) {
+            logger.warn("Mensagem de invalidação de cache inválida: {}", body);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+
+        CacheRegion region;
+        try {
+            region = CacheRegion.valueOf(parts[1]);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Região de cache desconhecida na invalidação: {}", parts[1]);
+            return;
+        }
+        eventPublisher.publishEvent(new CacheInvalidationEvent(region, parts[2].isEmpty() ? null : parts[2], true));
+    }
+
+    // Formato compacto: <nó>|<região>|<chave>, com chave vazia para a região inteira
+    private String encode(CacheInvalidationEvent event) {
+        return nodeId + SEPARATOR + event.region().name() + SEPARATOR + (nonNull(event.key()) ? event.key() : "");
+    }
+}
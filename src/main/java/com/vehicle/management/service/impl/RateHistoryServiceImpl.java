@@ -0,0 +1,99 @@
+package com.vehicle.management.service.impl;
+
+import com.vehicle.management.model.rate.CurrencyCode;
+import com.vehicle.management.model.rate.RateSnapshot;
+import com.vehicle.management.model.rate.series.GorillaBlock;
+import com.vehicle.management.model.rate.series.RateTimeSeries;
+import com.vehicle.management.repository.RateHistoryRepository;
+import com.vehicle.management.service.RateHistoryService;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Service
+public class RateHistoryServiceImpl implements RateHistoryService {
+
+    private final Map<CurrencyCode, RateTimeSeries> series = new EnumMap<>(CurrencyCode.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock persistLock = new ReentrantLock();
+
+    @Autowired
+    private RateHistoryRepository rateHistoryRepository;
+
+    @PostConstruct
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            rateHistoryRepository.load().forEach((currency, blocks) ->
+                    blocks.forEach(series.computeIfAbsent(currency, key -> new RateTimeSeries())::restore));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void record(RateSnapshot snapshot) {
+        long timestamp = snapshot.fetchedAt().getEpochSecond();
+        Map<CurrencyCode, GorillaBlock> sealed = new EnumMap<>(CurrencyCode.class);
+        Map<CurrencyCode, GorillaBlock> open = new EnumMap<>(CurrencyCode.class);
+
+        // Gravações em disco na ordem das alterações, sem segurar o lock de escrita: consultas asOf não esperam I/O
+        persistLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                snapshot.rates().forEach((currency, rate) -> {
+                    if (currency == CurrencyCode.USD) {
+                        return;
+                    }
+                    RateTimeSeries currencySeries = series.computeIfAbsent(currency, key -> new RateTimeSeries());
+                    GorillaBlock sealedBlock = currencySeries.append(timestamp, rate.doubleValue());
+                    if (sealedBlock != null) {
+                        sealed.put(currency, sealedBlock);
+                    }
+                });
+                // Blocos fechados não mudam mais; o aberto é copiado porque continua recebendo pontos
+                series.forEach((currency, currencySeries) -> open.put(currency, currencySeries.getOpenBlock().copy()));
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            rateHistoryRepository.appendSealed(sealed);
+            rateHistoryRepository.saveOpen(open);
+        } finally {
+            persistLock.unlock();
+        }
+    }
+
+    @Override
+    public RateSnapshot getSnapshotAt(Instant asOf) {
+        long timestamp = asOf.getEpochSecond();
+        Map<CurrencyCode, BigDecimal> rates = new EnumMap<>(CurrencyCode.class);
+
+        lock.readLock().lock();
+        try {
+            series.forEach((currency, currencySeries) -> {
+                OptionalDouble rate = currencySeries.valueAt(timestamp);
+                if (rate.isPresent()) {
+                    rates.put(currency, BigDecimal.valueOf(rate.getAsDouble()));
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (!rates.containsKey(CurrencyCode.BRL)) {
+            throw new IllegalArgumentException(String.format("Não há cotação registrada para a data informada (%s).", asOf));
+        }
+        return RateSnapshot.historical(rates, asOf);
+    }
+}
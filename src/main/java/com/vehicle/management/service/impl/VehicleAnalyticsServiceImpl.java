@@ -0,0 +1,308 @@
+package com.vehicle.management.service.impl;
+
+import com.vehicle.management.dto.PriceBandDTO;
+import com.vehicle.management.dto.VehicleAnalyticsGroupDTO;
+import com.vehicle.management.dto.VehicleAnalyticsReportDTO;
+import com.vehicle.management.dto.VehicleFilterDTO;
+import com.vehicle.management.dto.response.AppResponseDTO;
+import com.vehicle.management.mapper.JsonMapper;
+import com.vehicle.management.model.analytics.CubeCell;
+import com.vehicle.management.model.analytics.CubeDimension;
+import com.vehicle.management.model.analytics.CubeQuery;
+import com.vehicle.management.model.analytics.VehicleCube;
+import com.vehicle.management.event.VehicleBatchImportedEvent;
+import com.vehicle.management.event.VehicleBulkChangedEvent;
+import com.vehicle.management.event.VehicleChangedEvent;
+import com.vehicle.management.model.price.FixedPointPrice;
+import com.vehicle.management.model.projection.VehicleRow;
+import com.vehicle.management.model.rate.CurrencyCode;
+import com.vehicle.management.model.rate.RateSnapshot;
+import com.vehicle.management.repository.VehicleManagementRepository;
+import com.vehicle.management.service.VehicleAnalyticsService;
+import com.vehicle.management.service.VehiclePriceConversionService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.vehicle.management.model.price.FixedPointPrice.USD_SCALE;
+import static java.util.Objects.nonNull;
+
+// Cubo em memória dos veículos ativos, atualizado a cada escrita e reconstruído periodicamente a partir do banco.
+// As consultas agregam em paralelo (fork/join) sem tocar na tabela de veículos.
+@Service
+public class VehicleAnalyticsServiceImpl implements VehicleAnalyticsService {
+
+    private final Logger logger = LoggerFactory.getLogger(VehicleAnalyticsServiceImpl.class);
+
+    // Agregações compartilham a trava de leitura; escritas e a troca pelo cubo reconstruído são exclusivas
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Serializa as reconstruções (periódica e pendente): só uma registra as escritas concorrentes por vez
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // Alteração em lote ainda não refletida no cubo; a recarga roda no agendador, fora da requisição
+    private volatile boolean rebuildPending;
+
+    // Escritas recebidas durante a carga do banco, reaplicadas sobre o cubo recarregado antes da troca
+    private volatile List<VehicleChangedEvent> writesDuringRebuild;
+
+    private VehicleCube cube = new VehicleCube();
+
+    private ForkJoinPool pool;
+
+    @Autowired
+    private VehicleManagementRepository repository;
+
+    @Autowired
+    private VehiclePriceConversionService vehiclePriceConversionService;
+
+    // 0 usa um worker por núcleo disponível
+    @Value("${vehicle.analytics.parallelism:0}")
+    private int parallelism;
+
+    // Em USD, a moeda em que os preços são armazenados
+    @Value("${vehicle.analytics.price-band-width:10000}")
+    private BigDecimal priceBandWidth;
+
+    @Value("${vehicle.analytics.rebuild-batch-size:1000}")
+    private int rebuildBatchSize;
+
+    @PostConstruct
+    public void start() {
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void stop() {
+        pool.shutdown();
+    }
+
+    @Override
+    public AppResponseDTO<VehicleAnalyticsReportDTO> getReport(
+            String dimensions,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            CurrencyCode currency,
+            boolean histogram
+    ) {
+        VehicleFilterDTO filters = VehicleFilterDTO.builder()
+                .brand(brand)
+                .vehicleYear(vehicleYear)
+                .color(color)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .currency(currency)
+                .build();
+        Map<String, Object> parameters = JsonMapper.toNonNullMap(filters);
+        if (nonNull(dimensions)) {
+            parameters.put("dimensoes", dimensions);
+        }
+        if (histogram) {
+            parameters.put("histograma", true);
+        }
+
+        Set<CubeDimension> groupBy = CubeDimension.fromParameter(dimensions);
+        RateSnapshot rateSnapshot = vehiclePriceConversionService.getRateSnapshot();
+        long bandWidth = toUnits(priceBandWidth);
+        CubeQuery query = new CubeQuery(
+                groupBy,
+                brand,
+                vehicleYear,
+                color,
+                nonNull(minPrice) ? toUnits(rateSnapshot.toUsd(minPrice, currency)) : null,
+                nonNull(maxPrice) ? toUnits(rateSnapshot.toUsd(maxPrice, currency)) : null,
+                bandWidth,
+                histogram
+        );
+
+        List<VehicleAnalyticsGroupDTO> groups = new ArrayList<>();
+        long total = 0;
+        lock.readLock().lock();
+        try {
+            for (CubeCell cell : cube.aggregate(query, pool)) {
+                groups.add(toGroup(cell, bandWidth, rateSnapshot, currency));
+                total += cell.getCount();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (groups.isEmpty()) {
+            return AppResponseDTO.getSuccessResponse(
+                    "Não há veículos ativos para os parâmetros informados.",
+                    parameters
+            );
+        }
+
+        VehicleAnalyticsReportDTO report = VehicleAnalyticsReportDTO.builder()
+                .dimensions(groupBy.stream().map(CubeDimension::parameter).toList())
+                .totalVehicles(total)
+                .priceBandWidth(convert(bandWidth, rateSnapshot, currency))
+                .groups(groups)
+                .build();
+
+        return AppResponseDTO.<VehicleAnalyticsReportDTO>builder()
+                .content(report)
+                .status(200)
+                .success(true)
+                .message("Relatório criado com sucesso!")
+                .parameters(parameters)
+                .currency(currency)
+                .exchangeRate(rateSnapshot.rate(currency))
+                .build();
+    }
+
+    @EventListener
+    public void onVehicleChanged(VehicleChangedEvent event) {
+        applyWrites(List.of(event));
+    }
+
+    // Cada veículo importado é uma criação; o lote inteiro é aplicado com uma única aquisição da trava
+    @EventListener
+    public void onVehiclesImported(VehicleBatchImportedEvent event) {
+        applyWrites(event.rows().stream().map(row -> new VehicleChangedEvent(null, row)).toList());
+    }
+
+    // Alteração em lote não informa o antes e depois de cada veículo: uma recarga em vez de um ajuste por veículo,
+    // feita pelo agendador para não prender a requisição do lote
+    @EventListener
+    public void onVehiclesChangedInBulk(VehicleBulkChangedEvent event) {
+        rebuildPending = true;
+    }
+
+    @Scheduled(fixedDelayString = "${vehicle.analytics.stale-rebuild-delay:1s}")
+    public void rebuildIfStale() {
+        if (rebuildPending) {
+            rebuild();
+        }
+    }
+
+    // Recarrega do banco; traz escritas de outros nós e descarta desvios acumulados
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${vehicle.analytics.rebuild-interval:5m}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            // Limpo antes da carga: um lote que termine durante ela pede outra recarga
+            rebuildPending = false;
+            lock.writeLock().lock();
+            try {
+                writesDuringRebuild = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            VehicleCube rebuilt = new VehicleCube();
+            repository.forEachActiveRow(rebuildBatchSize, row ->
+                    rebuilt.upsert(row.id(), row.brand(), row.color(), row.vehicleYear(), toUnits(row.price())));
+
+            // Uma escrita durante a carga pode ou não ter sido lida; como upsert e remoção por id são idempotentes,
+            // reaplicá-la deixa o veículo no estado final de qualquer forma
+            lock.writeLock().lock();
+            try {
+                writesDuringRebuild.forEach(event -> apply(rebuilt, event));
+                cube = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.info("Cubo de relatórios reconstruído com {} veículos ativos", rebuilt.size());
+        } finally {
+            writesDuringRebuild = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    private void applyWrites(List<VehicleChangedEvent> events) {
+        lock.writeLock().lock();
+        try {
+            events.forEach(event -> apply(cube, event));
+            List<VehicleChangedEvent> pending = writesDuringRebuild;
+            if (pending != null) {
+                pending.addAll(events);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(VehicleCube target, VehicleChangedEvent event) {
+        VehicleRow after = event.after();
+        if (after != null) {
+            target.upsert(after.id(), after.brand(), after.color(), after.vehicleYear(), toUnits(after.price()));
+        } else {
+            target.remove(event.before().id());
+        }
+    }
+
+    private VehicleAnalyticsGroupDTO toGroup(CubeCell cell, long bandWidth, RateSnapshot rateSnapshot, CurrencyCode currency) {
+        VehicleAnalyticsGroupDTO.VehicleAnalyticsGroupDTOBuilder group = VehicleAnalyticsGroupDTO.builder()
+                .count(cell.getCount())
+                .minPrice(convert(cell.getMinPrice(), rateSnapshot, currency))
+                .maxPrice(convert(cell.getMaxPrice(), rateSnapshot, currency))
+                .averagePrice(rateSnapshot.fromUsd(
+                        FixedPointPrice.toBigDecimal(cell.getPriceSum(), USD_SCALE)
+                                .divide(BigDecimal.valueOf(cell.getCount()), USD_SCALE, RoundingMode.HALF_UP),
+                        currency));
+
+        if (cell.getBrand() != VehicleCube.NONE) {
+            group.brand(cube.brandLabel(cell.getBrand()));
+        }
+        if (cell.getVehicleYear() != VehicleCube.NONE) {
+            group.vehicleYear(cell.getVehicleYear());
+        }
+        if (cell.getColor() != VehicleCube.NONE) {
+            group.color(cube.colorLabel(cell.getColor()));
+        }
+        if (cell.getPriceBand() != VehicleCube.NONE) {
+            group.priceBand(band(cell.getPriceBand(), bandWidth, null, rateSnapshot, currency));
+        }
+
+        long[] histogram = cell.getHistogram();
+        if (histogram != null) {
+            List<PriceBandDTO> bands = new ArrayList<>();
+            for (int band = 0; band < histogram.length; band++) {
+                if (histogram[band] > 0) {
+                    bands.add(band(band, bandWidth, histogram[band], rateSnapshot, currency));
+                }
+            }
+            group.histogram(bands);
+        }
+        return group.build();
+    }
+
+    private PriceBandDTO band(int band, long bandWidth, Long count, RateSnapshot rateSnapshot, CurrencyCode currency) {
+        return PriceBandDTO.builder()
+                .start(convert(band * bandWidth, rateSnapshot, currency))
+                .end(band < VehicleCube.MAX_PRICE_BANDS - 1 ? convert((band + 1) * bandWidth, rateSnapshot, currency) : null)
+                .count(count)
+                .build();
+    }
+
+    private static BigDecimal convert(long usdUnits, RateSnapshot rateSnapshot, CurrencyCode currency) {
+        return rateSnapshot.fromUsd(FixedPointPrice.toBigDecimal(usdUnits, USD_SCALE), currency);
+    }
+
+    private static long toUnits(BigDecimal usdAmount) {
+        return FixedPointPrice.toUnits(usdAmount.setScale(USD_SCALE, RoundingMode.HALF_UP), USD_SCALE);
+    }
+}
@@ -0,0 +1,160 @@
+package com.vehicle.management.service.impl;
+
+import com.vehicle.management.dto.ArchivedVehicleDTO;
+import com.vehicle.management.dto.VehicleFilterDTO;
+import com.vehicle.management.dto.response.AppResponseDTO;
+import com.vehicle.management.event.CacheRegion;
+import com.vehicle.management.mapper.JsonMapper;
+import com.vehicle.management.mapper.VehicleMapper;
+import com.vehicle.management.model.entity.ArchivedVehicle;
+import com.vehicle.management.model.entity.Vehicle;
+import com.vehicle.management.repository.VehicleArchiveRepository;
+import com.vehicle.management.repository.VehicleManagementRepository;
+import com.vehicle.management.service.CacheInvalidationService;
+import com.vehicle.management.service.VehicleArchiveService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Separação quente/frio: vehicles guarda só veículos ativos e os removidos vão para vehicles_archive
+@Service
+public class VehicleArchiveServiceImpl implements VehicleArchiveService {
+
+    private final Logger logger = LoggerFactory.getLogger(VehicleArchiveServiceImpl.class);
+
+    private final ReentrantLock archivingLock = new ReentrantLock();
+
+    @Autowired
+    private VehicleManagementRepository repository;
+
+    @Autowired
+    private VehicleArchiveRepository archiveRepository;
+
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Value("${vehicle.archive.batch-size:500}")
+    private int batchSize;
+
+    // Desativa e move na mesma transação; false quando outra exclusão chegou primeiro
+    @Override
+    @Transactional
+    public boolean archive(UUID id) {
+        if (repository.deactivateById(id) == 0) {
+            return false;
+        }
+        archiveRepository.moveInactive(List.of(id));
+        return true;
+    }
+
+    // Veículos desativados que ficaram em vehicles: gravados antes do arquivo ou por uma versão anterior
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${vehicle.archive.interval:10m}")
+    public void archivePending() {
+        archiveDeactivated();
+    }
+
+    // Cada lote é movido em sua própria transação
+    @Override
+    public int archiveDeactivated() {
+        if (!archivingLock.tryLock()) {
+            return 0;
+        }
+        try {
+            int total = 0;
+            List<UUID> ids = archiveRepository.findInactiveIds(PageRequest.of(0, batchSize));
+            while (!ids.isEmpty()) {
+                int moved = archiveRepository.moveInactive(ids);
+                if (moved == 0) {
+                    break;
+                }
+                total += moved;
+                ids = archiveRepository.findInactiveIds(PageRequest.of(0, batchSize));
+            }
+
+            if (total > 0) {
+                // Sem o filtro por active, as listagens em cache ainda podiam incluir esses veículos
+                cacheInvalidationService.invalidateAll(CacheRegion.VEHICLE);
+                logger.info("{} veículos desativados movidos para o arquivo.", total);
+            }
+            return total;
+        } finally {
+            archivingLock.unlock();
+        }
+    }
+
+    // Remoção em lote por filtro. Espera o arquivamento periódico terminar: os dois copiam veículos inativos
+    // para vehicles_archive e não podem mover o mesmo id ao mesmo tempo
+    @Override
+    public int archiveByFilters(String plate, String brand, Integer vehicleYear, String color, BigDecimal minPrice, BigDecimal maxPrice) {
+        archivingLock.lock();
+        try {
+            return repository.archiveByFilters(plate, brand, vehicleYear, color, minPrice, maxPrice);
+        } finally {
+            archivingLock.unlock();
+        }
+    }
+
+    @Override
+    public AppResponseDTO<Page<ArchivedVehicleDTO>> getArchivedVehicles(String plate, Pageable pageable) {
+        VehicleFilterDTO filters = VehicleFilterDTO.builder()
+                .plate(plate)
+                .build();
+        Map<String, Object> parameters = JsonMapper.toNonNullMap(filters);
+
+        Page<ArchivedVehicle> archived = plate != null
+                ? archiveRepository.findByPlateNormalized(Vehicle.normalize(plate), pageable)
+                : archiveRepository.findAll(pageable);
+        if (!archived.hasContent()) {
+            return AppResponseDTO.getSuccessResponse(
+                    "Não há veículos arquivados para os parâmetros informados.",
+                    parameters
+            );
+        }
+
+        return AppResponseDTO.<Page<ArchivedVehicleDTO>>builder()
+                .content(archived.map(VehicleMapper::toArchivedDTO))
+                .status(200)
+                .success(true)
+                .message("Veículos arquivados retornados com sucesso!")
+                .parameters(parameters)
+                .build();
+    }
+
+    @Override
+    public AppResponseDTO<ArchivedVehicleDTO> getArchivedVehicleById(UUID id) {
+        VehicleFilterDTO filters = VehicleFilterDTO.builder()
+                .id(id)
+                .build();
+        Map<String, Object> parameters = JsonMapper.toNonNullMap(filters);
+
+        Optional<ArchivedVehicle> archived = archiveRepository.findById(id);
+        if (archived.isEmpty()) {
+            return AppResponseDTO.getSuccessResponse("Não há veículo arquivado para o id informado.", parameters);
+        }
+
+        return AppResponseDTO.<ArchivedVehicleDTO>builder()
+                .content(VehicleMapper.toArchivedDTO(archived.get()))
+                .status(200)
+                .success(true)
+                .message("Veículo arquivado retornado com sucesso!")
+                .parameters(parameters)
+                .build();
+    }
+}
@@ -0,0 +1,177 @@
+package com.vehicle.management.service.impl;
+
+import com.vehicle.management.dto.VehicleBrandReportDTO;
+import com.vehicle.management.event.VehicleBatchImportedEvent;
+import com.vehicle.management.event.VehicleBulkChangedEvent;
+import com.vehicle.management.event.VehicleChangedEvent;
+import com.vehicle.management.model.projection.VehicleRow;
+import com.vehicle.management.repository.VehicleManagementRepository;
+import com.vehicle.management.service.VehicleBrandCounterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Quantidade de veículos ativos por marca mantida a cada escrita; o relatório não consulta a tabela de veículos.
+// Escritas feitas por outros nós (ou direto no banco) entram na próxima reconciliação.
+// Uma reconciliação interrompida por escrita concorrente é refeita em instantes, sem esperar o intervalo inteiro,
+// e aceita mesmo assim depois de reconcile-max-retries tentativas para não ficar adiada sob escrita contínua.
+@Service
+public class VehicleBrandCounterServiceImpl implements VehicleBrandCounterService {
+
+    private final Logger logger = LoggerFactory.getLogger(VehicleBrandCounterServiceImpl.class);
+
+    // Escritas compartilham a trava de leitura; só a troca pelo resultado da reconciliação é exclusiva
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final AtomicLong modifications = new AtomicLong();
+
+    private volatile boolean reconcilePending;
+
+    // Só alterado sob a trava de escrita
+    private int skippedReconciles;
+
+    private volatile Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    @Autowired
+    private VehicleManagementRepository repository;
+
+    @Value("${vehicle.brand-counters.reconcile-max-retries:5}")
+    private int maxReconcileRetries;
+
+    @EventListener
+    public void onVehicleChanged(VehicleChangedEvent event) {
+        String previousBrand = event.before() != null ? event.before().brand() : null;
+        String newBrand = event.after() != null ? event.after().brand() : null;
+        if (Objects.equals(previousBrand, newBrand)) {
+            return;
+        }
+        add(previousBrand, -1);
+        add(newBrand, 1);
+    }
+
+    @EventListener
+    public void onVehiclesImported(VehicleBatchImportedEvent event) {
+        for (VehicleRow row : event.rows()) {
+            add(row.brand(), 1);
+        }
+    }
+
+    // Alteração em lote não informa a marca de cada veículo: uma recontagem em vez de um ajuste por veículo,
+    // feita por retryPendingReconcile fora da requisição
+    @EventListener
+    public void onVehiclesChangedInBulk(VehicleBulkChangedEvent event) {
+        reconcilePending = true;
+    }
+
+    @Override
+    public Page<VehicleBrandReportDTO> getReport(Pageable pageable) {
+        List<VehicleBrandReportDTO> brands = new ArrayList<>();
+        counters.forEach((brand, counter) -> {
+            long count = counter.sum();
+            if (count > 0) {
+                brands.add(new VehicleBrandReportDTO(brand, count));
+            }
+        });
+        brands.sort(comparator(pageable.getSort()));
+
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(brands);
+        }
+        int from = (int) Math.min(pageable.getOffset(), brands.size());
+        int to = Math.min(from + pageable.getPageSize(), brands.size());
+        return new PageImpl<>(brands.subList(from, to), pageable, brands.size());
+    }
+
+    // Corrige desvios (escritas de outros nós, alterações fora da aplicação) com um único GROUP BY
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${vehicle.brand-counters.reconcile-interval:60s}")
+    public void reconcile() {
+        long observedModifications = modifications.get();
+        Map<String, LongAdder> reconciled = new ConcurrentHashMap<>();
+        for (VehicleBrandReportDTO brand : repository.countVehiclesByBrand()) {
+            LongAdder counter = new LongAdder();
+            counter.add(brand.getCount());
+            reconciled.put(brand.getBrand(), counter);
+        }
+
+        // Uma escrita no meio da contagem pode ou não ter sido vista pelo banco, então não dá para somá-la à
+        // contagem: descarta o resultado e conta de novo na próxima tentativa. Esgotadas as tentativas, a contagem
+        // é aceita; o desvio fica limitado às escritas concorrentes e é corrigido na próxima reconciliação
+        lock.writeLock().lock();
+        try {
+            if (modifications.get() != observedModifications) {
+                if (skippedReconciles < maxReconcileRetries) {
+                    skippedReconciles++;
+                    reconcilePending = true;
+                    logger.debug("Reconciliação dos contadores por marca adiada: houve escrita durante a contagem");
+                    return;
+                }
+                logger.info("Reconciliação dos contadores por marca aceita após {} tentativas com escritas concorrentes",
+                        skippedReconciles + 1);
+            }
+            counters = reconciled;
+            skippedReconciles = 0;
+            reconcilePending = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Refaz a reconciliação adiada até que uma contagem termine sem escrita concorrente ou as tentativas acabem
+    @Scheduled(fixedDelayString = "${vehicle.brand-counters.reconcile-retry-delay:1s}")
+    public void retryPendingReconcile() {
+        if (reconcilePending) {
+            reconcile();
+        }
+    }
+
+    private void add(String brand, long delta) {
+        if (brand == null) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            modifications.incrementAndGet();
+            counters.computeIfAbsent(brand, key -> new LongAdder()).add(delta);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Comparator<VehicleBrandReportDTO> comparator(Sort sort) {
+        Comparator<VehicleBrandReportDTO> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<VehicleBrandReportDTO> next = switch (order.getProperty()) {
+                case "brand" -> Comparator.comparing(VehicleBrandReportDTO::getBrand);
+                case "count" -> Comparator.comparing(VehicleBrandReportDTO::getCount);
+                default -> throw new IllegalArgumentException(
+                        "Ordenação não suportada no relatório por marca. Use brand ou count.");
+            };
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator != null ? comparator : Comparator.comparing(VehicleBrandReportDTO::getBrand);
+    }
+}
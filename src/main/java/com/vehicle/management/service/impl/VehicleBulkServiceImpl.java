@@ -0,0 +1,164 @@
+package com.vehicle.management.service.impl;
+
+import com.vehicle.management.dto.VehicleBulkResultDTO;
+import com.vehicle.management.dto.request.VehicleBulkFilterDTO;
+import com.vehicle.management.dto.request.VehicleBulkUpdateRequestDTO;
+import com.vehicle.management.dto.response.AppResponseDTO;
+import com.vehicle.management.event.CacheRegion;
+import com.vehicle.management.event.VehicleBulkChangedEvent;
+import com.vehicle.management.mapper.JsonMapper;
+import com.vehicle.management.model.rate.CurrencyCode;
+import com.vehicle.management.model.rate.RateSnapshot;
+import com.vehicle.management.repository.VehicleManagementRepository;
+import com.vehicle.management.service.CacheInvalidationService;
+import com.vehicle.management.service.VehicleArchiveService;
+import com.vehicle.management.service.VehicleBulkService;
+import com.vehicle.management.service.VehiclePriceConversionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import static java.util.Objects.nonNull;
+
+// Alterações em lote por filtro: um único comando sobre o conjunto no banco, sem carregar os veículos,
+// e uma única invalidação de caches e agregados ao final
+@Service
+public class VehicleBulkServiceImpl implements VehicleBulkService {
+
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    private final Logger logger = LoggerFactory.getLogger(VehicleBulkServiceImpl.class);
+
+    @Autowired
+    private VehicleManagementRepository repository;
+
+    @Autowired
+    private VehicleArchiveService vehicleArchiveService;
+
+    @Autowired
+    private VehiclePriceConversionService vehiclePriceConversionService;
+
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public AppResponseDTO<VehicleBulkResultDTO> updateVehicles(VehicleBulkUpdateRequestDTO request) {
+        String color = blankToNull(request.getColor());
+        BigDecimal percent = request.getPriceAdjustmentPercent();
+        if (color == null && percent == null) {
+            throw new IllegalArgumentException("Informe ao menos uma alteração: 'cor' ou 'ajuste_preco_percentual'.");
+        }
+        VehicleBulkFilterDTO filters = request.getFilters();
+        BulkFilters resolved = resolve(filters);
+        BigDecimal priceFactor = nonNull(percent)
+                ? BigDecimal.ONE.add(percent.divide(ONE_HUNDRED, MathContext.DECIMAL64))
+                : null;
+
+        int affected;
+        try {
+            affected = repository.updateByFilters(resolved.plate(), resolved.brand(), resolved.vehicleYear(),
+                    resolved.color(), resolved.minPriceUsd(), resolved.maxPriceUsd(), color, priceFactor);
+        } catch (DataIntegrityViolationException e) {
+            // O UPDATE só altera cor e preço: a violação vem de um preço reajustado acima do que a coluna comporta
+            throw new IllegalArgumentException(
+                    "Reajuste resultaria em preço acima do limite para ao menos um dos veículos selecionados.");
+        }
+        afterBulkChange(affected);
+        logger.info("Alteração em lote: {} veículos atualizados (cor={}, reajuste={}%).", affected, color, percent);
+
+        return AppResponseDTO.<VehicleBulkResultDTO>builder()
+                .status(200)
+                .success(true)
+                .message(String.format("%d veículos atualizados.", affected))
+                .parameters(JsonMapper.toNonNullMap(filters))
+                .content(new VehicleBulkResultDTO(affected))
+                .build();
+    }
+
+    @Override
+    public AppResponseDTO<VehicleBulkResultDTO> deleteVehicles(VehicleBulkFilterDTO filters) {
+        BulkFilters resolved = resolve(filters);
+
+        int affected = vehicleArchiveService.archiveByFilters(resolved.plate(), resolved.brand(), resolved.vehicleYear(),
+                resolved.color(), resolved.minPriceUsd(), resolved.maxPriceUsd());
+        afterBulkChange(affected);
+        logger.info("Remoção em lote: {} veículos desativados e arquivados.", affected);
+
+        return AppResponseDTO.<VehicleBulkResultDTO>builder()
+                .status(200)
+                .success(true)
+                .message(String.format("%d veículos removidos.", affected))
+                .parameters(JsonMapper.toNonNullMap(filters))
+                .content(new VehicleBulkResultDTO(affected))
+                .build();
+    }
+
+    // Sem nenhum filtro o comando alcançaria a tabela inteira: exigido explicitamente para evitar acidentes
+    private BulkFilters resolve(VehicleBulkFilterDTO filters) {
+        if (filters == null) {
+            throw new IllegalArgumentException("Informe ao menos um filtro: placa, marca, ano, cor, preco_minimo ou preco_maximo.");
+        }
+        BulkFilters resolved = new BulkFilters(
+                blankToNull(filters.getPlate()),
+                blankToNull(filters.getBrand()),
+                filters.getVehicleYear(),
+                blankToNull(filters.getColor()),
+                filters.getMinPrice(),
+                filters.getMaxPrice()
+        );
+        if (resolved.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um filtro: placa, marca, ano, cor, preco_minimo ou preco_maximo.");
+        }
+        if (resolved.minPriceUsd() == null && resolved.maxPriceUsd() == null) {
+            return resolved;
+        }
+
+        // Faixa de preço na moeda informada, comparada com o preço gravado em dólar
+        CurrencyCode currency = nonNull(filters.getCurrency()) ? filters.getCurrency() : CurrencyCode.BRL;
+        RateSnapshot rateSnapshot = vehiclePriceConversionService.getRateSnapshot();
+        return new BulkFilters(
+                resolved.plate(),
+                resolved.brand(),
+                resolved.vehicleYear(),
+                resolved.color(),
+                nonNull(filters.getMinPrice()) ? rateSnapshot.toUsd(filters.getMinPrice(), currency) : null,
+                nonNull(filters.getMaxPrice()) ? rateSnapshot.toUsd(filters.getMaxPrice(), currency) : null
+        );
+    }
+
+    // Uma mensagem de invalidação e uma recarga pendente dos agregados locais, qualquer que seja a quantidade
+    private void afterBulkChange(int affected) {
+        if (affected == 0) {
+            return;
+        }
+        cacheInvalidationService.invalidateAll(CacheRegion.VEHICLE);
+        eventPublisher.publishEvent(new VehicleBulkChangedEvent(affected));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private record BulkFilters(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPriceUsd,
+            BigDecimal maxPriceUsd
+    ) {
+        private boolean isEmpty() {
+            return plate == null && brand == null && vehicleYear == null && color == null
+                    && minPriceUsd == null && maxPriceUsd == null;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.vehicle.management.service.impl;
+
+import com.vehicle.management.event.CacheInvalidationEvent;
+import com.vehicle.management.event.CacheRegion;
+import com.vehicle.management.model.entity.Vehicle;
+import com.vehicle.management.repository.VehicleManagementRepository;
+import com.vehicle.management.service.VehicleCountService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Totais das listagens paginadas, reaproveitados até a próxima escrita em veículos
+@Service
+public class VehicleCountServiceImpl implements VehicleCountService {
+
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    private VehicleManagementRepository repository;
+
+    @Value("${vehicle.count-cache.max-entries:1024}")
+    private int maxEntries;
+
+    // Rede de segurança caso a invalidação entre nós (pub/sub) se perca
+    @Value("${vehicle.count-cache.ttl:60s}")
+    private Duration ttl;
+
+    private final Map<FilterKey, CachedCount> counts = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<FilterKey, CachedCount> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    @Override
+    public long countByFilters(String plate, String brand, Integer vehicleYear, String color, BigDecimal minPrice, BigDecimal maxPrice) {
+        FilterKey key = new FilterKey(
+                Vehicle.normalize(plate),
+                Vehicle.normalize(brand),
+                vehicleYear,
+                Vehicle.normalize(color),
+                minPrice != null ? minPrice.stripTrailingZeros() : null,
+                maxPrice != null ? maxPrice.stripTrailingZeros() : null
+        );
+        return count(key, () -> repository.countByFilters(plate, brand, vehicleYear, color, minPrice, maxPrice));
+    }
+
+    // Qualquer escrita pode mudar qualquer total: descarta tudo
+    @EventListener
+    public void onCacheInvalidation(CacheInvalidationEvent event) {
+        if (event.region() != CacheRegion.VEHICLE) {
+            return;
+        }
+        synchronized (counts) {
+            generation.incrementAndGet();
+            counts.clear();
+        }
+    }
+
+    private long count(FilterKey key, LongSupplier loader) {
+        Instant now = Instant.now();
+        synchronized (counts) {
+            CachedCount cached = counts.get(key);
+            if (cached != null && now.isBefore(cached.expiresAt())) {
+                return cached.total();
+            }
+        }
+
+        // Um total calculado durante uma escrita só entra no cache se nenhuma invalidação chegou no meio
+        long observedGeneration = generation.get();
+        long total = loader.getAsLong();
+        synchronized (counts) {
+            if (generation.get() == observedGeneration) {
+                counts.put(key, new CachedCount(total, now.plus(ttl)));
+            }
+        }
+        return total;
+    }
+
+    private record FilterKey(String plate, String brand, Integer vehicleYear, String color, BigDecimal minPrice, BigDecimal maxPrice) {
+    }
+
+    private record CachedCount(long total, Instant expiresAt) {
+    }
+}
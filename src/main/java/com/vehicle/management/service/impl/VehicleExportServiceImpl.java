@@ -0,0 +1,80 @@
+package com.vehicle.management.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vehicle.management.mapper.VehicleMapper;
+import com.vehicle.management.model.rate.CurrencyCode;
+import com.vehicle.management.model.rate.RateSnapshot;
+import com.vehicle.management.model.transfer.VehicleExportWriter;
+import com.vehicle.management.model.transfer.VehicleFileFormat;
+import com.vehicle.management.repository.VehicleManagementRepository;
+import com.vehicle.management.service.VehicleExportService;
+import com.vehicle.management.service.VehiclePriceConversionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+
+import static java.util.Objects.nonNull;
+
+// Exportação em fluxo: cada linha lida do cursor é convertida e escrita na resposta antes da próxima,
+// então a memória usada não depende da quantidade de veículos
+@Service
+public class VehicleExportServiceImpl implements VehicleExportService {
+
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(VehicleExportServiceImpl.class);
+
+    @Autowired
+    private VehicleManagementRepository repository;
+
+    @Autowired
+    private VehiclePriceConversionService vehiclePriceConversionService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${vehicle.export.fetch-size:1000}")
+    private int fetchSize;
+
+    // Cotação e filtros resolvidos na thread da requisição: uma falha ainda vira resposta de erro,
+    // antes de o status 200 e o início do arquivo serem enviados
+    @Override
+    public StreamingResponseBody exportVehicles(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            CurrencyCode currency,
+            VehicleFileFormat format
+    ) {
+        // Uma cotação para a exportação inteira: filtros e preços de todas as linhas usam a mesma taxa
+        RateSnapshot rateSnapshot = vehiclePriceConversionService.getRateSnapshot();
+        BigDecimal minPriceUsd = nonNull(minPrice) ? rateSnapshot.toUsd(minPrice, currency) : null;
+        BigDecimal maxPriceUsd = nonNull(maxPrice) ? rateSnapshot.toUsd(maxPrice, currency) : null;
+
+        return output -> {
+            BufferedOutputStream buffered = new BufferedOutputStream(output, OUTPUT_BUFFER_SIZE);
+            VehicleExportWriter writer = new VehicleExportWriter(buffered, format, objectMapper);
+            try {
+                repository.forEachByFilters(plate, brand, vehicleYear, color, minPriceUsd, maxPriceUsd, fetchSize,
+                        row -> writer.write(VehicleMapper.fromRow(row, rateSnapshot, currency)));
+            } catch (UncheckedIOException e) {
+                // Cliente desconectou no meio do arquivo
+                logger.warn("Exportação {} interrompida após {} veículos: {}", format, writer.written(), e.getMessage());
+                throw e.getCause();
+            }
+            buffered.flush();
+
+            logger.info("Exportação {} concluída: {} veículos em {}.", format, writer.written(), currency);
+        };
+    }
+}
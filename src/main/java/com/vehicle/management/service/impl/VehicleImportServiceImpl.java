@@ -0,0 +1,232 @@
+package com.vehicle.management.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vehicle.management.dto.VehicleImportErrorDTO;
+import com.vehicle.management.dto.VehicleImportReportDTO;
+import com.vehicle.management.dto.request.VehicleRequestDTO;
+import com.vehicle.management.dto.response.AppResponseDTO;
+import com.vehicle.management.event.CacheRegion;
+import com.vehicle.management.event.VehicleBatchImportedEvent;
+import com.vehicle.management.mapper.VehicleMapper;
+import com.vehicle.management.model.entity.Vehicle;
+import com.vehicle.management.model.projection.VehicleRow;
+import com.vehicle.management.model.rate.RateSnapshot;
+import com.vehicle.management.model.transfer.VehicleFileFormat;
+import com.vehicle.management.model.transfer.VehicleImportReader;
+import com.vehicle.management.model.transfer.VehicleImportRow;
+import com.vehicle.management.repository.VehicleManagementRepository;
+import com.vehicle.management.service.CacheInvalidationService;
+import com.vehicle.management.service.VehicleImportService;
+import com.vehicle.management.service.VehiclePriceConversionService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Importação em lotes de chunk-size linhas, cada lote na sua transação: o que já foi gravado permanece
+// mesmo que o envio seja interrompido, e a memória usada não depende do tamanho do arquivo
+@Service
+public class VehicleImportServiceImpl implements VehicleImportService {
+
+    private final Logger logger = LoggerFactory.getLogger(VehicleImportServiceImpl.class);
+
+    @Autowired
+    private VehicleManagementRepository repository;
+
+    @Autowired
+    private VehiclePriceConversionService vehiclePriceConversionService;
+
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${vehicle.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${vehicle.import.max-errors:1000}")
+    private int maxErrors;
+
+    @Override
+    public AppResponseDTO<VehicleImportReportDTO> importVehicles(InputStream body, VehicleFileFormat format) {
+        // Uma cotação para o arquivo inteiro: todos os preços são convertidos com a mesma taxa
+        RateSnapshot rateSnapshot = vehiclePriceConversionService.getRateSnapshot();
+        ImportProgress progress = new ImportProgress(maxErrors);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            VehicleImportReader rows = new VehicleImportReader(reader, format, objectMapper);
+            List<VehicleImportRow> chunk = new ArrayList<>(chunkSize);
+            VehicleImportRow row;
+            while ((row = rows.next()) != null) {
+                progress.rows++;
+                if (accept(row, progress)) {
+                    chunk.add(row);
+                }
+                if (chunk.size() >= chunkSize) {
+                    importChunk(chunk, rateSnapshot, progress);
+                    chunk.clear();
+                }
+            }
+            importChunk(chunk, rateSnapshot, progress);
+        } catch (IOException e) {
+            logger.warn("Importação interrompida após {} veículos gravados: {}", progress.imported, e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+
+        logger.info("Importação {} concluída: {} linhas, {} importadas, {} rejeitadas.",
+                format, progress.rows, progress.imported, progress.rejected);
+
+        return AppResponseDTO.<VehicleImportReportDTO>builder()
+                .status(200)
+                .success(true)
+                .message(String.format("Importação concluída: %d veículos importados e %d linhas rejeitadas.",
+                        progress.imported, progress.rejected))
+                .parameters(Map.of("formato", format.name()))
+                .content(progress.toReport())
+                .exchangeRate(rateSnapshot.rate())
+                .build();
+    }
+
+    // Mesmas regras de VehicleRequestDTO aplicadas no POST /veiculos
+    private boolean accept(VehicleImportRow row, ImportProgress progress) {
+        if (!row.isParsed()) {
+            progress.reject(row.line(), row.plate(), List.of(row.error()));
+            return false;
+        }
+        List<String> violations = validator.validate(row.vehicle()).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .toList();
+        if (!violations.isEmpty()) {
+            progress.reject(row.line(), row.plate(), violations);
+            return false;
+        }
+        return true;
+    }
+
+    private void importChunk(List<VehicleImportRow> chunk, RateSnapshot rateSnapshot, ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        Map<String, VehicleImportRow> byPlate = new LinkedHashMap<>();
+        for (VehicleImportRow row : chunk) {
+            VehicleImportRow first = byPlate.putIfAbsent(row.vehicle().getPlate(), row);
+            if (first != null) {
+                progress.reject(row.line(), row.vehicle().getPlate(),
+                        List.of(String.format("Placa repetida no arquivo (linha %d).", first.line())));
+            }
+        }
+        // Placas repetidas em lotes anteriores já estão gravadas e também aparecem aqui
+        for (String plate : repository.findExistingPlates(byPlate.keySet())) {
+            VehicleImportRow existing = byPlate.remove(plate);
+            if (existing != null) {
+                progress.reject(existing.line(), plate,
+                        List.of(String.format("Já existe um veículo com a placa (%s) informada.", plate)));
+            }
+        }
+        if (byPlate.isEmpty()) {
+            return;
+        }
+
+        List<Vehicle> inserted;
+        try {
+            inserted = repository.insertAll(toEntities(byPlate.values(), rateSnapshot));
+        } catch (DataIntegrityViolationException e) {
+            // Outra escrita gravou uma das placas entre a consulta e o insert: o lote foi desfeito e segue linha a linha
+            inserted = insertOneByOne(byPlate.values(), rateSnapshot, progress);
+        }
+
+        progress.imported += inserted.size();
+        // Um evento e uma mensagem por lote em vez de um por veículo: o cache de buscas é descartado uma vez pela
+        // invalidação da região, sem percorrê-lo a cada linha
+        if (!inserted.isEmpty()) {
+            eventPublisher.publishEvent(new VehicleBatchImportedEvent(inserted.stream().map(VehicleRow::of).toList()));
+            cacheInvalidationService.invalidateAll(CacheRegion.VEHICLE);
+        }
+    }
+
+    private List<Vehicle> insertOneByOne(Collection<VehicleImportRow> rows, RateSnapshot rateSnapshot, ImportProgress progress) {
+        List<Vehicle> inserted = new ArrayList<>();
+        for (VehicleImportRow row : rows) {
+            try {
+                inserted.addAll(repository.insertAll(toEntities(List.of(row), rateSnapshot)));
+            } catch (DataIntegrityViolationException e) {
+                progress.reject(row.line(), row.vehicle().getPlate(),
+                        List.of(String.format("Já existe um veículo com a placa (%s) informada.", row.vehicle().getPlate())));
+            }
+        }
+        return inserted;
+    }
+
+    // Entidades novas a cada tentativa: um persist desfeito deixa o id atribuído na instância
+    private List<Vehicle> toEntities(Collection<VehicleImportRow> rows, RateSnapshot rateSnapshot) {
+        List<Vehicle> vehicles = new ArrayList<>(rows.size());
+        for (VehicleImportRow row : rows) {
+            VehicleRequestDTO dto = row.vehicle();
+            Vehicle vehicle = VehicleMapper.toEntity(dto);
+            vehicle.setPrice(rateSnapshot.toUsd(dto.getPrice()));
+            vehicles.add(vehicle);
+        }
+        return vehicles;
+    }
+
+    private static final class ImportProgress {
+        private final int maxErrors;
+        private final List<VehicleImportErrorDTO> errors = new ArrayList<>();
+        private long rows;
+        private long imported;
+        private long rejected;
+
+        private ImportProgress(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        // Só os primeiros max-errors motivos ficam em memória; os demais entram apenas na contagem
+        private void reject(long line, String plate, List<String> messages) {
+            rejected++;
+            if (errors.size() < maxErrors) {
+                errors.add(VehicleImportErrorDTO.builder()
+                        .line(line)
+                        .plate(plate)
+                        .messages(messages)
+                        .build());
+            }
+        }
+
+        private VehicleImportReportDTO toReport() {
+            return VehicleImportReportDTO.builder()
+                    .rows(rows)
+                    .imported(imported)
+                    .rejected(rejected)
+                    .errors(errors.stream().sorted(Comparator.comparingLong(VehicleImportErrorDTO::getLine)).toList())
+                    .errorsTruncated(rejected > errors.size())
+                    .build();
+        }
+    }
+}
@@ -6,20 +6,41 @@ import com.vehicle.management.dto.VehicleFilterDTO;
 import com.vehicle.management.dto.request.VehiclePatchRequestDTO;
 import com.vehicle.management.dto.request.VehicleRequestDTO;
 import com.vehicle.management.dto.response.AppResponseDTO;
+import com.vehicle.management.dto.response.CursorPageDTO;
+import com.vehicle.management.event.CacheRegion;
+import com.vehicle.management.event.VehicleChangedEvent;
 import com.vehicle.management.exception.ConflictException;
 import com.vehicle.management.mapper.VehicleMapper;
+import com.vehicle.management.mapper.VehicleSortMapper;
 import com.vehicle.management.model.entity.Vehicle;
+import com.vehicle.management.model.page.KeysetCursor;
+import com.vehicle.management.model.projection.VehicleRow;
+import com.vehicle.management.model.rate.CurrencyCode;
+import com.vehicle.management.model.rate.RateSnapshot;
 import com.vehicle.management.repository.VehicleManagementRepository;
+import com.vehicle.management.service.CacheInvalidationService;
+import com.vehicle.management.service.VehicleArchiveService;
+import com.vehicle.management.service.VehicleBrandCounterService;
+import com.vehicle.management.service.RateHistoryService;
+import com.vehicle.management.service.VehicleCountService;
 import com.vehicle.management.service.VehicleManagementService;
 import com.vehicle.management.service.VehiclePriceConversionService;
+import com.vehicle.management.service.VehicleSearchCacheService;
+import com.vehicle.management.service.VehicleSearchIndexService;
 import com.vehicle.management.mapper.JsonMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.*;
 
 import static java.util.Objects.nonNull;
@@ -32,6 +53,30 @@ public class VehicleManagementServiceImpl implements VehicleManagementService {
     @Autowired
     VehiclePriceConversionService vehiclePriceConversionService;
 
+    @Autowired
+    CacheInvalidationService cacheInvalidationService;
+
+    @Autowired
+    RateHistoryService rateHistoryService;
+
+    @Autowired
+    VehicleCountService vehicleCountService;
+
+    @Autowired
+    VehicleBrandCounterService vehicleBrandCounterService;
+
+    @Autowired
+    VehicleSearchIndexService vehicleSearchIndexService;
+
+    @Autowired
+    VehicleSearchCacheService vehicleSearchCacheService;
+
+    @Autowired
+    VehicleArchiveService vehicleArchiveService;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
     @Override
     public AppResponseDTO<Page<VehicleDTO>> getVehiclesByFilters(
             String plate,
@@ -40,30 +85,60 @@ public class VehicleManagementServiceImpl implements VehicleManagementService {
             String color,
             BigDecimal minPrice,
             BigDecimal maxPrice,
+            CurrencyCode currency,
+            Instant asOf,
             Pageable pageable
     ) {
 
-        VehicleFilterDTO filters = VehicleFilterDTO.builder()
-                .plate(plate)
-                .brand(brand)
-                .vehicleYear(vehicleYear)
-                .color(color)
-                .minPrice(minPrice)
-                .maxPrice(maxPrice)
-                .build();
+        ListingFilters filters = resolveListingFilters(
+                plate, brand, vehicleYear, color, minPrice, maxPrice, currency, asOf, null);
+        Map<String, Object> parameters = filters.parameters();
+        RateSnapshot rateSnapshot = filters.rateSnapshot();
 
-        Map<String, Object> parameters = JsonMapper.toNonNullMap(filters);
+        Page<VehicleRow> vehicles = findPage(
+                plate, brand, vehicleYear, color, filters.minPriceUsd(), filters.maxPriceUsd(), pageable);
 
-        if (nonNull(minPrice)) {
-            minPrice = vehiclePriceConversionService.convertBrlToUsd(minPrice);
-        }
-        if (nonNull(maxPrice)) {
-            maxPrice = vehiclePriceConversionService.convertBrlToUsd(maxPrice);
+        if (!vehicles.hasContent()) {
+            return AppResponseDTO.getSuccessResponse(
+                    "Não há veículos para os parâmetros informados.",
+                    parameters
+            );
         }
 
-        Page<Vehicle> vehicles = repository.findByFilters(
-                plate, brand, vehicleYear, color, minPrice, maxPrice, pageable
-        );
+        List<VehicleDTO> dtoList = VehicleMapper.fromRows(vehicles.getContent(), rateSnapshot, currency);
+        Page<VehicleDTO> page = new PageImpl<>(dtoList, pageable, vehicles.getTotalElements());
+
+        return AppResponseDTO.<Page<VehicleDTO>>builder()
+                .content(page)
+                .status(200)
+                .success(true)
+                .message("Veículos retornados com sucesso!")
+                .parameters(parameters)
+                .currency(currency)
+                .exchangeRate(rateSnapshot.rate(currency))
+                .build();
+    }
+
+
+    @Override
+    public AppResponseDTO<Slice<VehicleDTO>> getVehicleSliceByFilters(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            CurrencyCode currency,
+            Instant asOf,
+            Pageable pageable
+    ) {
+        ListingFilters filters = resolveListingFilters(
+                plate, brand, vehicleYear, color, minPrice, maxPrice, currency, asOf, null);
+        Map<String, Object> parameters = filters.parameters();
+        RateSnapshot rateSnapshot = filters.rateSnapshot();
+
+        Slice<VehicleRow> vehicles = findRows(
+                plate, brand, vehicleYear, color, filters.minPriceUsd(), filters.maxPriceUsd(), pageable);
 
         if (!vehicles.hasContent()) {
             return AppResponseDTO.getSuccessResponse(
@@ -72,38 +147,94 @@ public class VehicleManagementServiceImpl implements VehicleManagementService {
             );
         }
 
-        List<VehicleDTO> dtoList = VehicleMapper.toDTOList(vehicles.getContent());
+        List<VehicleDTO> dtoList = VehicleMapper.fromRows(vehicles.getContent(), rateSnapshot, currency);
 
-        dtoList.forEach(v -> {
-            if (nonNull(v.getPrice())) {
-                v.setPrice(vehiclePriceConversionService.convertUsdToBrl(v.getPrice()));
-            }
-        });
-
-        return AppResponseDTO.<Page<VehicleDTO>>builder()
-                .content(new PageImpl<>(dtoList, vehicles.getPageable(), vehicles.getTotalElements()))
+        return AppResponseDTO.<Slice<VehicleDTO>>builder()
+                .content(new SliceImpl<>(dtoList, vehicles.getPageable(), vehicles.hasNext()))
                 .status(200)
                 .success(true)
                 .message("Veículos retornados com sucesso!")
                 .parameters(parameters)
+                .currency(currency)
+                .exchangeRate(rateSnapshot.rate(currency))
                 .build();
     }
 
+    @Override
+    public AppResponseDTO<CursorPageDTO<VehicleDTO>> getVehiclesByCursor(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            CurrencyCode currency,
+            Instant asOf,
+            String cursor,
+            Pageable pageable
+    ) {
+        boolean firstPage = cursor == null || cursor.isBlank();
+        Sort.Order order = resolveKeysetOrder(pageable.getSort());
+        String property = VehicleSortMapper.KEYSET_FIELDS.get(order.getProperty());
+        KeysetCursor after = firstPage ? null : KeysetCursor.decode(cursor, property, order.getDirection());
+
+        ListingFilters filters = resolveListingFilters(
+                plate, brand, vehicleYear, color, minPrice, maxPrice, currency, asOf, firstPage ? null : cursor);
+        Map<String, Object> parameters = filters.parameters();
+        RateSnapshot rateSnapshot = filters.rateSnapshot();
+
+        // Uma linha a mais indica se existe próxima página, dispensando o COUNT
+        int size = pageable.getPageSize();
+        List<VehicleRow> vehicles = repository.findByFiltersAfter(
+                plate, brand, vehicleYear, color, filters.minPriceUsd(), filters.maxPriceUsd(),
+                after, property, order.getDirection(), size + 1
+        );
+
+        if (vehicles.isEmpty()) {
+            return AppResponseDTO.getSuccessResponse(
+                    "Não há veículos para os parâmetros informados.",
+                    parameters
+            );
+        }
+
+        boolean hasNext = vehicles.size() > size;
+        List<VehicleRow> page = hasNext ? vehicles.subList(0, size) : vehicles;
+        String nextCursor = hasNext
+                ? KeysetCursor.after(page.get(page.size() - 1), property, order.getDirection()).encode()
+                : null;
+
+        CursorPageDTO<VehicleDTO> content = CursorPageDTO.<VehicleDTO>builder()
+                .content(VehicleMapper.fromRows(page, rateSnapshot, currency))
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+
+        return AppResponseDTO.<CursorPageDTO<VehicleDTO>>builder()
+                .content(content)
+                .status(200)
+                .success(true)
+                .message("Veículos retornados com sucesso!")
+                .parameters(parameters)
+                .currency(currency)
+                .exchangeRate(rateSnapshot.rate(currency))
+                .build();
+    }
 
     @Override
-    public AppResponseDTO<VehicleDTO> getVehicleById(UUID id) {
+    public AppResponseDTO<VehicleDTO> getVehicleById(UUID id, CurrencyCode currency, Instant asOf) {
         VehicleFilterDTO filters = VehicleFilterDTO.builder()
                 .id(id)
+                .currency(currency)
+                .asOf(nonNull(asOf) ? asOf.toString() : null)
                 .build();
         Map<String, Object> parameters = JsonMapper.toNonNullMap(filters);
-            Optional<Vehicle> vehicle = repository.findByIdAndActiveTrue(id);
+            Optional<VehicleRow> vehicle = repository.findRowById(id);
             if (vehicle.isEmpty()){
                 return AppResponseDTO.getSuccessResponse("Não há veículo ativo para o id informado.", parameters);
             }
-        VehicleDTO dto = VehicleMapper.toDTO(vehicle.get());
-            if (nonNull(dto.getPrice())) {
-                dto.setPrice(vehiclePriceConversionService.convertUsdToBrl(dto.getPrice()));
-            }
+        RateSnapshot rateSnapshot = resolveRateSnapshot(asOf);
+        VehicleDTO dto = VehicleMapper.fromRow(vehicle.get(), rateSnapshot, currency);
 
             return AppResponseDTO.<VehicleDTO>builder()
                     .content(dto)
@@ -111,20 +242,23 @@ public class VehicleManagementServiceImpl implements VehicleManagementService {
                     .success(true)
                     .message("Veículo retornado com sucesso!")
                     .parameters(parameters)
+                    .currency(currency)
+                    .exchangeRate(rateSnapshot.rate(currency))
                     .build();
     }
 
     @Override
     public AppResponseDTO<Page<VehicleBrandReportDTO>> getVehicleBrandReport(Pageable pageable) {
-        Page<VehicleBrandReportDTO> vehicleCountPage = repository.countVehiclesByBrand(pageable);
-        if (!vehicleCountPage.hasContent()) {
+        // Lido dos contadores por marca mantidos nas escritas, sem GROUP BY na tabela de veículos
+        Page<VehicleBrandReportDTO> brands = vehicleBrandCounterService.getReport(pageable);
+        if (!brands.hasContent()) {
             return AppResponseDTO.getSuccessResponse(
                     "Não há veículos ativos para a criação do relatório."
             );
         }
 
         return AppResponseDTO.<Page<VehicleBrandReportDTO>>builder()
-                .content(vehicleCountPage)
+                .content(brands)
                 .status(200)
                 .success(true)
                 .message("Relatório criado com sucesso!")
@@ -142,28 +276,29 @@ public class VehicleManagementServiceImpl implements VehicleManagementService {
                 .build();
         Map<String, Object> parameters = JsonMapper.toNonNullMap(filters);
 
-        Optional<Vehicle> existentVehicle = repository.findByPlateAndActiveTrue(vehicleDTO.getPlate());
+        Optional<Vehicle> existentVehicle = repository.findByPlate(vehicleDTO.getPlate());
         if (existentVehicle.isPresent()) {
             throw new ConflictException(String.format("Já existe um veículo com a placa (%s) informada.", vehicleDTO.getPlate()));
         }
 
+        RateSnapshot rateSnapshot = vehiclePriceConversionService.getRateSnapshot();
         Vehicle vehicle = VehicleMapper.toEntity(vehicleDTO);
         if (nonNull(vehicleDTO.getPrice())) {
-            vehicle.setPrice(vehiclePriceConversionService.convertBrlToUsd(vehicleDTO.getPrice()));
+            vehicle.setPrice(rateSnapshot.toUsd(vehicleDTO.getPrice()));
         }
         Vehicle savedVehicle = repository.save(vehicle);
+        eventPublisher.publishEvent(new VehicleChangedEvent(null, VehicleRow.of(savedVehicle)));
+        cacheInvalidationService.invalidate(CacheRegion.VEHICLE, savedVehicle.getId());
 
-        VehicleDTO savedDTO = VehicleMapper.toDTO(savedVehicle);
+        VehicleDTO savedDTO = VehicleMapper.toDTO(savedVehicle, rateSnapshot);
 
-        if (nonNull(savedDTO.getPrice())){
-            savedDTO.setPrice(vehiclePriceConversionService.convertUsdToBrl(savedDTO.getPrice()));
-        }
         return AppResponseDTO.<VehicleDTO>builder()
                 .status(201)
                 .success(true)
                 .content(savedDTO)
                 .message("Novo veículo salvo com sucesso!")
                 .parameters(parameters)
+                .exchangeRate(rateSnapshot.rate())
                 .build();
     }
 
@@ -179,33 +314,34 @@ public class VehicleManagementServiceImpl implements VehicleManagementService {
                 .build();
         Map<String, Object> parameters = JsonMapper.toNonNullMap(filters);
 
-        Optional<Vehicle> existing = repository.findByIdAndActiveTrue(id);
+        Optional<Vehicle> existing = repository.findById(id);
         if (existing.isEmpty()) {
             throw new IllegalArgumentException(String.format("Veículo com o id (%s) informado não encontrado para atualização.", id));
         }
 
         if (nonNull(vehicleDTO.getPlate())){
-            Optional<Vehicle> existingPlate = repository.findByPlateAndActiveTrue(vehicleDTO.getPlate());
+            Optional<Vehicle> existingPlate = repository.findByPlate(vehicleDTO.getPlate());
             if (existingPlate.isPresent()){
                 throw new ConflictException(String.format("Já existe um veículo com a placa (%s) informada.", vehicleDTO.getPlate()));
             }
         }
 
+        RateSnapshot rateSnapshot = vehiclePriceConversionService.getRateSnapshot();
         Vehicle vehicle = existing.get();
+        VehicleRow before = VehicleRow.of(vehicle);
         vehicle.setBrand(vehicleDTO.getBrand());
         vehicle.setPlate(vehicleDTO.getPlate());
         vehicle.setColor(vehicleDTO.getColor());
         vehicle.setVehicleYear(vehicleDTO.getVehicleYear());
         if (vehicleDTO.getPrice() != null) {
-            vehicle.setPrice(vehiclePriceConversionService.convertBrlToUsd(vehicleDTO.getPrice()));
+            vehicle.setPrice(rateSnapshot.toUsd(vehicleDTO.getPrice()));
         }
 
         Vehicle updated = repository.save(vehicle);
+        eventPublisher.publishEvent(new VehicleChangedEvent(before, VehicleRow.of(updated)));
+        cacheInvalidationService.invalidate(CacheRegion.VEHICLE, updated.getId());
 
-        VehicleDTO updatedDto = VehicleMapper.toDTO(updated);
-        if (nonNull(updatedDto.getPrice())) {
-            updatedDto.setPrice(vehiclePriceConversionService.convertUsdToBrl(updatedDto.getPrice()));
-        }
+        VehicleDTO updatedDto = VehicleMapper.toDTO(updated, rateSnapshot);
 
         return AppResponseDTO.<VehicleDTO>builder()
                 .status(200)
@@ -213,6 +349,7 @@ public class VehicleManagementServiceImpl implements VehicleManagementService {
                 .message("Veículo atualizado com sucesso!")
                 .content(updatedDto)
                 .parameters(parameters)
+                .exchangeRate(rateSnapshot.rate())
                 .build();
     }
 
@@ -223,32 +360,33 @@ public class VehicleManagementServiceImpl implements VehicleManagementService {
                 .build();
         Map<String, Object> parameters = JsonMapper.toNonNullMap(filters);
 
-        Optional<Vehicle> existing = repository.findByIdAndActiveTrue(id);
+        Optional<Vehicle> existing = repository.findById(id);
         if (existing.isEmpty()) {
             throw new IllegalArgumentException(String.format("Veículo com o id (%s) informado não encontrado para atualização parcial", id));
         }
 
         if (nonNull(vehicleDTO.getPlate())){
-            Optional<Vehicle> existingPlate = repository.findByPlateAndActiveTrue(vehicleDTO.getPlate());
+            Optional<Vehicle> existingPlate = repository.findByPlate(vehicleDTO.getPlate());
             if (existingPlate.isPresent()){
                 throw new ConflictException(String.format("Já existe um veículo com a placa (%s) informada.", vehicleDTO.getPlate()));
             }
         }
 
+        RateSnapshot rateSnapshot = vehiclePriceConversionService.getRateSnapshot();
         Vehicle vehicle = existing.get();
+        VehicleRow before = VehicleRow.of(vehicle);
 
         applyPartialUpdates(vehicle, vehicleDTO);
 
         if (nonNull(vehicleDTO.getPrice())) {
-            vehicle.setPrice(vehiclePriceConversionService.convertBrlToUsd(vehicleDTO.getPrice()));
+            vehicle.setPrice(rateSnapshot.toUsd(vehicleDTO.getPrice()));
         }
 
         Vehicle updated = repository.save(vehicle);
+        eventPublisher.publishEvent(new VehicleChangedEvent(before, VehicleRow.of(updated)));
+        cacheInvalidationService.invalidate(CacheRegion.VEHICLE, updated.getId());
 
-        VehicleDTO updatedDto = VehicleMapper.toDTO(updated);
-        if (nonNull(updatedDto.getPrice())) {
-            updatedDto.setPrice(vehiclePriceConversionService.convertUsdToBrl(updatedDto.getPrice()));
-        }
+        VehicleDTO updatedDto = VehicleMapper.toDTO(updated, rateSnapshot);
 
         return AppResponseDTO.<VehicleDTO>builder()
                 .status(200)
@@ -256,6 +394,7 @@ public class VehicleManagementServiceImpl implements VehicleManagementService {
                 .message("Veículo atualizado parcialmente com sucesso!")
                 .content(updatedDto)
                 .parameters(parameters)
+                .exchangeRate(rateSnapshot.rate())
                 .build();
     }
 
@@ -266,12 +405,17 @@ public class VehicleManagementServiceImpl implements VehicleManagementService {
                 .build();
         Map<String, Object> parameters = JsonMapper.toNonNullMap(filters);
 
-        Optional<Vehicle> existing = repository.findByIdAndActiveTrue(id);
+        Optional<Vehicle> existing = repository.findById(id);
         if (existing.isEmpty()) {
             throw new IllegalArgumentException(String.format("Veículo com o id (%s) informado não encontrado para exclusão.", id));
         }
 
-        repository.deactivateById(id);
+        // Sai da tabela de veículos para o arquivo. Só avisa se esta chamada foi a que removeu
+        // (duas exclusões simultâneas não descontam duas vezes)
+        if (vehicleArchiveService.archive(id)) {
+            eventPublisher.publishEvent(new VehicleChangedEvent(VehicleRow.of(existing.get()), null));
+        }
+        cacheInvalidationService.invalidate(CacheRegion.VEHICLE, id);
 
         return AppResponseDTO.builder()
                 .status(200)
@@ -281,10 +425,111 @@ public class VehicleManagementServiceImpl implements VehicleManagementService {
                 .build();
     }
 
+    // O índice em memória já traz o total. No SQL a página passa pelo cache de resultados e o total só é
+    // consultado quando não dá para deduzi-lo da própria página, vindo do cache de contagens.
+    private Page<VehicleRow> findPage(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Pageable pageable
+    ) {
+        if (vehicleSearchIndexService.isAvailable()) {
+            return vehicleSearchIndexService.search(plate, brand, vehicleYear, color, minPrice, maxPrice, pageable);
+        }
+        return vehicleSearchCacheService.getPage(plate, brand, vehicleYear, color, minPrice, maxPrice, pageable, () -> {
+            Slice<VehicleRow> rows = repository.findSliceByFilters(plate, brand, vehicleYear, color, minPrice, maxPrice, pageable);
+            // Página vazia não é exibida: dispensa o COUNT
+            if (!rows.hasContent()) {
+                return new PageImpl<>(rows.getContent(), pageable, 0);
+            }
+            return PageableExecutionUtils.getPage(rows.getContent(), pageable, () ->
+                    vehicleCountService.countByFilters(plate, brand, vehicleYear, color, minPrice, maxPrice));
+        });
+    }
+
+    private Slice<VehicleRow> findRows(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Pageable pageable
+    ) {
+        if (vehicleSearchIndexService.isAvailable()) {
+            return vehicleSearchIndexService.search(plate, brand, vehicleYear, color, minPrice, maxPrice, pageable);
+        }
+        return repository.findSliceByFilters(plate, brand, vehicleYear, color, minPrice, maxPrice, pageable);
+    }
+
+    // Comum às três listagens: filtros ecoados na resposta, cotação da requisição e faixa de preço em USD
+    private ListingFilters resolveListingFilters(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            CurrencyCode currency,
+            Instant asOf,
+            String cursor
+    ) {
+        VehicleFilterDTO filters = VehicleFilterDTO.builder()
+                .plate(plate)
+                .brand(brand)
+                .vehicleYear(vehicleYear)
+                .color(color)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .currency(currency)
+                .asOf(nonNull(asOf) ? asOf.toString() : null)
+                .cursor(cursor)
+                .build();
+
+        RateSnapshot rateSnapshot = resolveRateSnapshot(asOf);
+        return new ListingFilters(
+                JsonMapper.toNonNullMap(filters),
+                rateSnapshot,
+                nonNull(minPrice) ? rateSnapshot.toUsd(minPrice, currency) : null,
+                nonNull(maxPrice) ? rateSnapshot.toUsd(maxPrice, currency) : null
+        );
+    }
+
+    // asOf converte com a cotação histórica registrada, sem chamada externa
+    private RateSnapshot resolveRateSnapshot(Instant asOf) {
+        if (nonNull(asOf)) {
+            return rateHistoryService.getSnapshotAt(asOf);
+        }
+        return vehiclePriceConversionService.getRateSnapshot();
+    }
+
+    private Sort.Order resolveKeysetOrder(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        if (orders.isEmpty()) {
+            return Sort.Order.asc("id");
+        }
+        if (orders.size() > 1 || !VehicleSortMapper.KEYSET_FIELDS.containsKey(orders.get(0).getProperty())) {
+            throw new IllegalArgumentException(
+                    "Ordenação não suportada no modo cursor. Use um único campo entre: id, placa, ano, preco.");
+        }
+        return orders.get(0);
+    }
+
     private void applyPartialUpdates(Vehicle vehicle, VehiclePatchRequestDTO vehicleDTO) {
         if (nonNull(vehicleDTO.getBrand())) vehicle.setBrand(vehicleDTO.getBrand());
         if (nonNull(vehicleDTO.getPlate())) vehicle.setPlate(vehicleDTO.getPlate());
         if (nonNull(vehicleDTO.getColor())) vehicle.setColor(vehicleDTO.getColor());
         if (nonNull(vehicleDTO.getVehicleYear())) vehicle.setVehicleYear(vehicleDTO.getVehicleYear());
     }
-}
\ No newline at end of file
+
+    private record ListingFilters(
+            Map<String, Object> parameters,
+            RateSnapshot rateSnapshot,
+            BigDecimal minPriceUsd,
+            BigDecimal maxPriceUsd
+    ) {
+    }
+}
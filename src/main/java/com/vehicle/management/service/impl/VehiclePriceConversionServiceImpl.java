@@ -1,19 +1,66 @@
 package com.vehicle.management.service.impl;
 
+import com.vehicle.management.client.RateProviderCircuitBreaker;
+import com.vehicle.management.config.RateProviderProperties;
+import com.vehicle.management.event.CacheInvalidationEvent;
+import com.vehicle.management.event.CacheRegion;
+import com.vehicle.management.event.ExchangeRateChangedEvent;
+import com.vehicle.management.model.rate.CurrencyCode;
+import com.vehicle.management.model.rate.LastKnownGoodRate;
+import com.vehicle.management.model.rate.RateSnapshot;
+import com.vehicle.management.repository.LastKnownGoodRateRepository;
+import com.vehicle.management.service.CacheInvalidationService;
+import com.vehicle.management.service.RateHistoryService;
 import com.vehicle.management.service.VehiclePriceConversionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 public class VehiclePriceConversionServiceImpl implements VehiclePriceConversionService {
-    private static final String USD_BRL_RATE_KEY = "USD_BRL_RATE";
+    // Matriz inteira em uma única chave, ex.: "BRL=5.10;EUR=0.92;ARS=1045.5"
+    private static final String USD_RATES_KEY = "USD_RATES";
     private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration REFRESH_AHEAD = Duration.ofMinutes(2);
+    private static final String USD_RATES_LEASE_KEY = "USD_RATES:LEASE";
+    private static final Duration LEASE_TTL = Duration.ofSeconds(15);
+    private static final Duration STALE_RETRY = Duration.ofSeconds(30);
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private final Logger logger = LoggerFactory.getLogger(VehiclePriceConversionServiceImpl.class);
+
+    // Cotação local (1º nível) na frente do Redis (2º nível), trocada de forma atômica
+    private final AtomicReference<RateSnapshot> localSnapshot = new AtomicReference<>();
+
+    private final AtomicReference<CompletableFuture<RateSnapshot>> inFlight = new AtomicReference<>();
 
     @Autowired
     private StringRedisTemplate redisTemplate;
@@ -21,35 +68,311 @@ public class VehiclePriceConversionServiceImpl implements VehiclePriceConversion
     @Autowired
     private RestTemplate restTemplate;
 
+    @Autowired
+    private RateProviderProperties rateProviderProperties;
+
+    @Autowired
+    private RateProviderCircuitBreaker circuitBreaker;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private LastKnownGoodRateRepository lastKnownGoodRateRepository;
+
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Autowired
+    private RateHistoryService rateHistoryService;
+
     public BigDecimal getUsdToBrlRate() {
-        String rateStr = redisTemplate.opsForValue().get(USD_BRL_RATE_KEY);
-        if (rateStr != null) {
-            return new BigDecimal(rateStr);
+        return getRateSnapshot().rate();
+    }
+
+    public RateSnapshot getRateSnapshot() {
+        RateSnapshot snapshot = localSnapshot.get();
+        if (snapshot != null && !snapshot.isExpired(Instant.now())) {
+            return snapshot;
+        }
+
+        try {
+            return loadSnapshot(false);
+        } catch (RuntimeException e) {
+            if (snapshot == null) {
+                return restoreLastKnownGood().orElseThrow(() -> e);
+            }
+            // Falha rápida para a última cotação válida, tentando novamente só após STALE_RETRY
+            logger.warn("Cotação indisponível, utilizando a última cotação válida ({}): {}", snapshot.rate(), e.getMessage());
+            RateSnapshot lastKnownGood = snapshot.retryAfter(STALE_RETRY);
+            localSnapshot.compareAndSet(snapshot, lastKnownGood);
+            return lastKnownGood;
         }
+    }
 
+    // Executado antes de a aplicação ser marcada como pronta para receber tráfego
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
         try {
+            RateSnapshot snapshot = loadSnapshot(false);
+            logger.info("Cotação do dólar pré-carregada na inicialização: {}", snapshot.rate());
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao pré-carregar a cotação do dólar: {}", e.getMessage());
+            restoreLastKnownGood();
+        }
+    }
+
+    // Outro nó gravou uma nova cotação no Redis: relê fora da thread da requisição, que continua
+    // servindo o snapshot atual até a troca. A invalidação local já veio com a cotação publicada
+    @Async
+    @EventListener
+    public void onCacheInvalidation(CacheInvalidationEvent event) {
+        if (event.region() != CacheRegion.RATE || !event.remote()) {
+            return;
+        }
+        Map<CurrencyCode, BigDecimal> cachedRates = readCachedRates();
+        if (cachedRates != null) {
+            publish(cachedRates, remainingTtl());
+        }
+    }
+
+    @Scheduled(fixedDelay = 30, timeUnit = TimeUnit.SECONDS)
+    public void refreshAhead() {
+        RateSnapshot snapshot = localSnapshot.get();
+        if (snapshot == null || !snapshot.shouldRefresh(Instant.now())) {
+            return;
+        }
+
+        try {
+            loadSnapshot(true);
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao renovar a cotação do dólar antecipadamente: {}", e.getMessage());
+        }
+    }
+
+    private RateSnapshot loadSnapshot(boolean refreshAhead) {
+        // Single-flight: apenas uma thread por JVM busca a cotação, as demais aguardam o mesmo resultado
+        CompletableFuture<RateSnapshot> flight = new CompletableFuture<>();
+        CompletableFuture<RateSnapshot> current = inFlight.compareAndExchange(null, flight);
+        if (current != null) {
+            return awaitInFlight(current);
+        }
+
+        try {
+            RateSnapshot snapshot = doLoadSnapshot(refreshAhead);
+            flight.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.set(null);
+        }
+    }
+
+    private RateSnapshot awaitInFlight(CompletableFuture<RateSnapshot> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private RateSnapshot doLoadSnapshot(boolean refreshAhead) {
+        Map<CurrencyCode, BigDecimal> cachedRates = readCachedRates();
+        Duration remaining = cachedRates != null ? remainingTtl() : Duration.ZERO;
+        // Na renovação antecipada só aproveita o Redis se outro nó já renovou a chave
+        if (cachedRates != null && (!refreshAhead || remaining.compareTo(REFRESH_AHEAD) > 0)) {
+            return publish(cachedRates, remaining);
+        }
+
+        String leaseToken = UUID.randomUUID().toString();
+        if (!acquireRefreshLease(leaseToken)) {
+            // Outro nó está renovando: serve o valor anterior em vez de repetir a chamada externa
+            if (cachedRates != null) {
+                return publish(cachedRates, remaining);
+            }
+            RateSnapshot stale = localSnapshot.get();
+            if (stale != null) {
+                return stale;
+            }
+            Map<CurrencyCode, BigDecimal> refreshedRates = readCachedRates();
+            if (refreshedRates != null) {
+                return publish(refreshedRates, remainingTtl());
+            }
+            return fetchAndStore();
+        }
+
+        try {
+            return fetchAndStore();
+        } finally {
+            releaseRefreshLease(leaseToken);
+        }
+    }
+
+    private RateSnapshot fetchAndStore() {
+        Map<CurrencyCode, BigDecimal> rates = fetchUsdRates();
+        try {
+            redisTemplate.opsForValue().set(USD_RATES_KEY, encodeRates(rates), TTL);
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao gravar a cotação no Redis: {}", e.getMessage());
+        }
+        // Invalida antes de publicar, assim o evento local não expira o snapshot recém-obtido
+        cacheInvalidationService.invalidate(CacheRegion.RATE, USD_RATES_KEY);
+        return publish(rates, TTL);
+    }
+
+    private Map<CurrencyCode, BigDecimal> readCachedRates() {
+        String cached;
+        try {
+            cached = redisTemplate.opsForValue().get(USD_RATES_KEY);
+        } catch (RuntimeException e) {
+            // Redis indisponível é tratado como cache vazio
+            logger.warn("Falha ao ler a cotação do Redis: {}", e.getMessage());
+            return null;
+        }
+        return cached != null ? decodeRates(cached) : null;
+    }
+
+    private String encodeRates(Map<CurrencyCode, BigDecimal> rates) {
+        return rates.entrySet().stream()
+                .filter(entry -> entry.getKey() != CurrencyCode.USD)
+                .map(entry -> entry.getKey().name() + "=" + entry.getValue().toPlainString())
+                .collect(Collectors.joining(";"));
+    }
+
+    private Map<CurrencyCode, BigDecimal> decodeRates(String value) {
+        Map<CurrencyCode, BigDecimal> rates = new EnumMap<>(CurrencyCode.class);
+        try {
+            for (String entry : value.split(";")) {
+                String[] parts = entry.split("=", 2);
+                rates.put(CurrencyCode.valueOf(parts[0]), new BigDecimal(parts[1]));
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Cotação inválida no Redis ({}): {}", value, e.getMessage());
+            return null;
+        }
+        return rates.containsKey(CurrencyCode.BRL) ? rates : null;
+    }
+
+    private boolean acquireRefreshLease(String leaseToken) {
+        try {
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(USD_RATES_LEASE_KEY, leaseToken, LEASE_TTL);
+            return Boolean.TRUE.equals(acquired);
+        } catch (RuntimeException e) {
+            // Sem Redis não há coordenação entre nós, resta o single-flight local
+            return true;
+        }
+    }
+
+    private void releaseRefreshLease(String leaseToken) {
+        try {
+            redisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(USD_RATES_LEASE_KEY), leaseToken);
+        } catch (RuntimeException e) {
+            // O lease expira sozinho após LEASE_TTL
+            logger.warn("Falha ao liberar o lease de renovação da cotação: {}", e.getMessage());
+        }
+    }
+
+    private Duration remainingTtl() {
+        Long expire;
+        try {
+            expire = redisTemplate.getExpire(USD_RATES_KEY, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            return TTL;
+        }
+        if (expire == null || expire <= 0) {
+            return TTL;
+        }
+        return Duration.ofMillis(expire);
+    }
+
+    private RateSnapshot publish(Map<CurrencyCode, BigDecimal> rates, Duration timeToLive) {
+        RateSnapshot snapshot = RateSnapshot.of(rates, timeToLive, REFRESH_AHEAD);
+        RateSnapshot previous = localSnapshot.getAndSet(snapshot);
+        rateHistoryService.record(snapshot);
+        if (previous == null || !previous.rates().equals(snapshot.rates())) {
+            lastKnownGoodRateRepository.save(new LastKnownGoodRate(rates, snapshot.fetchedAt()));
+        }
+        if (previous == null || previous.rate().compareTo(snapshot.rate()) != 0) {
+            eventPublisher.publishEvent(new ExchangeRateChangedEvent(snapshot.rate()));
+        }
+        return snapshot;
+    }
+
+    private Optional<RateSnapshot> restoreLastKnownGood() {
+        Optional<LastKnownGoodRate> persisted = lastKnownGoodRateRepository.find();
+        if (persisted.isEmpty()) {
+            return Optional.empty();
+        }
+
+        LastKnownGoodRate lastKnownGood = persisted.get();
+        logger.warn("Utilizando a última cotação válida persistida ({}, obtida em {})",
+                lastKnownGood.rates(), lastKnownGood.fetchedAt());
+        // Vale só por STALE_RETRY e já nasce marcada para renovação antecipada
+        RateSnapshot snapshot = RateSnapshot.of(lastKnownGood.rates(), STALE_RETRY, REFRESH_AHEAD);
+        if (!localSnapshot.compareAndSet(null, snapshot)) {
+            return Optional.of(localSnapshot.get());
+        }
+        eventPublisher.publishEvent(new ExchangeRateChangedEvent(snapshot.rate()));
+        return Optional.of(snapshot);
+    }
+
+    private Map<CurrencyCode, BigDecimal> fetchUsdRates() {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new RuntimeException("Não foi possível obter a cotação do dólar: provedores temporariamente desabilitados");
+        }
+
+        try {
+            Map<CurrencyCode, BigDecimal> rates = requestUsdRates();
+            circuitBreaker.onSuccess();
+            return withPreviousRatesForMissingCurrencies(rates);
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        }
+    }
+
+    // Uma única chamada ao provedor traz todas as moedas configuradas
+    private Map<CurrencyCode, BigDecimal> requestUsdRates() {
+        List<CurrencyCode> currencies = requestedCurrencies();
+        try {
+            String pairs = currencies.stream()
+                    .map(currency -> "USD-" + currency.name())
+                    .collect(Collectors.joining(","));
             Map<String, Map<String, Object>> response = restTemplate.getForObject(
-                    "https://economia.awesomeapi.com.br/json/last/USD-BRL", Map.class);
+                    rateProviderProperties.getPrimaryUrl().replace("{pairs}", pairs), Map.class);
             if (response != null && response.containsKey("USDBRL")) {
-                Object bidObj = response.get("USDBRL").get("bid");
-                if (bidObj instanceof String bidStr) {
-                    BigDecimal rate = new BigDecimal(bidStr);
-                    redisTemplate.opsForValue().set(USD_BRL_RATE_KEY, rate.toString(), TTL);
-                    return rate;
+                Map<CurrencyCode, BigDecimal> rates = new EnumMap<>(CurrencyCode.class);
+                for (CurrencyCode currency : currencies) {
+                    Map<String, Object> quote = response.get("USD" + currency.name());
+                    if (quote != null && quote.get("bid") instanceof String bidStr) {
+                        rates.put(currency, new BigDecimal(bidStr));
+                    }
+                }
+                if (rates.containsKey(CurrencyCode.BRL)) {
+                    return rates;
                 }
             }
         } catch (Exception e) {
             //fallback
             try {
                 Map<String, Object> fallbackResponse = restTemplate.getForObject(
-                        "https://api.frankfurter.app/latest?from=USD&to=BRL", Map.class);
+                        rateProviderProperties.getFallbackUrl(), Map.class);
                 if (fallbackResponse != null && fallbackResponse.containsKey("rates")) {
-                    Map<String, Object> rates = (Map<String, Object>) fallbackResponse.get("rates");
-                    Object brlObj = rates.get("BRL");
-                    if (brlObj instanceof Number brlRate) {
-                        BigDecimal rate = BigDecimal.valueOf(brlRate.doubleValue());
-                        redisTemplate.opsForValue().set(USD_BRL_RATE_KEY, rate.toString(), TTL);
-                        return rate;
+                    Map<String, Object> fallbackRates = (Map<String, Object>) fallbackResponse.get("rates");
+                    Map<CurrencyCode, BigDecimal> rates = new EnumMap<>(CurrencyCode.class);
+                    for (CurrencyCode currency : currencies) {
+                        if (fallbackRates.get(currency.name()) instanceof Number rate) {
+                            rates.put(currency, BigDecimal.valueOf(rate.doubleValue()));
+                        }
+                    }
+                    if (rates.containsKey(CurrencyCode.BRL)) {
+                        return rates;
                     }
                 }
             } catch (Exception ex) {
@@ -60,13 +383,31 @@ public class VehiclePriceConversionServiceImpl implements VehiclePriceConversion
         throw new RuntimeException("Não foi possível obter a cotação do dólar");
     }
 
+    private List<CurrencyCode> requestedCurrencies() {
+        List<CurrencyCode> currencies = new ArrayList<>(List.of(CurrencyCode.BRL));
+        rateProviderProperties.getCurrencies().stream()
+                .filter(currency -> currency != CurrencyCode.USD && !currencies.contains(currency))
+                .forEach(currencies::add);
+        return currencies;
+    }
+
+    // Provedor sem alguma moeda (ex.: ARS no fallback) mantém a cotação anterior dela
+    private Map<CurrencyCode, BigDecimal> withPreviousRatesForMissingCurrencies(Map<CurrencyCode, BigDecimal> rates) {
+        RateSnapshot previous = localSnapshot.get();
+        if (previous == null) {
+            return rates;
+        }
+        Map<CurrencyCode, BigDecimal> merged = new EnumMap<>(previous.rates());
+        merged.remove(CurrencyCode.USD);
+        merged.putAll(rates);
+        return merged;
+    }
+
     public BigDecimal convertBrlToUsd(BigDecimal brlAmount) {
-        BigDecimal rate = getUsdToBrlRate();
-        return brlAmount.divide(rate, 4, BigDecimal.ROUND_HALF_UP);
+        return getRateSnapshot().toUsd(brlAmount);
     }
 
     public BigDecimal convertUsdToBrl(BigDecimal usdAmount) {
-        BigDecimal rate = getUsdToBrlRate();
-        return usdAmount.multiply(rate).setScale(2, BigDecimal.ROUND_HALF_UP);
+        return getRateSnapshot().toBrl(usdAmount);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,85 @@
+package com.vehicle.management.service.impl;
+
+import com.vehicle.management.event.ExchangeRateChangedEvent;
+import com.vehicle.management.model.price.FixedPointPrice;
+import com.vehicle.management.repository.VehicleManagementRepository;
+import com.vehicle.management.service.VehicleRepricingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Sem vehicle.pricing.materialized-brl.enabled o bean não existe: nada é agendado e as leituras convertem em memória
+@Service
+@ConditionalOnProperty(name = "vehicle.pricing.materialized-brl.enabled", havingValue = "true")
+public class VehicleRepricingServiceImpl implements VehicleRepricingService {
+    private final Logger logger = LoggerFactory.getLogger(VehicleRepricingServiceImpl.class);
+
+    private final ReentrantLock repricingLock = new ReentrantLock();
+
+    private final AtomicReference<BigDecimal> currentRate = new AtomicReference<>();
+
+    @Autowired
+    private VehicleManagementRepository repository;
+
+    @Value("${vehicle.pricing.materialized-brl.batch-size:500}")
+    private int batchSize;
+
+    @Async
+    @EventListener
+    public void onExchangeRateChanged(ExchangeRateChangedEvent event) {
+        currentRate.set(event.usdToBrlRate());
+        repriceAll(event.usdToBrlRate());
+    }
+
+    // Recalcula veículos cadastrados ou alterados desde a última troca de cotação
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void repricePending() {
+        BigDecimal rate = currentRate.get();
+        if (rate != null) {
+            repriceAll(rate);
+        }
+    }
+
+    @Override
+    public int repriceAll(BigDecimal usdToBrlRate) {
+        if (usdToBrlRate.stripTrailingZeros().scale() > FixedPointPrice.RATE_SCALE) {
+            // A cotação não caberia em price_brl_rate sem arredondamento; as leituras seguem convertendo em memória
+            return 0;
+        }
+
+        repricingLock.lock();
+        try {
+            int total = 0;
+            List<UUID> ids = repository.findIdsToReprice(usdToBrlRate, PageRequest.of(0, batchSize));
+            while (!ids.isEmpty()) {
+                int updated = repository.repriceByIds(ids, usdToBrlRate);
+                if (updated == 0) {
+                    break;
+                }
+                total += updated;
+                ids = repository.findIdsToReprice(usdToBrlRate, PageRequest.of(0, batchSize));
+            }
+
+            if (total > 0) {
+                logger.info("Preço em reais recalculado para {} veículos com a cotação {}", total, usdToBrlRate);
+            }
+            return total;
+        } finally {
+            repricingLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.vehicle.management.service.impl;
+
+import com.vehicle.management.dto.VehicleSearchCacheStatsDTO;
+import com.vehicle.management.dto.response.AppResponseDTO;
+import com.vehicle.management.event.CacheInvalidationEvent;
+import com.vehicle.management.event.CacheRegion;
+import com.vehicle.management.event.VehicleChangedEvent;
+import com.vehicle.management.model.cache.VehicleSearchKey;
+import com.vehicle.management.model.cache.WindowTinyLfuCache;
+import com.vehicle.management.model.projection.VehicleRow;
+import com.vehicle.management.service.VehicleSearchCacheService;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Páginas da listagem (linhas em USD e total), reaproveitadas entre consultas idênticas. A conversão de moeda é
+// refeita a cada requisição, então mudanças de cotação não invalidam nada; escritas locais descartam só as páginas
+// cujos filtros o veículo atendia antes ou passa a atender depois.
+@Service
+public class VehicleSearchCacheServiceImpl implements VehicleSearchCacheService {
+
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${vehicle.search-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${vehicle.search-cache.max-entries:10000}")
+    private int maxEntries;
+
+    // Rede de segurança caso a invalidação entre nós (pub/sub) se perca
+    @Value("${vehicle.search-cache.ttl:30s}")
+    private Duration ttl;
+
+    private WindowTinyLfuCache<VehicleSearchKey, Page<VehicleRow>> cache;
+
+    @PostConstruct
+    public void start() {
+        cache = new WindowTinyLfuCache<>(maxEntries, ttl);
+    }
+
+    @Override
+    public Page<VehicleRow> getPage(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Pageable pageable,
+            Supplier<Page<VehicleRow>> loader
+    ) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        VehicleSearchKey key = VehicleSearchKey.of(plate, brand, vehicleYear, color, minPrice, maxPrice, pageable);
+        Page<VehicleRow> cached = cache.get(key, Instant.now());
+        if (cached != null) {
+            return cached;
+        }
+
+        // Uma página lida durante uma escrita só entra no cache se nenhuma invalidação chegou no meio
+        long observedGeneration = generation.get();
+        Page<VehicleRow> page = loader.get();
+        synchronized (generation) {
+            if (generation.get() == observedGeneration) {
+                cache.put(key, page, Instant.now());
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public AppResponseDTO<VehicleSearchCacheStatsDTO> getStats() {
+        WindowTinyLfuCache.CacheStats stats = cache.stats();
+        long requests = stats.hits() + stats.misses();
+
+        VehicleSearchCacheStatsDTO content = VehicleSearchCacheStatsDTO.builder()
+                .enabled(enabled)
+                .size(stats.size())
+                .maxEntries(maxEntries)
+                .hits(stats.hits())
+                .misses(stats.misses())
+                .hitRate(requests > 0 ? (double) stats.hits() / requests : 0)
+                .evictions(stats.evictions())
+                .invalidations(stats.invalidations())
+                .build();
+
+        return AppResponseDTO.<VehicleSearchCacheStatsDTO>builder()
+                .content(content)
+                .status(200)
+                .success(true)
+                .message("Métricas do cache de busca retornadas com sucesso!")
+                .build();
+    }
+
+    @EventListener
+    public void onVehicleChanged(VehicleChangedEvent event) {
+        synchronized (generation) {
+            generation.incrementAndGet();
+            cache.invalidateIf((key, page) -> key.matchesAny(event.before(), event.after()));
+        }
+    }
+
+    // Escritas de outros nós chegam sem o antes/depois do veículo, e invalidações da região inteira não dizem o
+    // que mudou: nos dois casos descarta tudo. As escritas locais já foram tratadas em onVehicleChanged.
+    @EventListener
+    public void onCacheInvalidation(CacheInvalidationEvent event) {
+        if (event.region() != CacheRegion.VEHICLE || (!event.remote() && !event.isWholeRegion())) {
+            return;
+        }
+        synchronized (generation) {
+            generation.incrementAndGet();
+            cache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.vehicle.management.service.impl;
+
+import com.vehicle.management.model.column.VehicleSearchIndex;
+import com.vehicle.management.event.CacheInvalidationEvent;
+import com.vehicle.management.event.CacheRegion;
+import com.vehicle.management.event.VehicleBatchImportedEvent;
+import com.vehicle.management.event.VehicleBulkChangedEvent;
+import com.vehicle.management.event.VehicleChangedEvent;
+import com.vehicle.management.model.price.FixedPointPrice;
+import com.vehicle.management.model.projection.VehicleRow;
+import com.vehicle.management.repository.VehicleManagementRepository;
+import com.vehicle.management.service.VehicleSearchIndexService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.vehicle.management.model.price.FixedPointPrice.USD_SCALE;
+import static java.util.Objects.nonNull;
+
+// Modelo de leitura opcional da listagem: índice colunar em memória dos veículos ativos, que acompanha as escritas
+// da API deste nó e é reconstruído do banco na subida e periodicamente. Só atende consultas depois da primeira carga
+// e fica indisponível (a listagem volta ao SQL) entre uma alteração que ele não acompanha e a reconstrução seguinte.
+@Service
+public class VehicleSearchIndexServiceImpl implements VehicleSearchIndexService {
+
+    private final Logger logger = LoggerFactory.getLogger(VehicleSearchIndexServiceImpl.class);
+
+    // Consultas compartilham a trava de leitura; escritas e a troca pelo índice reconstruído são exclusivas
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Serializa as reconstruções (periódica e pendente): só uma registra as escritas concorrentes
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // Alterações que o índice não acompanha: em lote neste nó ou qualquer escrita vinda de outro nó
+    private final AtomicLong staleChanges = new AtomicLong();
+
+    // Escritas recebidas durante a carga do banco, reaplicadas sobre o índice recarregado antes da troca
+    private volatile List<VehicleChangedEvent> writesDuringRebuild;
+
+    private VehicleSearchIndex index = new VehicleSearchIndex();
+
+    private volatile boolean loaded;
+
+    // Valor de staleChanges visto no início da última carga trocada; diferente do atual, o índice está desatualizado
+    private volatile long rebuiltChanges;
+
+    @Autowired
+    private VehicleManagementRepository repository;
+
+    @Value("${vehicle.search-index.enabled:false}")
+    private boolean enabled;
+
+    @Value("${vehicle.search-index.rebuild-batch-size:1000}")
+    private int rebuildBatchSize;
+
+    @Override
+    public boolean isAvailable() {
+        return enabled && loaded && rebuiltChanges == staleChanges.get();
+    }
+
+    @Override
+    public Page<VehicleRow> search(
+            String plate,
+            String brand,
+            Integer vehicleYear,
+            String color,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Pageable pageable
+    ) {
+        // Arredonda para dentro da faixa: com preços inteiros em unidades, price >= min equivale a units >= teto(min)
+        Long min = nonNull(minPrice) ? toUnits(minPrice, RoundingMode.CEILING) : null;
+        Long max = nonNull(maxPrice) ? toUnits(maxPrice, RoundingMode.FLOOR) : null;
+
+        VehicleSearchIndex.SearchResult result;
+        lock.readLock().lock();
+        try {
+            result = index.search(plate, brand, vehicleYear, color, min, max,
+                    pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new PageImpl<>(result.rows(), pageable, result.total());
+    }
+
+    @EventListener
+    public void onVehicleChanged(VehicleChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        applyWrites(List.of(event));
+    }
+
+    // Os veículos de um lote da importação entram no índice juntos, sob a mesma trava de escrita
+    @EventListener
+    public void onVehiclesImported(VehicleBatchImportedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        applyWrites(event.rows().stream().map(row -> new VehicleChangedEvent(null, row)).toList());
+    }
+
+    // Alteração em lote não informa o antes e depois de cada veículo: uma recarga em vez de um ajuste por veículo,
+    // feita por rebuildIfStale fora da requisição. Até ela terminar, a listagem consulta o banco
+    @EventListener
+    public void onVehiclesChangedInBulk(VehicleBulkChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        staleChanges.incrementAndGet();
+    }
+
+    // Escritas de outros nós só chegam como invalidação: a listagem consulta o banco até a próxima recarga pendente
+    @EventListener
+    public void onCacheInvalidation(CacheInvalidationEvent event) {
+        if (!enabled || event.region() != CacheRegion.VEHICLE || !event.remote()) {
+            return;
+        }
+        staleChanges.incrementAndGet();
+    }
+
+    // Recarrega logo após uma alteração não acompanhada, sem esperar o intervalo inteiro; várias invalidações
+    // recebidas entre duas execuções resultam em uma única recarga
+    @Scheduled(fixedDelayString = "${vehicle.search-index.stale-rebuild-delay:1s}")
+    public void rebuildIfStale() {
+        if (enabled && rebuiltChanges != staleChanges.get()) {
+            rebuild();
+        }
+    }
+
+    // Recarrega do banco; traz escritas de outros nós e o preço em reais recalculado em lote
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${vehicle.search-index.rebuild-interval:5m}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        rebuildLock.lock();
+        try {
+            long observedChanges = staleChanges.get();
+            lock.writeLock().lock();
+            try {
+                writesDuringRebuild = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            VehicleSearchIndex rebuilt = new VehicleSearchIndex();
+            repository.forEachActiveRow(rebuildBatchSize, rebuilt::upsert);
+
+            // Uma escrita durante a carga pode ou não ter sido lida; como upsert e remoção por id são idempotentes,
+            // reaplicá-la deixa o veículo no estado final de qualquer forma
+            lock.writeLock().lock();
+            try {
+                writesDuringRebuild.forEach(event -> apply(rebuilt, event));
+                index = rebuilt;
+                loaded = true;
+                rebuiltChanges = observedChanges;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.info("Índice de busca reconstruído com {} veículos ativos", rebuilt.size());
+        } finally {
+            writesDuringRebuild = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    private void applyWrites(List<VehicleChangedEvent> events) {
+        lock.writeLock().lock();
+        try {
+            events.forEach(event -> apply(index, event));
+            List<VehicleChangedEvent> pending = writesDuringRebuild;
+            if (pending != null) {
+                pending.addAll(events);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(VehicleSearchIndex target, VehicleChangedEvent event) {
+        if (event.after() != null) {
+            target.upsert(event.after());
+        } else {
+            target.remove(event.before().id());
+        }
+    }
+
+    private static long toUnits(BigDecimal usdAmount, RoundingMode roundingMode) {
+        return FixedPointPrice.toUnits(usdAmount.setScale(USD_SCALE, roundingMode), USD_SCALE);
+    }
+}
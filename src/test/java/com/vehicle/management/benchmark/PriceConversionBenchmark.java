@@ -0,0 +1,55 @@
+package com.vehicle.management.benchmark;
+
+import com.vehicle.management.model.rate.RateSnapshot;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// mvn -Pbenchmark test-compile exec:exec -Dbenchmark=PriceConversionBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceConversionBenchmark {
+
+    @Param({"100"})
+    private int pageSize;
+
+    private BigDecimal[] usdPrices;
+    private String cachedRate;
+    private RateSnapshot snapshot;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        usdPrices = new BigDecimal[pageSize];
+        for (int i = 0; i < pageSize; i++) {
+            usdPrices[i] = BigDecimal.valueOf(random.nextLong(1_000_000L, 50_000_000L), 2);
+        }
+        cachedRate = "5.4321";
+        snapshot = RateSnapshot.of(new BigDecimal(cachedRate), Duration.ofMinutes(10), Duration.ofMinutes(2));
+    }
+
+    // Implementação anterior: parse da cotação do Redis + multiply + setScale por linha
+    @Benchmark
+    public void bigDecimalPerRow(Blackhole blackhole) {
+        for (BigDecimal usd : usdPrices) {
+            BigDecimal rate = new BigDecimal(cachedRate);
+            blackhole.consume(usd.multiply(rate).setScale(2, RoundingMode.HALF_UP));
+        }
+    }
+
+    @Benchmark
+    public void fixedPointSnapshot(Blackhole blackhole) {
+        for (BigDecimal usd : usdPrices) {
+            blackhole.consume(snapshot.toBrl(usd));
+        }
+    }
+}
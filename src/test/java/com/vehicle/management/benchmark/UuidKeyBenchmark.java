@@ -0,0 +1,106 @@
+package com.vehicle.management.benchmark;
+
+import com.vehicle.management.model.id.UuidV7;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// mvn -Pbenchmark test-compile exec:exec -Dbenchmark=UuidKeyBenchmark
+// Inserções em lote numa tabela que já tem "existingRows" linhas, com cache de páginas do H2 menor que o índice.
+// Ao fim de cada fork imprime o espaço em disco da tabela (dados + índice da chave primária)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UuidKeyBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"500000"})
+    private int existingRows;
+
+    @Param({"RANDOM", "V7"})
+    private String generator;
+
+    private Path directory;
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<UUID> ids;
+    private long plateSequence;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException, IOException {
+        ids = "V7".equals(generator) ? UuidV7::next : UUID::randomUUID;
+        directory = Files.createTempDirectory("uuid-key-benchmark");
+        // Arquivo em disco e cache de 16 MB: o custo das divisões de página e das páginas frias aparece
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("vehicles") + ";CACHE_SIZE=16384");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE vehicles (
+                        id BINARY(16) PRIMARY KEY,
+                        plate VARCHAR(255) NOT NULL,
+                        price NUMERIC(15, 2) NOT NULL
+                    )
+                    """);
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO vehicles (id, plate, price) VALUES (?, ?, ?)");
+        for (int i = 0; i < existingRows / BATCH_SIZE; i++) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException, IOException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*), DISK_SPACE_USED('VEHICLES') FROM vehicles")) {
+            resultSet.next();
+            System.out.printf("%n%s: %d linhas, %d KB em disco%n", generator, resultSet.getLong(1), resultSet.getLong(2) / 1024);
+        }
+        insert.close();
+        connection.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setBytes(1, toBytes(ids.get()));
+            insert.setString(2, "P%09d".formatted(plateSequence++));
+            insert.setBigDecimal(3, BigDecimal.valueOf(5_000_000L + i, 2));
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    // Mesmo layout que o Hibernate grava em BINARY(16): bits mais significativos primeiro
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
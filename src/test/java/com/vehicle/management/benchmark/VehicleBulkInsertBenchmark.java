@@ -0,0 +1,91 @@
+package com.vehicle.management.benchmark;
+
+import com.vehicle.management.model.entity.Vehicle;
+import com.vehicle.management.repository.VehicleManagementRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// mvn -Pbenchmark test-compile exec:exec -Dbenchmark=VehicleBulkInsertBenchmark
+// Cada operação grava "rows" veículos; com Mode.Throughput em ops/s, linhas/s = score * rows
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class VehicleBulkInsertBenchmark {
+
+    private static final String[] BRANDS = {
+            "Ford", "Fiat", "Chevrolet", "Volkswagen", "Toyota", "Honda", "Hyundai", "Renault", "Nissan", "Jeep"
+    };
+
+    @Param({"1000"})
+    private int rows;
+
+    // 0 desliga o batching JDBC (uma ida ao banco por INSERT), como antes da configuração do hibernate.jdbc
+    @Param({"0", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private VehicleManagementRepository repository;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(VehicleReadPathBenchmark.JpaOnlyConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:bulk-insert-benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "--spring.jpa.properties.hibernate.order_inserts=" + (batchSize > 0),
+                        "--logging.level.root=WARN"
+                );
+        repository = context.getBean(VehicleManagementRepository.class);
+    }
+
+    // Operações de centenas de milissegundos: limpar a cada invocação mantém a tabela (e os índices) do mesmo tamanho
+    @TearDown(Level.Invocation)
+    public void clean() {
+        repository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // Caminho anterior do loader: saveAll, um INSERT por linha
+    @Benchmark
+    public List<Vehicle> saveAll() {
+        return repository.saveAll(nextVehicles());
+    }
+
+    @Benchmark
+    public List<Vehicle> insertAll() {
+        return repository.insertAll(nextVehicles());
+    }
+
+    private List<Vehicle> nextVehicles() {
+        List<Vehicle> vehicles = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            long n = sequence++;
+            vehicles.add(new Vehicle(
+                    "B%09d".formatted(n),
+                    BRANDS[(int) (n % BRANDS.length)],
+                    "Preto",
+                    1995 + (int) (n % 30),
+                    BigDecimal.valueOf(500_000L + n % 100_000L, 2)
+            ));
+        }
+        return vehicles;
+    }
+}
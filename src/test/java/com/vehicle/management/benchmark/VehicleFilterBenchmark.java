@@ -0,0 +1,242 @@
+package com.vehicle.management.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// mvn -Pbenchmark test-compile exec:exec -Dbenchmark=VehicleFilterBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VehicleFilterBenchmark {
+
+    private static final String[] BRANDS = {
+            "Ford", "Fiat", "Chevrolet", "Volkswagen", "Toyota", "Honda", "Hyundai", "Renault",
+            "Nissan", "Jeep", "Peugeot", "Citroen", "Kia", "Mitsubishi", "BMW", "Audi",
+            "Mercedes", "Volvo", "Land Rover", "Subaru", "Suzuki", "Chery", "BYD", "GWM",
+            "RAM", "Dodge", "Porsche", "Mini", "Jaguar", "Lexus", "Troller", "JAC",
+            "Lifan", "Mazda", "Tesla", "Seat", "Skoda", "Alfa Romeo", "Fiat Professional", "Iveco"
+    };
+    private static final String[] COLORS = {
+            "Preto", "Branco", "Prata", "Cinza", "Vermelho", "Azul",
+            "Verde", "Amarelo", "Marrom", "Bege", "Laranja", "Vinho"
+    };
+
+    // Consulta anterior: LOWER() na coluna e "(? IS NULL OR ...)" para cada filtro
+    private static final String LEGACY_WHERE = """
+            WHERE (? IS NULL OR LOWER(brand) = LOWER(?))
+              AND (? IS NULL OR vehicle_year = ?)
+              AND (? IS NULL OR LOWER(color) = LOWER(?))
+              AND (? IS NULL OR price >= ?)
+              AND (? IS NULL OR price <= ?)
+              AND active = TRUE
+            """;
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"BRAND_YEAR", "BRAND_COLOR", "PRICE_RANGE"})
+    private String shape;
+
+    private Connection connection;
+    private String brand;
+    private Integer vehicleYear;
+    private String color;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        // Sem cache de consultas: o H2 reaproveitaria o resultado e mascararia o full scan
+        connection = DriverManager.getConnection("jdbc:h2:mem:filter-benchmark;DB_CLOSE_DELAY=-1;QUERY_CACHE_SIZE=0");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS vehicles");
+            statement.execute("""
+                    CREATE TABLE vehicles (
+                        id BIGINT PRIMARY KEY,
+                        plate VARCHAR(255) NOT NULL,
+                        brand VARCHAR(255) NOT NULL,
+                        color VARCHAR(255) NOT NULL,
+                        vehicle_year INTEGER NOT NULL,
+                        price NUMERIC(15, 2) NOT NULL,
+                        active BOOLEAN NOT NULL,
+                        plate_normalized VARCHAR(255) NOT NULL,
+                        brand_normalized VARCHAR(255) NOT NULL,
+                        color_normalized VARCHAR(255) NOT NULL
+                    )
+                    """);
+        }
+        populate();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE INDEX idx_vehicles_plate_normalized ON vehicles (plate_normalized)");
+            statement.execute("CREATE INDEX idx_vehicles_brand_year ON vehicles (brand_normalized, vehicle_year)");
+            statement.execute("CREATE INDEX idx_vehicles_brand_color ON vehicles (brand_normalized, color_normalized)");
+            statement.execute("CREATE INDEX idx_vehicles_price ON vehicles (price)");
+            statement.execute("ANALYZE");
+        }
+
+        switch (shape) {
+            case "BRAND_YEAR" -> {
+                brand = "VOLKSWAGEN";
+                vehicleYear = 2018;
+            }
+            case "BRAND_COLOR" -> {
+                brand = "toyota";
+                color = "Prata";
+            }
+            case "PRICE_RANGE" -> {
+                minPrice = new BigDecimal("100000.00");
+                maxPrice = new BigDecimal("100500.00");
+            }
+            default -> throw new IllegalArgumentException(shape);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE vehicles");
+        }
+        connection.close();
+    }
+
+    // A página custa a consulta dos 20 itens mais o COUNT do Page
+    @Benchmark
+    public void legacyLowerWithNullChecks(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement page = connection.prepareStatement("SELECT id, plate, price FROM vehicles " + LEGACY_WHERE + " LIMIT 20");
+             PreparedStatement count = connection.prepareStatement("SELECT COUNT(*) FROM vehicles " + LEGACY_WHERE)) {
+            bindLegacy(page);
+            bindLegacy(count);
+            consume(page, count, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void normalizedIndexed(Blackhole blackhole) throws SQLException {
+        String where = normalizedWhere();
+        try (PreparedStatement page = connection.prepareStatement("SELECT id, plate, price FROM vehicles " + where + " LIMIT 20");
+             PreparedStatement count = connection.prepareStatement("SELECT COUNT(*) FROM vehicles " + where)) {
+            bindNormalized(page);
+            bindNormalized(count);
+            consume(page, count, blackhole);
+        }
+    }
+
+    private void populate() throws SQLException {
+        Random random = new Random(42);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement("""
+                INSERT INTO vehicles (id, plate, brand, color, vehicle_year, price, active,
+                                      plate_normalized, brand_normalized, color_normalized)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """)) {
+            for (int i = 0; i < rows; i++) {
+                String plate = "P%07d".formatted(i);
+                String vehicleBrand = BRANDS[random.nextInt(BRANDS.length)];
+                String vehicleColor = COLORS[random.nextInt(COLORS.length)];
+                insert.setLong(1, i);
+                insert.setString(2, plate);
+                insert.setString(3, vehicleBrand);
+                insert.setString(4, vehicleColor);
+                insert.setInt(5, 1990 + random.nextInt(36));
+                insert.setBigDecimal(6, BigDecimal.valueOf(random.nextLong(500_000L, 20_000_000L), 2));
+                insert.setBoolean(7, random.nextInt(10) != 0);
+                insert.setString(8, plate.toLowerCase(Locale.ROOT));
+                insert.setString(9, vehicleBrand.toLowerCase(Locale.ROOT));
+                insert.setString(10, vehicleColor.toLowerCase(Locale.ROOT));
+                insert.addBatch();
+                if (i % 10_000 == 9_999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    private void bindLegacy(PreparedStatement statement) throws SQLException {
+        int index = 1;
+        for (int i = 0; i < 2; i++) {
+            statement.setString(index++, brand);
+        }
+        for (int i = 0; i < 2; i++) {
+            statement.setObject(index++, vehicleYear, Types.INTEGER);
+        }
+        for (int i = 0; i < 2; i++) {
+            statement.setString(index++, color);
+        }
+        for (int i = 0; i < 2; i++) {
+            statement.setBigDecimal(index++, minPrice);
+        }
+        for (int i = 0; i < 2; i++) {
+            statement.setBigDecimal(index++, maxPrice);
+        }
+    }
+
+    // Mesmo formato do SQL gerado por VehicleFilterRepositoryImpl: só os filtros informados
+    private String normalizedWhere() {
+        StringBuilder where = new StringBuilder("WHERE active = TRUE");
+        if (brand != null) {
+            where.append(" AND brand_normalized = ?");
+        }
+        if (vehicleYear != null) {
+            where.append(" AND vehicle_year = ?");
+        }
+        if (color != null) {
+            where.append(" AND color_normalized = ?");
+        }
+        if (minPrice != null) {
+            where.append(" AND price >= ?");
+        }
+        if (maxPrice != null) {
+            where.append(" AND price <= ?");
+        }
+        return where.toString();
+    }
+
+    private void bindNormalized(PreparedStatement statement) throws SQLException {
+        int index = 1;
+        if (brand != null) {
+            statement.setString(index++, brand.toLowerCase(Locale.ROOT));
+        }
+        if (vehicleYear != null) {
+            statement.setInt(index++, vehicleYear);
+        }
+        if (color != null) {
+            statement.setString(index++, color.toLowerCase(Locale.ROOT));
+        }
+        if (minPrice != null) {
+            statement.setBigDecimal(index++, minPrice);
+        }
+        if (maxPrice != null) {
+            statement.setBigDecimal(index, maxPrice);
+        }
+    }
+
+    private void consume(PreparedStatement page, PreparedStatement count, Blackhole blackhole) throws SQLException {
+        try (ResultSet resultSet = page.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getLong(1));
+            }
+        }
+        try (ResultSet resultSet = count.executeQuery()) {
+            resultSet.next();
+            blackhole.consume(resultSet.getLong(1));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.vehicle.management.benchmark;
+
+import com.vehicle.management.dto.VehicleDTO;
+import com.vehicle.management.mapper.VehicleMapper;
+import com.vehicle.management.model.entity.Vehicle;
+import com.vehicle.management.model.rate.CurrencyCode;
+import com.vehicle.management.model.rate.RateSnapshot;
+import com.vehicle.management.repository.VehicleManagementRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// mvn -Pbenchmark test-compile exec:exec -Dbenchmark="VehicleReadPathBenchmark -prof gc"
+// O profiler "gc" mostra a alocação por operação (gc.alloc.rate.norm) dos dois caminhos
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class VehicleReadPathBenchmark {
+
+    private static final String[] BRANDS = {
+            "Ford", "Fiat", "Chevrolet", "Volkswagen", "Toyota", "Honda", "Hyundai", "Renault", "Nissan", "Jeep"
+    };
+
+    @Param({"100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private VehicleManagementRepository repository;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private RateSnapshot snapshot;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(JpaOnlyConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:read-path-benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN"
+                );
+        repository = context.getBean(VehicleManagementRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        List<Vehicle> vehicles = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            vehicles.add(new Vehicle(
+                    "BEN%04d".formatted(i),
+                    BRANDS[i % BRANDS.length],
+                    "Preto",
+                    1995 + i % 30,
+                    BigDecimal.valueOf(500_000L + i * 137L, 2)
+            ));
+        }
+        repository.saveAll(vehicles);
+
+        snapshot = RateSnapshot.of(new BigDecimal("5.4321"), Duration.ofMinutes(10), Duration.ofMinutes(2));
+        pageable = PageRequest.of(3, pageSize, Sort.by("price"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // Caminho anterior: entidades gerenciadas (com snapshot para dirty checking) e cópia para DTO em seguida
+    @Benchmark
+    public List<VehicleDTO> managedEntities() {
+        return transactionTemplate.execute(status -> {
+            List<Vehicle> vehicles = entityManager.createQuery(
+                            "SELECT v FROM Vehicle v WHERE v.brandNormalized = :brand AND v.active = true ORDER BY v.price ASC",
+                            Vehicle.class)
+                    .setParameter("brand", "toyota")
+                    .setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(pageSize + 1)
+                    .getResultList();
+            return VehicleMapper.toDTOList(vehicles.subList(0, Math.min(pageSize, vehicles.size())), snapshot, CurrencyCode.BRL);
+        });
+    }
+
+    @Benchmark
+    public List<VehicleDTO> readOnlyProjection() {
+        return VehicleMapper.fromRows(
+                repository.findSliceByFilters(null, "Toyota", null, null, null, null, pageable).getContent(),
+                snapshot,
+                CurrencyCode.BRL
+        );
+    }
+
+    // Sem @SpringBootConfiguration: a varredura de componentes da aplicação não pode encontrá-la
+    @EnableAutoConfiguration(exclude = {
+            RedisAutoConfiguration.class,
+            RedisRepositoriesAutoConfiguration.class,
+            SecurityAutoConfiguration.class
+    })
+    @EntityScan(basePackageClasses = Vehicle.class)
+    @EnableJpaRepositories(basePackageClasses = VehicleManagementRepository.class)
+    static class JpaOnlyConfiguration {
+    }
+}
@@ -0,0 +1,64 @@
+package com.vehicle.management.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateProviderCircuitBreakerTest {
+
+    @Test
+    void shouldOpenAfterConsecutiveFailures() {
+        RateProviderCircuitBreaker circuitBreaker = new RateProviderCircuitBreaker(2, Duration.ofMinutes(1));
+
+        circuitBreaker.onFailure();
+        assertTrue(circuitBreaker.tryAcquirePermission());
+
+        circuitBreaker.onFailure();
+        assertEquals(RateProviderCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    void shouldAllowSingleTrialCallAfterOpenDuration() {
+        RateProviderCircuitBreaker circuitBreaker = new RateProviderCircuitBreaker(1, Duration.ZERO);
+
+        circuitBreaker.onFailure();
+
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertEquals(RateProviderCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    void shouldCloseWhenTrialCallSucceeds() {
+        RateProviderCircuitBreaker circuitBreaker = new RateProviderCircuitBreaker(1, Duration.ZERO);
+
+        circuitBreaker.onFailure();
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onSuccess();
+
+        assertEquals(RateProviderCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    void shouldReopenWhenTrialCallFails() {
+        RateProviderCircuitBreaker circuitBreaker = new RateProviderCircuitBreaker(3, Duration.ofMinutes(1));
+
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        assertEquals(RateProviderCircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        RateProviderCircuitBreaker halfOpen = new RateProviderCircuitBreaker(3, Duration.ZERO);
+        halfOpen.onFailure();
+        halfOpen.onFailure();
+        halfOpen.onFailure();
+        halfOpen.tryAcquirePermission();
+        halfOpen.onFailure();
+
+        assertEquals(RateProviderCircuitBreaker.State.OPEN, halfOpen.getState());
+    }
+}
@@ -1,13 +1,30 @@
 package com.vehicle.management.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vehicle.management.dto.ArchivedVehicleDTO;
+import com.vehicle.management.dto.VehicleAnalyticsGroupDTO;
+import com.vehicle.management.dto.VehicleAnalyticsReportDTO;
 import com.vehicle.management.dto.VehicleBrandReportDTO;
+import com.vehicle.management.dto.VehicleBulkResultDTO;
 import com.vehicle.management.dto.VehicleDTO;
+import com.vehicle.management.dto.VehicleImportReportDTO;
+import com.vehicle.management.dto.VehicleSearchCacheStatsDTO;
+import com.vehicle.management.dto.request.VehicleBulkFilterDTO;
+import com.vehicle.management.dto.request.VehicleBulkUpdateRequestDTO;
 import com.vehicle.management.dto.request.VehiclePatchRequestDTO;
 import com.vehicle.management.dto.request.VehicleRequestDTO;
 import com.vehicle.management.dto.response.AppResponseDTO;
+import com.vehicle.management.dto.response.CursorPageDTO;
+import com.vehicle.management.model.rate.CurrencyCode;
+import com.vehicle.management.model.transfer.VehicleFileFormat;
 import com.vehicle.management.security.jwt.service.JwtService;
+import com.vehicle.management.service.VehicleAnalyticsService;
+import com.vehicle.management.service.VehicleArchiveService;
+import com.vehicle.management.service.VehicleBulkService;
+import com.vehicle.management.service.VehicleExportService;
+import com.vehicle.management.service.VehicleImportService;
 import com.vehicle.management.service.VehicleManagementService;
+import com.vehicle.management.service.VehicleSearchCacheService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -16,12 +33,16 @@ import org.springframework.data.domain.*;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -38,6 +59,24 @@ class VehicleManagementControllerTest {
     @MockitoBean
     private VehicleManagementService vehicleManagementService;
 
+    @MockitoBean
+    private VehicleAnalyticsService vehicleAnalyticsService;
+
+    @MockitoBean
+    private VehicleSearchCacheService vehicleSearchCacheService;
+
+    @MockitoBean
+    private VehicleArchiveService vehicleArchiveService;
+
+    @MockitoBean
+    private VehicleImportService vehicleImportService;
+
+    @MockitoBean
+    private VehicleExportService vehicleExportService;
+
+    @MockitoBean
+    private VehicleBulkService vehicleBulkService;
+
     @MockitoBean
     private JwtService jwtService;
 
@@ -52,7 +91,7 @@ class VehicleManagementControllerTest {
         Page<VehicleDTO> page = new PageImpl<>(List.of(vehicle));
 
         when(vehicleManagementService.getVehiclesByFilters(
-                any(), any(), any(), any(), any(), any(), any(Pageable.class)
+                any(), any(), any(), any(), any(), any(), eq(CurrencyCode.BRL), isNull(), any(Pageable.class)
         )).thenReturn(
                 AppResponseDTO.<Page<VehicleDTO>>builder()
                         .status(200)
@@ -67,6 +106,38 @@ class VehicleManagementControllerTest {
                 .andExpect(jsonPath("$.content.content[0].marca").value("Toyota"));
     }
 
+    @Test
+    void shouldGetVehiclesByCursorWhenCursorIsInformed() throws Exception {
+        VehicleDTO vehicle = VehicleDTO.builder()
+                .id(UUID.randomUUID())
+                .brand("Toyota")
+                .plate("ABC1234")
+                .build();
+
+        when(vehicleManagementService.getVehiclesByCursor(
+                any(), any(), any(), any(), any(), any(), eq(CurrencyCode.BRL), isNull(), eq(""), any(Pageable.class)
+        )).thenReturn(
+                AppResponseDTO.<CursorPageDTO<VehicleDTO>>builder()
+                        .status(200)
+                        .success(true)
+                        .content(CursorPageDTO.<VehicleDTO>builder()
+                                .content(List.of(vehicle))
+                                .size(1)
+                                .hasNext(true)
+                                .nextCursor("abc")
+                                .build())
+                        .build()
+        );
+
+        mockMvc.perform(get("/veiculos").param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.conteudo[0].marca").value("Toyota"))
+                .andExpect(jsonPath("$.content.proximo_cursor").value("abc"));
+
+        verify(vehicleManagementService, never()).getVehiclesByFilters(
+                any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
     @Test
     void shouldReturn400WhenColorIsInvalid() throws Exception {
         mockMvc.perform(get("/veiculos")
@@ -83,7 +154,7 @@ class VehicleManagementControllerTest {
                 .brand("Honda")
                 .build();
 
-        when(vehicleManagementService.getVehicleById(id))
+        when(vehicleManagementService.getVehicleById(id, CurrencyCode.BRL, null))
                 .thenReturn(AppResponseDTO.<VehicleDTO>builder()
                         .status(200)
                         .success(true)
@@ -95,6 +166,36 @@ class VehicleManagementControllerTest {
                 .andExpect(jsonPath("$.content.marca").value("Honda"));
     }
 
+    @Test
+    void shouldPassRequestedCurrencyAndAsOfToService() throws Exception {
+        UUID id = UUID.randomUUID();
+
+        when(vehicleManagementService.getVehicleById(id, CurrencyCode.EUR, Instant.parse("2024-01-30T15:00:00Z")))
+                .thenReturn(AppResponseDTO.<VehicleDTO>builder()
+                        .status(200)
+                        .success(true)
+                        .currency(CurrencyCode.EUR)
+                        .build());
+
+        mockMvc.perform(get("/veiculos/{id}", id.toString())
+                        .param("moeda", "eur")
+                        .param("asOf", "2024-01-30T12:00:00-03:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currency").value("EUR"));
+    }
+
+    @Test
+    void shouldReturn400WhenCurrencyIsInvalid() throws Exception {
+        mockMvc.perform(get("/veiculos").param("moeda", "XYZ"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturn400WhenAsOfIsInvalid() throws Exception {
+        mockMvc.perform(get("/veiculos").param("asOf", "ontem"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldReturn400WhenIdIsInvalid() throws Exception {
         mockMvc.perform(get("/veiculos/123"))
@@ -202,4 +303,209 @@ class VehicleManagementControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content.content[0].marca").value("Toyota"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldGetVehicleAnalyticsReport() throws Exception {
+        VehicleAnalyticsReportDTO report = VehicleAnalyticsReportDTO.builder()
+                .dimensions(List.of("marca"))
+                .totalVehicles(2)
+                .groups(List.of(VehicleAnalyticsGroupDTO.builder()
+                        .brand("Toyota")
+                        .count(2L)
+                        .build()))
+                .build();
+
+        when(vehicleAnalyticsService.getReport(
+                eq("marca,ano"), eq("Toyota"), isNull(), isNull(), isNull(), isNull(), eq(CurrencyCode.USD), eq(true)))
+                .thenReturn(AppResponseDTO.<VehicleAnalyticsReportDTO>builder()
+                        .status(200)
+                        .success(true)
+                        .content(report)
+                        .build());
+
+        mockMvc.perform(get("/veiculos/relatorios")
+                        .param("dimensoes", "marca,ano")
+                        .param("marca", "Toyota")
+                        .param("moeda", "usd")
+                        .param("histograma", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.grupos[0].marca").value("Toyota"))
+                .andExpect(jsonPath("$.content.grupos[0].ano").doesNotExist())
+                .andExpect(jsonPath("$.content.total_veiculos").value(2));
+    }
+
+    @Test
+    void shouldGetSearchCacheStats() throws Exception {
+        VehicleSearchCacheStatsDTO stats = VehicleSearchCacheStatsDTO.builder()
+                .enabled(true)
+                .size(3)
+                .hits(8)
+                .misses(2)
+                .hitRate(0.8)
+                .build();
+        when(vehicleSearchCacheService.getStats()).thenReturn(
+                AppResponseDTO.<VehicleSearchCacheStatsDTO>builder()
+                        .status(200)
+                        .success(true)
+                        .content(stats)
+                        .build()
+        );
+
+        mockMvc.perform(get("/veiculos/admin/cache-busca"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.acertos").value(8))
+                .andExpect(jsonPath("$.content.taxaAcerto").value(0.8));
+    }
+
+    @Test
+    void shouldListArchivedVehiclesNewestFirst() throws Exception {
+        ArchivedVehicleDTO archived = ArchivedVehicleDTO.builder()
+                .id(UUID.randomUUID())
+                .plate("ABC1234")
+                .archivedAt(Instant.parse("2024-01-30T15:00:00Z"))
+                .build();
+        when(vehicleArchiveService.getArchivedVehicles(eq("ABC1234"), any(Pageable.class))).thenReturn(
+                AppResponseDTO.<Page<ArchivedVehicleDTO>>builder()
+                        .status(200)
+                        .success(true)
+                        .content(new PageImpl<>(List.of(archived)))
+                        .build()
+        );
+
+        mockMvc.perform(get("/veiculos/admin/arquivo").param("placa", "ABC1234"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.content[0].placa").value("ABC1234"));
+
+        verify(vehicleArchiveService).getArchivedVehicles(eq("ABC1234"),
+                argThat(pageable -> pageable.getSort().equals(Sort.by(Sort.Direction.DESC, "archivedAt"))));
+    }
+
+    @Test
+    void shouldStreamImportBodyToServiceWithFormatFromContentType() throws Exception {
+        when(vehicleImportService.importVehicles(any(), eq(VehicleFileFormat.NDJSON))).thenReturn(
+                AppResponseDTO.<VehicleImportReportDTO>builder()
+                        .status(200)
+                        .success(true)
+                        .content(VehicleImportReportDTO.builder().rows(1).imported(1).errors(List.of()).build())
+                        .build()
+        );
+
+        mockMvc.perform(post("/veiculos/importacao")
+                        .contentType("application/x-ndjson")
+                        .content("{\"placa\":\"ABC1234\",\"marca\":\"Ford\",\"cor\":\"Preto\",\"ano\":2018,\"preco\":55000}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.importados").value(1));
+
+        verify(vehicleImportService).importVehicles(any(), eq(VehicleFileFormat.NDJSON));
+    }
+
+    @Test
+    void shouldRejectImportWithUnsupportedContentType() throws Exception {
+        mockMvc.perform(post("/veiculos/importacao")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
+
+        verify(vehicleImportService, never()).importVehicles(any(), any());
+    }
+
+    @Test
+    void shouldStreamExportAsAttachmentInRequestedFormat() throws Exception {
+        when(vehicleExportService.exportVehicles(isNull(), eq("Ford"), isNull(), isNull(), isNull(), isNull(),
+                eq(CurrencyCode.USD), eq(VehicleFileFormat.CSV)))
+                .thenReturn(output -> output.write("id,placa,marca,cor,ano,preco\n".getBytes()));
+
+        MvcResult result = mockMvc.perform(get("/veiculos/exportacao")
+                        .param("marca", "Ford")
+                        .param("moeda", "usd")
+                        .param("formato", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"veiculos.csv\""))
+                .andExpect(content().string("id,placa,marca,cor,ano,preco\n"));
+    }
+
+    @Test
+    void shouldRejectExportWithUnknownFormatBeforeStreaming() throws Exception {
+        mockMvc.perform(get("/veiculos/exportacao").param("formato", "xml"))
+                .andExpect(status().isBadRequest());
+
+        verify(vehicleExportService, never()).exportVehicles(any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldRejectExportWithInvalidColorLikeTheListing() throws Exception {
+        mockMvc.perform(get("/veiculos/exportacao").param("cor", "Azul123"))
+                .andExpect(status().isBadRequest());
+
+        verify(vehicleExportService, never()).exportVehicles(any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldUpdateVehiclesInBulkAndReturnAffectedCount() throws Exception {
+        when(vehicleBulkService.updateVehicles(any()))
+                .thenReturn(AppResponseDTO.<VehicleBulkResultDTO>builder()
+                        .status(200)
+                        .success(true)
+                        .content(new VehicleBulkResultDTO(12))
+                        .build());
+
+        mockMvc.perform(patch("/veiculos/admin/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"filtros":{"marca":"Ford","preco_maximo":50000},"ajuste_preco_percentual":-5.5}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.afetados").value(12));
+
+        verify(vehicleBulkService).updateVehicles(argThat(request ->
+                request.getFilters().getBrand().equals("Ford")
+                        && request.getPriceAdjustmentPercent().compareTo(new BigDecimal("-5.5")) == 0));
+    }
+
+    @Test
+    void shouldRejectBulkUpdateWithoutFiltersOrWithAdjustmentOutOfRange() throws Exception {
+        mockMvc.perform(patch("/veiculos/admin/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(VehicleBulkUpdateRequestDTO.builder().color("Prata").build())))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(patch("/veiculos/admin/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(VehicleBulkUpdateRequestDTO.builder()
+                                .filters(VehicleBulkFilterDTO.builder().brand("Ford").build())
+                                .priceAdjustmentPercent(new BigDecimal("-100"))
+                                .build())))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(patch("/veiculos/admin/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(VehicleBulkUpdateRequestDTO.builder()
+                                .filters(VehicleBulkFilterDTO.builder().brand("Ford").build())
+                                .priceAdjustmentPercent(new BigDecimal("1000.01"))
+                                .build())))
+                .andExpect(status().isBadRequest());
+
+        verify(vehicleBulkService, never()).updateVehicles(any());
+    }
+
+    @Test
+    void shouldDeleteVehiclesInBulk() throws Exception {
+        when(vehicleBulkService.deleteVehicles(any()))
+                .thenReturn(AppResponseDTO.<VehicleBulkResultDTO>builder()
+                        .status(200)
+                        .success(true)
+                        .content(new VehicleBulkResultDTO(3))
+                        .build());
+
+        mockMvc.perform(post("/veiculos/admin/lote/remocao")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(VehicleBulkFilterDTO.builder().vehicleYear(2010).build())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.afetados").value(3));
+    }
+}
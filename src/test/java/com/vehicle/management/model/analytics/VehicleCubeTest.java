@@ -0,0 +1,115 @@
+package com.vehicle.management.model.analytics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VehicleCubeTest {
+
+    private static final long BAND = 10_000_0000L; // 10.000 USD em unidades de USD_SCALE
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void shouldAggregateByBrandAndYearIgnoringCase() {
+        VehicleCube cube = new VehicleCube();
+        cube.upsert(UUID.randomUUID(), "Ford", "Preto", 2018, usd(40_000));
+        cube.upsert(UUID.randomUUID(), "FORD", "Azul", 2018, usd(60_000));
+        cube.upsert(UUID.randomUUID(), "Ford", "Preto", 2020, usd(80_000));
+        cube.upsert(UUID.randomUUID(), "Fiat", "Preto", 2018, usd(30_000));
+
+        List<CubeCell> cells = cube.aggregate(query(EnumSet.of(CubeDimension.BRAND, CubeDimension.YEAR), null, null), pool);
+
+        assertEquals(3, cells.size());
+        assertEquals("Fiat", cube.brandLabel(cells.get(0).getBrand()));
+        CubeCell ford2018 = cells.get(1);
+        assertEquals("Ford", cube.brandLabel(ford2018.getBrand()));
+        assertEquals(2018, ford2018.getVehicleYear());
+        assertEquals(VehicleCube.NONE, ford2018.getColor());
+        assertEquals(2, ford2018.getCount());
+        assertEquals(usd(40_000), ford2018.getMinPrice());
+        assertEquals(usd(60_000), ford2018.getMaxPrice());
+        assertEquals(usd(100_000), ford2018.getPriceSum());
+    }
+
+    @Test
+    void shouldFilterAndBuildHistogram() {
+        VehicleCube cube = new VehicleCube();
+        cube.upsert(UUID.randomUUID(), "Ford", "Preto", 2018, usd(5_000));
+        cube.upsert(UUID.randomUUID(), "Ford", "preto", 2019, usd(25_000));
+        cube.upsert(UUID.randomUUID(), "Ford", "Preto", 2020, usd(27_000));
+        cube.upsert(UUID.randomUUID(), "Ford", "Azul", 2020, usd(27_000));
+
+        CubeQuery query = new CubeQuery(Set.of(), "ford", null, "PRETO", null, null, BAND, true);
+        List<CubeCell> cells = cube.aggregate(query, pool);
+
+        assertEquals(1, cells.size());
+        assertEquals(3, cells.get(0).getCount());
+        assertArrayEquals(new long[]{1, 0, 2}, Arrays.copyOf(cells.get(0).getHistogram(), 3));
+    }
+
+    @Test
+    void shouldReflectUpdatesAndRemovals() {
+        VehicleCube cube = new VehicleCube();
+        UUID id = UUID.randomUUID();
+        cube.upsert(id, "Ford", "Preto", 2018, usd(40_000));
+        cube.upsert(id, "Honda", "Preto", 2018, usd(45_000));
+        UUID removed = UUID.randomUUID();
+        cube.upsert(removed, "Ford", "Azul", 2019, usd(50_000));
+        assertTrue(cube.remove(removed));
+        assertFalse(cube.remove(removed));
+
+        List<CubeCell> cells = cube.aggregate(query(EnumSet.of(CubeDimension.BRAND), null, null), pool);
+
+        assertEquals(1, cube.size());
+        assertEquals(1, cells.size());
+        assertEquals("Honda", cube.brandLabel(cells.get(0).getBrand()));
+        assertTrue(cube.aggregate(query(EnumSet.noneOf(CubeDimension.class), "Ford", null), pool).isEmpty());
+    }
+
+    @Test
+    void shouldMatchSequentialTotalsWhenSplitAcrossWorkers() {
+        VehicleCube cube = new VehicleCube();
+        String[] brands = {"Ford", "Fiat", "Honda"};
+        long expectedSum = 0;
+        for (int i = 0; i < 50_000; i++) {
+            long price = usd(10_000 + i % 90_000);
+            cube.upsert(UUID.randomUUID(), brands[i % brands.length], "Preto", 2000 + i % 20, price);
+            expectedSum += price;
+        }
+
+        List<CubeCell> byBand = cube.aggregate(query(EnumSet.of(CubeDimension.PRICE_BAND), null, null), pool);
+        List<CubeCell> total = cube.aggregate(query(EnumSet.noneOf(CubeDimension.class), null, null), pool);
+
+        assertEquals(50_000, byBand.stream().mapToLong(CubeCell::getCount).sum());
+        assertEquals(50_000, total.get(0).getCount());
+        assertEquals(expectedSum, total.get(0).getPriceSum());
+    }
+
+    @Test
+    void shouldRejectUnknownDimension() {
+        assertEquals(EnumSet.of(CubeDimension.BRAND, CubeDimension.PRICE_BAND), CubeDimension.fromParameter("marca, FAIXA_PRECO"));
+        assertThrows(IllegalArgumentException.class, () -> CubeDimension.fromParameter("modelo"));
+    }
+
+    private static CubeQuery query(Set<CubeDimension> dimensions, String brand, String color) {
+        return new CubeQuery(dimensions, brand, null, color, null, null, BAND, false);
+    }
+
+    private static long usd(long amount) {
+        return amount * 10_000L;
+    }
+}
@@ -0,0 +1,75 @@
+package com.vehicle.management.model.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WindowTinyLfuCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-30T12:00:00Z");
+
+    @Test
+    void shouldKeepFrequentKeysWhenAScanOfOneHitKeysPassesThrough() {
+        WindowTinyLfuCache<String, Integer> cache = new WindowTinyLfuCache<>(100, Duration.ofMinutes(1));
+        for (int i = 0; i < 50; i++) {
+            cache.put("popular-" + i, i, NOW);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 50; i++) {
+                cache.get("popular-" + i, NOW);
+            }
+        }
+
+        // Varredura de chaves únicas enquanto as populares continuam sendo lidas
+        for (int i = 0; i < 10_000; i++) {
+            cache.get("scan-" + i, NOW);
+            cache.put("scan-" + i, i, NOW);
+            if (i % 200 == 0) {
+                for (int j = 0; j < 50; j++) {
+                    cache.get("popular-" + j, NOW);
+                }
+            }
+        }
+
+        int survivors = 0;
+        for (int i = 0; i < 50; i++) {
+            if (cache.get("popular-" + i, NOW) != null) {
+                survivors++;
+            }
+        }
+        assertEquals(50, survivors);
+        assertTrue(cache.size() <= 100);
+        assertTrue(cache.stats().evictions() > 0);
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTtl() {
+        WindowTinyLfuCache<String, Integer> cache = new WindowTinyLfuCache<>(10, Duration.ofSeconds(30));
+        cache.put("ford", 1, NOW);
+
+        assertEquals(1, cache.get("ford", NOW.plusSeconds(29)));
+        assertNull(cache.get("ford", NOW.plusSeconds(30)));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldInvalidateOnlyMatchingEntriesAndCountStats() {
+        WindowTinyLfuCache<String, Integer> cache = new WindowTinyLfuCache<>(10, Duration.ofMinutes(1));
+        cache.put("ford-1", 1, NOW);
+        cache.put("ford-2", 2, NOW);
+        cache.put("fiat-1", 3, NOW);
+
+        assertEquals(2, cache.invalidateIf((key, value) -> key.startsWith("ford")));
+
+        assertNull(cache.get("ford-1", NOW));
+        assertEquals(3, cache.get("fiat-1", NOW));
+        WindowTinyLfuCache.CacheStats stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(2, stats.invalidations());
+        assertEquals(1, stats.size());
+    }
+}
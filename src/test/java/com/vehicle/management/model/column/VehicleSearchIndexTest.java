@@ -0,0 +1,108 @@
+package com.vehicle.management.model.column;
+
+import com.vehicle.management.model.projection.VehicleRow;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VehicleSearchIndexTest {
+
+    @Test
+    void shouldIntersectBrandYearAndColorIgnoringCase() {
+        VehicleSearchIndex index = new VehicleSearchIndex();
+        index.upsert(row("AAA0001", "Ford", "Preto", 2018, "40000.00"));
+        index.upsert(row("AAA0002", "FORD", "Azul", 2018, "45000.00"));
+        index.upsert(row("AAA0003", "Ford", "Preto", 2020, "50000.00"));
+        index.upsert(row("AAA0004", "Fiat", "Preto", 2018, "30000.00"));
+
+        VehicleSearchIndex.SearchResult result =
+                index.search(null, "ford", 2018, "PRETO", null, null, Sort.unsorted(), 0, 10);
+
+        assertEquals(1, result.total());
+        assertEquals("AAA0001", result.rows().get(0).plate());
+        assertEquals(0, index.search(null, "Toyota", null, null, null, null, Sort.unsorted(), 0, 10).total());
+    }
+
+    @Test
+    void shouldFilterPriceRangeAndPlate() {
+        VehicleSearchIndex index = new VehicleSearchIndex();
+        index.upsert(row("AAA0001", "Ford", "Preto", 2018, "40000.00"));
+        index.upsert(row("AAA0002", "Ford", "Preto", 2018, "45000.00"));
+        index.upsert(row("AAA0003", "Ford", "Preto", 2018, "50000.00"));
+
+        assertEquals(2, index.search(null, null, null, null, units("45000.00"), units("50000.00"), Sort.unsorted(), 0, 10).total());
+        assertEquals(1, index.search("aaa0002", null, null, null, null, null, Sort.unsorted(), 0, 10).total());
+        assertEquals(0, index.search("AAA0002", null, null, null, units("46000.00"), null, Sort.unsorted(), 0, 10).total());
+    }
+
+    @Test
+    void shouldSortAndPageWithFullTotal() {
+        VehicleSearchIndex index = new VehicleSearchIndex();
+        for (int i = 0; i < 50; i++) {
+            index.upsert(row("P%04d".formatted(i), "Ford", "Preto", 2000 + i % 5, BigDecimal.valueOf(10_000 + (i * 37) % 50 * 100L).setScale(2).toPlainString()));
+        }
+
+        VehicleSearchIndex.SearchResult page = index.search(null, "Ford", null, null, null, null,
+                Sort.by(Sort.Order.desc("vehicleYear"), Sort.Order.asc("price")), 20, 10);
+
+        assertEquals(50, page.total());
+        assertEquals(10, page.rows().size());
+        List<VehicleRow> all = index.search(null, "Ford", null, null, null, null,
+                Sort.by(Sort.Order.desc("vehicleYear"), Sort.Order.asc("price")), 0, 50).rows();
+        assertEquals(all.subList(20, 30), page.rows());
+        for (int i = 1; i < all.size(); i++) {
+            VehicleRow previous = all.get(i - 1);
+            VehicleRow current = all.get(i);
+            assertTrue(previous.vehicleYear() > current.vehicleYear()
+                    || (previous.vehicleYear().equals(current.vehicleYear()) && previous.price().compareTo(current.price()) <= 0));
+        }
+    }
+
+    @Test
+    void shouldMoveBitmapsOnUpdateAndReuseSlotsOnRemoval() {
+        VehicleSearchIndex index = new VehicleSearchIndex();
+        VehicleRow original = row("AAA0001", "Ford", "Preto", 2018, "40000.00");
+        index.upsert(original);
+        index.upsert(new VehicleRow(original.id(), "BBB0001", "Honda", "Azul", 2021, new BigDecimal("42000.00"), null, null));
+
+        assertEquals(0, index.search(null, "Ford", null, null, null, null, Sort.unsorted(), 0, 10).total());
+        assertEquals(0, index.search("AAA0001", null, null, null, null, null, Sort.unsorted(), 0, 10).total());
+        assertEquals(1, index.search("BBB0001", "Honda", 2021, "azul", null, null, Sort.unsorted(), 0, 10).total());
+
+        assertTrue(index.remove(original.id()));
+        assertFalse(index.remove(original.id()));
+        index.upsert(row("CCC0001", "Fiat", "Preto", 2019, "30000.00"));
+
+        assertEquals(1, index.size());
+        assertEquals(0, index.search(null, "Honda", null, null, null, null, Sort.unsorted(), 0, 10).total());
+        assertEquals(1, index.search(null, null, null, null, null, null, Sort.unsorted(), 0, 10).total());
+    }
+
+    @Test
+    void shouldOrderIdsAsUnsignedBytesLikeTheDatabase() {
+        VehicleSearchIndex index = new VehicleSearchIndex();
+        UUID low = new UUID(0x1000000000000000L, 0L);
+        UUID high = new UUID(0x9000000000000000L, 0L); // negativo como long
+        index.upsert(new VehicleRow(high, "AAA0001", "Ford", "Preto", 2018, new BigDecimal("1.00"), null, null));
+        index.upsert(new VehicleRow(low, "AAA0002", "Ford", "Preto", 2018, new BigDecimal("1.00"), null, null));
+
+        List<VehicleRow> rows = index.search(null, null, null, null, null, null, Sort.by("id"), 0, 10).rows();
+
+        assertEquals(List.of(low, high), rows.stream().map(VehicleRow::id).toList());
+        assertThrows(IllegalArgumentException.class,
+                () -> index.search(null, null, null, null, null, null, Sort.by("model"), 0, 10));
+    }
+
+    private static VehicleRow row(String plate, String brand, String color, int vehicleYear, String price) {
+        return new VehicleRow(UUID.randomUUID(), plate, brand, color, vehicleYear, new BigDecimal(price), null, null);
+    }
+
+    private static long units(String usd) {
+        return new BigDecimal(usd).movePointRight(4).longValueExact();
+    }
+}
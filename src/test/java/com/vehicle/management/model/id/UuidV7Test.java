@@ -0,0 +1,49 @@
+package com.vehicle.management.model.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7Test {
+
+    private static final long NOW = 1_706_626_800_000L;
+
+    @Test
+    void shouldEncodeVersionVariantAndTimestamp() {
+        UUID id = new UuidV7(new SecureRandom()).next(NOW);
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(NOW, UuidV7.timestampOf(id));
+        assertTrue(UuidV7.isVersion7(id));
+        assertFalse(UuidV7.isVersion7(UUID.randomUUID()));
+    }
+
+    @Test
+    void shouldIncreaseWithinTheSameMillisecondAndWhenTheClockGoesBack() {
+        UuidV7 generator = new UuidV7(new SecureRandom());
+        UUID previous = generator.next(NOW);
+
+        for (int i = 0; i < 10_000; i++) {
+            // Metade das chamadas com o relógio um segundo atrás
+            UUID current = generator.next(i % 2 == 0 ? NOW : NOW - 1_000);
+            assertTrue(current.compareTo(previous) > 0);
+            previous = current;
+        }
+        // 4096 ids por milissegundo no máximo: o excedente avança o timestamp
+        assertTrue(UuidV7.timestampOf(previous) > NOW);
+    }
+
+    @Test
+    void shouldOrderLikeUnsignedBytes() {
+        UuidV7 generator = new UuidV7(new SecureRandom());
+        UUID older = generator.next(NOW);
+        UUID newer = generator.next(NOW + 1);
+
+        assertTrue(Long.compareUnsigned(older.getMostSignificantBits(), newer.getMostSignificantBits()) < 0);
+        assertTrue(older.compareTo(newer) < 0);
+    }
+}
@@ -0,0 +1,45 @@
+package com.vehicle.management.model.page;
+
+import com.vehicle.management.model.projection.VehicleRow;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void shouldRoundTripCursorThroughOpaqueToken() {
+        VehicleRow vehicle = new VehicleRow(UUID.randomUUID(), "ABC1D23", "Ford", "Preto", 2018, new BigDecimal("10125.37"), null, null);
+
+        String token = KeysetCursor.after(vehicle, "price", Sort.Direction.DESC).encode();
+        KeysetCursor cursor = KeysetCursor.decode(token, "price", Sort.Direction.DESC);
+
+        assertEquals(new BigDecimal("10125.37"), cursor.value());
+        assertEquals(vehicle.id(), cursor.id());
+    }
+
+    @Test
+    void shouldRoundTripPlateContainingTheSeparator() {
+        VehicleRow vehicle = new VehicleRow(UUID.randomUUID(), "AB|C1|D23", "Ford", "Preto", 2018, new BigDecimal("10125.37"), null, null);
+
+        String token = KeysetCursor.after(vehicle, "plateNormalized", Sort.Direction.ASC).encode();
+        KeysetCursor cursor = KeysetCursor.decode(token, "plateNormalized", Sort.Direction.ASC);
+
+        assertEquals("ab|c1|d23", cursor.value());
+        assertEquals(vehicle.id(), cursor.id());
+    }
+
+    @Test
+    void shouldRejectCursorFromAnotherSortOrGarbage() {
+        VehicleRow vehicle = new VehicleRow(UUID.randomUUID(), "ABC1D23", "Ford", "Preto", 2018, new BigDecimal("10125.37"), null, null);
+        String token = KeysetCursor.after(vehicle, "price", Sort.Direction.ASC).encode();
+
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(token, "vehicleYear", Sort.Direction.ASC));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(token, "price", Sort.Direction.DESC));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("não-é-base64!", "price", Sort.Direction.ASC));
+    }
+}
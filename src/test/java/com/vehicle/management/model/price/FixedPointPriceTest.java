@@ -0,0 +1,73 @@
+package com.vehicle.management.model.price;
+
+import com.vehicle.management.model.rate.RateSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedPointPriceTest {
+
+    private static final List<String> RATES = List.of("5.4321", "5.1", "4.98765", "5.000001", "0.123456");
+
+    @Test
+    void shouldRoundUsdToBrlExactlyLikeBigDecimal() {
+        Random random = new Random(42);
+        for (String rateValue : RATES) {
+            BigDecimal rate = new BigDecimal(rateValue);
+            RateSnapshot snapshot = snapshot(rate);
+            for (int i = 0; i < 10_000; i++) {
+                BigDecimal usd = BigDecimal.valueOf(random.nextLong(1_000_000_000_000L), 4);
+
+                BigDecimal expected = usd.multiply(rate).setScale(2, RoundingMode.HALF_UP);
+
+                assertEquals(expected, snapshot.toBrl(usd), () -> usd + " x " + rate);
+            }
+        }
+    }
+
+    @Test
+    void shouldRoundBrlToUsdExactlyLikeBigDecimal() {
+        Random random = new Random(7);
+        for (String rateValue : RATES) {
+            BigDecimal rate = new BigDecimal(rateValue);
+            RateSnapshot snapshot = snapshot(rate);
+            for (int i = 0; i < 10_000; i++) {
+                BigDecimal brl = BigDecimal.valueOf(random.nextLong(100_000_000_000L), random.nextInt(3));
+
+                BigDecimal expected = brl.divide(rate, 4, RoundingMode.HALF_UP);
+
+                assertEquals(expected, snapshot.toUsd(brl), () -> brl + " / " + rate);
+            }
+        }
+    }
+
+    @Test
+    void shouldRoundHalfUpAwayFromZero() {
+        assertEquals(3, FixedPointPrice.divideHalfUp(25, 10));
+        assertEquals(2, FixedPointPrice.divideHalfUp(24, 10));
+        assertEquals(-3, FixedPointPrice.divideHalfUp(-25, 10));
+        assertEquals(-2, FixedPointPrice.divideHalfUp(-24, 10));
+    }
+
+    @Test
+    void shouldFallBackToBigDecimalOutsideFixedPointRange() {
+        BigDecimal rate = new BigDecimal("5.12345678");
+        RateSnapshot snapshot = snapshot(rate);
+        BigDecimal usd = new BigDecimal("10.123456");
+
+        assertEquals(FixedPointPrice.NO_SCALED_RATE, snapshot.scaledRate());
+        assertEquals(usd.multiply(rate).setScale(2, RoundingMode.HALF_UP), snapshot.toBrl(usd));
+        assertEquals(new BigDecimal("922337203685477.5807").multiply(new BigDecimal("5.4321")).setScale(2, RoundingMode.HALF_UP),
+                snapshot(new BigDecimal("5.4321")).toBrl(new BigDecimal("922337203685477.5807")));
+    }
+
+    private RateSnapshot snapshot(BigDecimal rate) {
+        return RateSnapshot.of(rate, Duration.ofMinutes(10), Duration.ofMinutes(2));
+    }
+}
@@ -0,0 +1,101 @@
+package com.vehicle.management.model.rate.series;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateTimeSeriesTest {
+
+    private static final long START = 1_700_000_000L;
+
+    @Test
+    void shouldReturnSameValuesAsUncompressedHistory() {
+        Random random = new Random(42);
+        RateTimeSeries series = new RateTimeSeries();
+        TreeMap<Long, Double> expected = new TreeMap<>();
+
+        long timestamp = START;
+        double rate = 5.0;
+        for (int i = 0; i < 5_000; i++) {
+            // Renovações irregulares, com algumas lacunas de vários blocos
+            timestamp += random.nextInt(10) == 0 ? random.nextInt(50_000) + 1 : random.nextInt(600) + 1;
+            if (random.nextBoolean()) {
+                rate = Math.round((rate + (random.nextDouble() - 0.5) / 10) * 10_000) / 10_000.0;
+            }
+            series.append(timestamp, rate);
+            expected.put(timestamp, rate);
+        }
+
+        for (int i = 0; i < 5_000; i++) {
+            long query = START + (long) (random.nextDouble() * (timestamp - START + 100_000));
+            Map.Entry<Long, Double> floor = expected.floorEntry(query);
+            if (floor == null) {
+                assertTrue(series.valueAt(query).isEmpty());
+            } else {
+                assertEquals(floor.getValue(), series.valueAt(query).getAsDouble(), () -> "t=" + query);
+            }
+        }
+        assertTrue(series.valueAt(START).isEmpty());
+    }
+
+    @Test
+    void shouldCompressRepeatedAndRegularlySpacedRates() {
+        GorillaBlock block = new GorillaBlock(0);
+        for (int i = 0; i < 12; i++) {
+            block.append(i * 600L, i < 6 ? 5.4321 : 5.4400);
+        }
+
+        // 16 bytes por ponto sem compressão
+        assertTrue(block.getBitLength() < 12 * 16 * 8 / 4, "bits: " + block.getBitLength());
+        assertEquals(5.4321, block.valueAt(3_000L));
+        assertEquals(5.4400, block.valueAt(6_600L));
+    }
+
+    @Test
+    void shouldRestoreBlocksFromSerializedForm() throws IOException {
+        RateTimeSeries series = new RateTimeSeries();
+        series.append(START, 5.10);
+        GorillaBlock sealed = series.append(START + RateTimeSeries.BLOCK_SECONDS * 3, 5.20);
+        series.append(START + RateTimeSeries.BLOCK_SECONDS * 3 + 60, 5.30);
+
+        RateTimeSeries restored = new RateTimeSeries();
+        restored.restore(roundTrip(sealed));
+        restored.restore(roundTrip(series.getOpenBlock()));
+        restored.append(START + RateTimeSeries.BLOCK_SECONDS * 3 + 120, 5.40);
+
+        assertEquals(5.10, restored.valueAt(START + RateTimeSeries.BLOCK_SECONDS).getAsDouble());
+        assertEquals(5.30, restored.valueAt(START + RateTimeSeries.BLOCK_SECONDS * 3 + 90).getAsDouble());
+        assertEquals(5.40, restored.valueAt(START + RateTimeSeries.BLOCK_SECONDS * 10).getAsDouble());
+    }
+
+    @Test
+    void shouldKeepCopyOfOpenBlockUnchangedByLaterAppends() throws IOException {
+        GorillaBlock block = new GorillaBlock(START);
+        block.append(START + 60, 5.10);
+        block.append(START + 120, 5.15);
+
+        GorillaBlock copy = block.copy();
+        block.append(START + 180, 5.20);
+        copy.append(START + 240, 5.30);
+
+        assertEquals(3, block.getCount());
+        assertEquals(5.20, block.valueAt(START + 300));
+        assertEquals(5.15, copy.valueAt(START + 200));
+        assertEquals(5.30, roundTrip(copy).valueAt(START + 300));
+    }
+
+    private GorillaBlock roundTrip(GorillaBlock block) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        block.writeTo(new DataOutputStream(bytes));
+        return GorillaBlock.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+}
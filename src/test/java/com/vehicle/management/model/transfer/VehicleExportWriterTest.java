@@ -0,0 +1,61 @@
+package com.vehicle.management.model.transfer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vehicle.management.dto.VehicleDTO;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VehicleExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final VehicleDTO vehicle = VehicleDTO.builder()
+            .id(UUID.fromString("01a14f08-31c1-7183-b971-4ba3a4d500cb"))
+            .plate("ABC1234")
+            .brand("Land Rover, Inc.")
+            .color("Preto")
+            .vehicleYear(2022)
+            .price(new BigDecimal("1.5E+5"))
+            .active(true)
+            .build();
+
+    @Test
+    void shouldWriteCsvThatTheImportReadsBack() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        VehicleExportWriter writer = new VehicleExportWriter(output, VehicleFileFormat.CSV, objectMapper);
+        writer.write(vehicle);
+
+        String csv = output.toString(StandardCharsets.UTF_8);
+        assertEquals("""
+                id,placa,marca,cor,ano,preco
+                01a14f08-31c1-7183-b971-4ba3a4d500cb,ABC1234,"Land Rover, Inc.",Preto,2022,150000
+                """, csv);
+
+        VehicleImportRow row = new VehicleImportReader(new BufferedReader(new StringReader(csv)), VehicleFileFormat.CSV, objectMapper).next();
+        assertEquals("Land Rover, Inc.", row.vehicle().getBrand());
+        assertEquals(0, new BigDecimal("150000").compareTo(row.vehicle().getPrice()));
+        assertEquals(1, writer.written());
+    }
+
+    @Test
+    void shouldWriteOneJsonObjectPerLine() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        VehicleExportWriter writer = new VehicleExportWriter(output, VehicleFileFormat.NDJSON, objectMapper);
+        writer.write(vehicle);
+        writer.write(vehicle);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":\"01a14f08-31c1-7183-b971-4ba3a4d500cb\",\"placa\":\"ABC1234\""));
+        assertTrue(output.toString(StandardCharsets.UTF_8).endsWith("}\n"));
+    }
+}
@@ -0,0 +1,107 @@
+package com.vehicle.management.model.transfer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VehicleImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldReadCsvByHeaderNamesWithQuotedFieldsAndPhysicalLineNumbers() throws IOException {
+        List<VehicleImportRow> rows = readAll(VehicleFileFormat.CSV, "\uFEFF" + """
+                preco,Placa,marca,cor,ano
+                85000.00,ABC1234,"Land Rover, Inc.",Preto,2022
+
+                "42000",DEF5678,\"Fiat \"\"Uno\"\"\",Branco,2010
+                """);
+
+        assertEquals(2, rows.size());
+        assertEquals(2, rows.get(0).line());
+        assertEquals("ABC1234", rows.get(0).vehicle().getPlate());
+        assertEquals("Land Rover, Inc.", rows.get(0).vehicle().getBrand());
+        assertEquals(new BigDecimal("85000.00"), rows.get(0).vehicle().getPrice());
+        assertEquals(4, rows.get(1).line());
+        assertEquals("Fiat \"Uno\"", rows.get(1).vehicle().getBrand());
+        assertEquals(2010, rows.get(1).vehicle().getVehicleYear());
+    }
+
+    @Test
+    void shouldAcceptSemicolonSeparatorWithDecimalCommaAndLeaveBlankFieldsForValidation() throws IOException {
+        List<VehicleImportRow> rows = readAll(VehicleFileFormat.CSV, """
+                placa;marca;cor;ano;preco
+                ABC1234;Ford;Preto;2018;55000,50
+                DEF5678;;Preto;2018
+                """);
+
+        assertEquals(new BigDecimal("55000.50"), rows.get(0).vehicle().getPrice());
+        assertTrue(rows.get(1).isParsed());
+        assertNull(rows.get(1).vehicle().getBrand());
+        assertNull(rows.get(1).vehicle().getPrice());
+    }
+
+    @Test
+    void shouldReportUnparseableCsvValuesPerRow() throws IOException {
+        List<VehicleImportRow> rows = readAll(VehicleFileFormat.CSV, """
+                placa,marca,cor,ano,preco
+                ABC1234,Ford,Preto,dois mil,55000
+                DEF5678,Ford,Preto,2018,caro
+                "GHI9012,Ford,Preto,2018,55000
+                """);
+
+        assertEquals("Ano inválido: dois mil", rows.get(0).error());
+        assertEquals("ABC1234", rows.get(0).plate());
+        assertEquals("Preço inválido: caro", rows.get(1).error());
+        assertFalse(rows.get(2).isParsed());
+        assertNull(rows.get(2).plate());
+        assertEquals(4, rows.get(2).line());
+    }
+
+    @Test
+    void shouldRejectCsvWithoutRequiredColumns() {
+        assertThrows(IllegalArgumentException.class, () -> readAll(VehicleFileFormat.CSV, "placa,marca,cor,ano\n"));
+        assertThrows(IllegalArgumentException.class, () -> readAll(VehicleFileFormat.CSV, ""));
+    }
+
+    @Test
+    void shouldReadNdjsonWithPortugueseNamesOrAliases() throws IOException {
+        List<VehicleImportRow> rows = readAll(VehicleFileFormat.NDJSON, """
+                {"placa":"ABC1234","marca":"Ford","cor":"Preto","ano":2018,"preco":55000.00}
+                {"plate":"DEF5678","brand":"Fiat","color":"Branco","vehicleYear":2010,"price":42000}
+                {"placa":"GHI9012",
+                """);
+
+        assertEquals(3, rows.size());
+        assertEquals("ABC1234", rows.get(0).vehicle().getPlate());
+        assertEquals("Fiat", rows.get(1).vehicle().getBrand());
+        assertEquals(3, rows.get(2).line());
+        assertTrue(rows.get(2).error().startsWith("JSON inválido"));
+    }
+
+    @Test
+    void shouldEscapeOnlyValuesThatNeedQuotes() {
+        assertEquals("Ford", CsvLine.escape("Ford", ','));
+        assertEquals("\"Land Rover, Inc.\"", CsvLine.escape("Land Rover, Inc.", ','));
+        assertEquals("\"Fiat \"\"Uno\"\"\"", CsvLine.escape("Fiat \"Uno\"", ','));
+        assertEquals(List.of("Fiat \"Uno\""), CsvLine.split(CsvLine.escape("Fiat \"Uno\"", ','), ','));
+    }
+
+    private List<VehicleImportRow> readAll(VehicleFileFormat format, String body) throws IOException {
+        VehicleImportReader reader = new VehicleImportReader(new BufferedReader(new StringReader(body)), format, objectMapper);
+        List<VehicleImportRow> rows = new ArrayList<>();
+        VehicleImportRow row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,58 @@
+package com.vehicle.management.repository;
+
+import com.vehicle.management.config.RateProviderProperties;
+import com.vehicle.management.model.rate.CurrencyCode;
+import com.vehicle.management.model.rate.LastKnownGoodRate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class LastKnownGoodRateRepositoryTest {
+
+    @InjectMocks
+    private LastKnownGoodRateRepository repository;
+
+    @Spy
+    private RateProviderProperties rateProviderProperties = new RateProviderProperties();
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void shouldPersistAndRestoreLastKnownGoodRate() {
+        rateProviderProperties.setLastKnownGoodFile(tempDir.resolve("rates").resolve("usd-brl-rate.properties"));
+        LastKnownGoodRate rate = new LastKnownGoodRate(
+                Map.of(CurrencyCode.BRL, new BigDecimal("5.4321"), CurrencyCode.EUR, new BigDecimal("0.9234")),
+                Instant.parse("2024-01-01T10:00:00Z"));
+
+        repository.save(rate);
+
+        assertEquals(Optional.of(rate), repository.find());
+    }
+
+    @Test
+    void shouldReturnEmptyWhenFileIsMissingOrCorrupted() throws IOException {
+        Path file = tempDir.resolve("usd-brl-rate.properties");
+        rateProviderProperties.setLastKnownGoodFile(file);
+
+        assertTrue(repository.find().isEmpty());
+
+        Files.writeString(file, "rate=abc");
+
+        assertTrue(repository.find().isEmpty());
+    }
+}
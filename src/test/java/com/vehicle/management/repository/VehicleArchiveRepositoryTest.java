@@ -0,0 +1,64 @@
+package com.vehicle.management.repository;
+
+import com.vehicle.management.model.entity.ArchivedVehicle;
+import com.vehicle.management.model.entity.Vehicle;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class VehicleArchiveRepositoryTest {
+    @Autowired
+    private VehicleArchiveRepository archiveRepository;
+
+    @Autowired
+    private VehicleManagementRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void shouldMoveOnlyDeactivatedVehiclesToArchive() {
+        Vehicle kept = repository.save(new Vehicle("ABC1D23", "Ford", "Preto", 2018, new BigDecimal("55000.00")));
+        Vehicle removed = repository.save(new Vehicle("DEF4G56", "Fiat", "Azul", 2020, new BigDecimal("42000.00")));
+        entityManager.flush();
+        repository.deactivateById(removed.getId());
+
+        List<UUID> ids = archiveRepository.findInactiveIds(PageRequest.of(0, 10));
+        assertEquals(List.of(removed.getId()), ids);
+        assertEquals(1, archiveRepository.moveInactive(List.of(kept.getId(), removed.getId())));
+        entityManager.clear();
+
+        assertTrue(repository.findById(removed.getId()).isEmpty());
+        assertTrue(repository.findById(kept.getId()).isPresent());
+        ArchivedVehicle archived = archiveRepository.findById(removed.getId()).orElseThrow();
+        assertEquals("DEF4G56", archived.getPlate());
+        assertEquals(0, new BigDecimal("42000.00").compareTo(archived.getPrice()));
+        assertNotNull(archived.getArchivedAt());
+        assertTrue(archiveRepository.findInactiveIds(PageRequest.of(0, 10)).isEmpty());
+    }
+
+    @Test
+    void shouldAllowReusingPlateOfArchivedVehicle() {
+        Vehicle removed = repository.save(new Vehicle("ABC1D23", "Ford", "Preto", 2018, new BigDecimal("55000.00")));
+        entityManager.flush();
+        repository.deactivateById(removed.getId());
+        archiveRepository.moveInactive(List.of(removed.getId()));
+
+        repository.saveAndFlush(new Vehicle("ABC1D23", "Fiat", "Azul", 2022, new BigDecimal("61000.00")));
+        entityManager.clear();
+
+        assertEquals("Fiat", repository.findByPlate("ABC1D23").orElseThrow().getBrand());
+        assertEquals(1, archiveRepository.findByPlateNormalized("abc1d23", PageRequest.of(0, 10)).getTotalElements());
+    }
+}
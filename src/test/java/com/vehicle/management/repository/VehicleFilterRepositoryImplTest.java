@@ -0,0 +1,167 @@
+package com.vehicle.management.repository;
+
+import com.vehicle.management.model.entity.Vehicle;
+import com.vehicle.management.model.page.KeysetCursor;
+import com.vehicle.management.model.projection.VehicleRow;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.vehicle.management.repository.VehicleFilterRepositoryImplTest$CapturingInspector")
+@ActiveProfiles("test")
+class VehicleFilterRepositoryImplTest {
+    private static final String[] BRANDS = {"Ford", "Fiat", "Chevrolet", "Volkswagen", "Toyota", "Honda"};
+    private static final String[] COLORS = {"Preto", "Branco", "Prata", "Azul"};
+
+    @Autowired
+    private VehicleManagementRepository repository;
+
+    @Autowired
+    private VehicleFilterRepositoryImpl filterRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 240; i++) {
+            repository.save(new Vehicle(
+                    "AAA%04d".formatted(i),
+                    BRANDS[i % BRANDS.length],
+                    COLORS[i % COLORS.length],
+                    2000 + i % 20,
+                    BigDecimal.valueOf(10_000L + i * 500L)
+            ));
+        }
+        repository.flush();
+        CapturingInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void shouldUseBrandYearIndexWhenFilteringByBrandAndYear() {
+        String plan = explainFilter(null, "FORD", 2006, null, null, null);
+
+        assertTrue(plan.contains("IDX_VEHICLES_BRAND_YEAR"), plan);
+    }
+
+    @Test
+    void shouldUseBrandColorIndexWhenFilteringByBrandAndColor() {
+        String plan = explainFilter(null, "toyota", null, "Preto", null, null);
+
+        assertTrue(plan.contains("IDX_VEHICLES_BRAND_COLOR"), plan);
+    }
+
+    @Test
+    void shouldUsePriceIndexWhenFilteringByPriceRange() {
+        String plan = explainFilter(null, null, null, null, new BigDecimal("20000"), new BigDecimal("21000"));
+
+        assertTrue(plan.contains("IDX_VEHICLES_PRICE"), plan);
+    }
+
+    @Test
+    void shouldUsePlateIndexWhenFilteringByPlate() {
+        String plan = explainFilter("aaa0042", null, null, null, null, null);
+
+        assertTrue(plan.contains("IDX_VEHICLES_PLATE_NORMALIZED"), plan);
+    }
+
+    @Test
+    void shouldReuseGeneratedQueriesPerFilterShape() {
+        int before = filterRepository.cachedShapes();
+
+        repository.findSliceByFilters(null, "Ford", 2006, null, null, null, PageRequest.of(0, 10));
+        repository.countByFilters(null, "Fiat", 2010, null, null, null);
+        repository.findSliceByFilters(null, "Fiat", null, "Azul", null, null, PageRequest.of(0, 10));
+
+        assertEquals(before + 2, filterRepository.cachedShapes());
+    }
+
+    @Test
+    void shouldDetectNextSliceWithoutCountQuery() {
+        Slice<VehicleRow> middle = repository.findSliceByFilters(null, "fiat", null, null, null, null, PageRequest.of(2, 10));
+        Slice<VehicleRow> last = repository.findSliceByFilters(null, "fiat", null, null, null, null, PageRequest.of(3, 10));
+
+        assertEquals(10, middle.getNumberOfElements());
+        assertTrue(middle.hasNext());
+        assertEquals(10, last.getNumberOfElements());
+        assertFalse(last.hasNext());
+        assertTrue(CapturingInspector.STATEMENTS.stream().noneMatch(statement -> statement.contains("count(")));
+        assertEquals(40, repository.countByFilters(null, "FIAT", null, null, null, null));
+    }
+
+    @Test
+    void shouldWalkAllPagesWithKeysetCursorWithoutDuplicates() {
+        List<VehicleRow> seen = new ArrayList<>();
+        KeysetCursor after = null;
+        do {
+            List<VehicleRow> page = repository.findByFiltersAfter(
+                    null, "ford", null, null, null, null, after, "price", Sort.Direction.DESC, 7);
+            seen.addAll(page);
+            after = page.size() < 7 ? null : KeysetCursor.after(page.get(page.size() - 1), "price", Sort.Direction.DESC);
+        } while (after != null);
+
+        assertEquals(40, seen.size());
+        assertEquals(40, seen.stream().map(VehicleRow::id).distinct().count());
+        for (int i = 1; i < seen.size(); i++) {
+            assertTrue(seen.get(i - 1).price().compareTo(seen.get(i).price()) >= 0);
+        }
+        assertTrue(CapturingInspector.STATEMENTS.stream().noneMatch(statement -> statement.contains("count(")));
+    }
+
+    @Test
+    void shouldSeekThroughPriceIndexInKeysetMode() {
+        VehicleRow anchor = repository.findSliceByFilters(null, null, null, null, null, null, PageRequest.of(0, 1, Sort.by("price")))
+                .getContent().get(0);
+        CapturingInspector.STATEMENTS.clear();
+
+        repository.findByFiltersAfter(null, null, null, null, null, null,
+                KeysetCursor.after(anchor, "price", Sort.Direction.ASC), "price", Sort.Direction.ASC, 10);
+        String sql = CapturingInspector.STATEMENTS.peek();
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, anchor.price(), anchor.id(), 10);
+
+        assertTrue(plan.contains("IDX_VEHICLES_PRICE: PRICE >= ?1"), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    // EXPLAIN do SQL que o Hibernate gerou de fato para a página (filtros + limite com a linha extra da fatia)
+    private String explainFilter(String plate, String brand, Integer year, String color, BigDecimal minPrice, BigDecimal maxPrice) {
+        repository.findSliceByFilters(plate, brand, year, color, minPrice, maxPrice, PageRequest.of(0, 10, Sort.by("id")));
+        String sql = CapturingInspector.STATEMENTS.stream()
+                .filter(statement -> statement.startsWith("select") && statement.contains("where"))
+                .findFirst()
+                .orElseThrow();
+        Object[] parameters = Stream.<Object>of(
+                        Vehicle.normalize(plate), Vehicle.normalize(brand), year, Vehicle.normalize(color), minPrice, maxPrice, 11)
+                .filter(Objects::nonNull)
+                .toArray();
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+    }
+
+    public static class CapturingInspector implements StatementInspector {
+        static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.vehicle.management.repository;
+
+import com.vehicle.management.dto.VehicleBrandReportDTO;
+import com.vehicle.management.model.entity.Vehicle;
+import com.vehicle.management.model.projection.VehicleRow;
+import com.vehicle.management.model.rate.RateSnapshot;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class VehicleManagementRepositoryTest {
+    @Autowired
+    private VehicleManagementRepository repository;
+
+    @Autowired
+    private VehicleArchiveRepository archiveRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void shouldMaterializeBrlPriceWithSameRoundingAsInMemoryConversion() {
+        Vehicle vehicle = repository.save(new Vehicle("AAA1001", "Ford", "Preto", 2018, new BigDecimal("10125.37")));
+        BigDecimal rate = new BigDecimal("5.4321");
+
+        List<UUID> ids = repository.findIdsToReprice(rate, PageRequest.of(0, 10));
+        int updated = repository.repriceByIds(ids, rate);
+        entityManager.clear();
+
+        Vehicle repriced = repository.findById(vehicle.getId()).orElseThrow();
+        RateSnapshot snapshot = RateSnapshot.of(rate, Duration.ofMinutes(10), Duration.ofMinutes(2));
+        assertEquals(1, updated);
+        assertEquals(snapshot.toBrl(repriced.getPrice()), repriced.getPriceBrl());
+        assertTrue(repository.findIdsToReprice(rate, PageRequest.of(0, 10)).isEmpty());
+    }
+
+    @Test
+    void shouldAssignTimeOrderedIdsOnInsert() {
+        Vehicle first = repository.save(new Vehicle("AAA1001", "Ford", "Preto", 2018, new BigDecimal("55000.00")));
+        Vehicle second = repository.save(new Vehicle("AAA1002", "Fiat", "Preto", 2018, new BigDecimal("42000.00")));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(7, first.getId().version());
+        assertTrue(first.getId().compareTo(second.getId()) < 0);
+        List<VehicleRow> rows = repository.findSliceByFilters(null, null, null, null, null, null,
+                PageRequest.of(0, 10, Sort.by("id"))).getContent();
+        assertEquals(List.of("AAA1001", "AAA1002"), rows.stream().map(VehicleRow::plate).toList());
+    }
+
+    @Test
+    void shouldInsertAllAcrossSeveralJdbcBatchesAndDetachInsertedVehicles() {
+        List<Vehicle> vehicles = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            vehicles.add(new Vehicle("BLK%04d".formatted(i), "Ford", "Preto", 2018, BigDecimal.valueOf(5_000_000L + i, 2)));
+        }
+
+        List<Vehicle> inserted = repository.insertAll(vehicles);
+
+        assertEquals(120, inserted.size());
+        assertTrue(inserted.stream().allMatch(vehicle -> vehicle.getId() != null && !entityManager.getEntityManager().contains(vehicle)));
+        assertEquals(120, repository.count());
+        VehicleRow row = repository.findRowById(inserted.get(119).getId()).orElseThrow();
+        assertEquals("BLK0119", row.plate());
+        assertEquals(1, repository.findSliceByFilters("blk0042", null, null, null, null, null, PageRequest.of(0, 10)).getNumberOfElements());
+    }
+
+    @Test
+    void shouldReturnOnlyPlatesAlreadyRegisteredWithExactSpelling() {
+        repository.save(new Vehicle("AAA1001", "Ford", "Preto", 2018, new BigDecimal("55000.00")));
+        repository.save(new Vehicle("AAA1002", "Fiat", "Preto", 2018, new BigDecimal("42000.00")));
+        entityManager.flush();
+
+        List<String> existing = repository.findExistingPlates(List.of("AAA1001", "aaa1002", "ZZZ9999"));
+
+        assertEquals(List.of("AAA1001"), existing);
+        assertThrows(DataIntegrityViolationException.class, () ->
+                repository.insertAll(List.of(new Vehicle("AAA1001", "Ford", "Azul", 2019, new BigDecimal("56000.00")))));
+    }
+
+    @Test
+    void shouldStreamFilteredRowsInIdOrderWithoutLoadingEntities() {
+        Vehicle first = repository.save(new Vehicle("AAA1001", "Ford", "Preto", 2018, new BigDecimal("55000.00")));
+        repository.save(new Vehicle("AAA1002", "Fiat", "Preto", 2018, new BigDecimal("42000.00")));
+        Vehicle third = repository.save(new Vehicle("AAA1003", "FORD", "Azul", 2020, new BigDecimal("61000.00")));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<VehicleRow> rows = new ArrayList<>();
+        repository.forEachByFilters(null, "ford", null, null, new BigDecimal("50000.00"), null, 1, rows::add);
+
+        assertEquals(List.of(first.getId(), third.getId()), rows.stream().map(VehicleRow::id).toList());
+        assertFalse(entityManager.getEntityManager().contains(first));
+    }
+
+    @Test
+    void shouldSelectRowsPricedWithPreviousRate() {
+        repository.save(new Vehicle("AAA1001", "Ford", "Preto", 2018, new BigDecimal("55000.00")));
+        List<UUID> ids = repository.findIdsToReprice(new BigDecimal("5.10"), PageRequest.of(0, 10));
+        repository.repriceByIds(ids, new BigDecimal("5.10"));
+        entityManager.clear();
+
+        assertEquals(1, repository.findIdsToReprice(new BigDecimal("5.30"), PageRequest.of(0, 10)).size());
+    }
+
+    @Test
+    void shouldFilterCaseInsensitivelyThroughNormalizedColumns() {
+        repository.save(new Vehicle("ABC1D23", "Ford", "Preto", 2018, new BigDecimal("55000.00")));
+        repository.save(new Vehicle("XYZ9K87", "Fiat", "Preto", 2018, new BigDecimal("42000.00")));
+
+        assertEquals(1, repository.countByFilters("abc1d23", null, null, null, null, null));
+        assertEquals(1, repository.countByFilters(null, "FORD", 2018, null, null, null));
+        assertEquals(2, repository.countByFilters(null, null, null, "preto", null, null));
+        assertEquals(1, repository.countByFilters(null, null, null, null, new BigDecimal("50000"), null));
+    }
+
+    @Test
+    void shouldKeepNormalizedColumnsInSyncOnUpdate() {
+        Vehicle vehicle = repository.save(new Vehicle("ABC1D23", "Ford", "Preto", 2018, new BigDecimal("55000.00")));
+        entityManager.flush();
+
+        vehicle.setBrand("Volkswagen");
+        vehicle.setColor("Azul");
+        repository.saveAndFlush(vehicle);
+        entityManager.clear();
+
+        Vehicle updated = repository.findById(vehicle.getId()).orElseThrow();
+        assertEquals("volkswagen", updated.getBrandNormalized());
+        assertEquals("azul", updated.getColorNormalized());
+        assertEquals(0, repository.countByFilters(null, "ford", null, null, null, null));
+        assertEquals(1, repository.countByFilters(null, "VOLKSWAGEN", null, "AZUL", null, null));
+    }
+
+    @Test
+    void shouldProjectOnlyActiveVehicleById() {
+        Vehicle vehicle = repository.save(new Vehicle("ABC1D23", "Ford", "Preto", 2018, new BigDecimal("55000.00")));
+        entityManager.flush();
+
+        VehicleRow row = repository.findRowById(vehicle.getId()).orElseThrow();
+        assertEquals("ABC1D23", row.plate());
+        assertEquals(0, new BigDecimal("55000.00").compareTo(row.price()));
+
+        repository.deactivateById(vehicle.getId());
+        archiveRepository.moveInactive(List.of(vehicle.getId()));
+        entityManager.clear();
+        assertTrue(repository.findRowById(vehicle.getId()).isEmpty());
+    }
+
+    @Test
+    void shouldDeactivateOnlyOnceAndCountOnlyVehiclesLeftInTheTable() {
+        repository.save(new Vehicle("ABC1D23", "Ford", "Preto", 2018, new BigDecimal("55000.00")));
+        Vehicle removed = repository.save(new Vehicle("DEF4G56", "Ford", "Azul", 2020, new BigDecimal("70000.00")));
+        repository.save(new Vehicle("GHI7J89", "Fiat", "Branco", 2021, new BigDecimal("60000.00")));
+        entityManager.flush();
+
+        assertEquals(1, repository.deactivateById(removed.getId()));
+        assertEquals(0, repository.deactivateById(removed.getId()));
+        assertEquals(1, archiveRepository.moveInactive(List.of(removed.getId())));
+
+        Map<String, Long> counts = repository.countVehiclesByBrand().stream()
+                .collect(Collectors.toMap(VehicleBrandReportDTO::getBrand, VehicleBrandReportDTO::getCount));
+        assertEquals(Map.of("Ford", 1L, "Fiat", 1L), counts);
+    }
+
+    @Test
+    void shouldVisitEveryActiveRowAcrossBatches() {
+        for (int i = 0; i < 5; i++) {
+            repository.save(new Vehicle("BAT%04d".formatted(i), "Ford", "Preto", 2018, new BigDecimal("55000.00")));
+        }
+        entityManager.flush();
+
+        List<VehicleRow> rows = new ArrayList<>();
+        repository.forEachActiveRow(2, rows::add);
+
+        assertEquals(5, rows.size());
+        assertEquals(5, rows.stream().map(VehicleRow::id).distinct().count());
+    }
+
+    @Test
+    void shouldUpdateEveryFilteredVehicleInOneStatementKeepingNormalizedColumns() {
+        Vehicle ford = repository.save(new Vehicle("ABC1D23", "Ford", "Preto", 2018, new BigDecimal("10125.37")));
+        repository.save(new Vehicle("DEF4G56", "Ford", "Azul", 2020, new BigDecimal("70000.00")));
+        Vehicle fiat = repository.save(new Vehicle("GHI7J89", "Fiat", "Preto", 2021, new BigDecimal("60000.00")));
+        BigDecimal rate = new BigDecimal("5.4321");
+        repository.repriceByIds(repository.findIdsToReprice(rate, PageRequest.of(0, 10)), rate);
+        entityManager.clear();
+
+        int updated = repository.updateByFilters(null, "FORD", null, null, null, new BigDecimal("20000.00"),
+                "Prata", new BigDecimal("0.945"));
+        entityManager.clear();
+
+        Vehicle changed = repository.findById(ford.getId()).orElseThrow();
+        assertEquals(1, updated);
+        assertEquals("Prata", changed.getColor());
+        assertEquals(new BigDecimal("9568.47"), changed.getPrice());
+        assertNull(changed.getPriceBrl());
+        assertEquals(1, repository.countByFilters(null, null, null, "prata", null, null));
+        assertEquals(new BigDecimal("60000.00"), repository.findById(fiat.getId()).orElseThrow().getPrice());
+    }
+
+    @Test
+    void shouldRejectBulkPriceAdjustmentThatOverflowsThePriceColumn() {
+        repository.save(new Vehicle("ABC1D23", "Ford", "Preto", 2018, new BigDecimal("999999999999.99")));
+        entityManager.flush();
+
+        assertThrows(DataIntegrityViolationException.class, () -> repository.updateByFilters(
+                null, "ford", null, null, null, null, null, new BigDecimal("11")));
+    }
+
+    @Test
+    void shouldArchiveEveryFilteredVehicleAndCountOnlyActiveOnes() {
+        Vehicle first = repository.save(new Vehicle("ABC1D23", "Ford", "Preto", 2018, new BigDecimal("55000.00")));
+        Vehicle second = repository.save(new Vehicle("DEF4G56", "Ford", "Azul", 2020, new BigDecimal("70000.00")));
+        repository.save(new Vehicle("GHI7J89", "Fiat", "Preto", 2021, new BigDecimal("60000.00")));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(2, repository.archiveByFilters(null, "ford", null, null, null, null));
+        assertEquals(0, repository.archiveByFilters(null, "ford", null, null, null, null));
+        entityManager.clear();
+
+        assertEquals(List.of(first.getId(), second.getId()), archiveRepository.findAll(Sort.by("id")).stream()
+                .map(archived -> archived.getId()).toList());
+        assertNotNull(archiveRepository.findById(first.getId()).orElseThrow().getArchivedAt());
+        assertEquals(1, repository.count());
+    }
+}
@@ -0,0 +1,96 @@
+package com.vehicle.management.service.impl;
+
+import com.vehicle.management.event.CacheInvalidationEvent;
+import com.vehicle.management.event.CacheRegion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationServiceImplTest {
+
+    @InjectMocks
+    private CacheInvalidationServiceImpl service;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void shouldEvictLocallyAndBroadcastInvalidation() {
+        service.invalidate(CacheRegion.VEHICLE, "42");
+
+        verify(eventPublisher).publishEvent(new CacheInvalidationEvent(CacheRegion.VEHICLE, "42"));
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("CACHE_INVALIDATION"), message.capture());
+        assertTrue(message.getValue().endsWith("|VEHICLE|42"));
+    }
+
+    @Test
+    void shouldApplyInvalidationsFromOtherNodes() {
+        service.onMessage(message("other-node|VEHICLE|42"), null);
+        service.onMessage(message("other-node|RATE|"), null);
+
+        verify(eventPublisher).publishEvent(new CacheInvalidationEvent(CacheRegion.VEHICLE, "42", true));
+        verify(eventPublisher).publishEvent(new CacheInvalidationEvent(CacheRegion.RATE, null, true));
+    }
+
+    @Test
+    void shouldIgnoreOwnAndMalformedMessages() {
+        service.invalidateAll(CacheRegion.RATE);
+        ArgumentCaptor<String> sent = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("CACHE_INVALIDATION"), sent.capture());
+        clearInvocations(eventPublisher);
+
+        service.onMessage(message(sent.getValue()), null);
+        service.onMessage(message("invalid"), null);
+        service.onMessage(message("other-node|UNKNOWN|1"), null);
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldStillEvictLocallyWhenRedisIsDown() {
+        doThrow(new RedisConnectionFailureException("Redis down"))
+                .when(redisTemplate).convertAndSend(anyString(), anyString());
+
+        service.invalidate(CacheRegion.VEHICLE, "42");
+
+        verify(eventPublisher).publishEvent(new CacheInvalidationEvent(CacheRegion.VEHICLE, "42"));
+    }
+
+    @Test
+    void shouldDeferInvalidationUntilTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.invalidate(CacheRegion.VEHICLE, "42");
+            verifyNoInteractions(eventPublisher, redisTemplate);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(eventPublisher).publishEvent(new CacheInvalidationEvent(CacheRegion.VEHICLE, "42"));
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage("CACHE_INVALIDATION".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,81 @@
+package com.vehicle.management.service.impl;
+
+import com.vehicle.management.config.RateProviderProperties;
+import com.vehicle.management.model.rate.CurrencyCode;
+import com.vehicle.management.model.rate.RateSnapshot;
+import com.vehicle.management.repository.RateHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateHistoryServiceImplTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private RateHistoryServiceImpl service;
+
+    @BeforeEach
+    void setup() {
+        service = newService();
+    }
+
+    @Test
+    void shouldConvertWithRateInForceAtRequestedInstant() {
+        service.record(snapshot("2024-01-01T10:00:00Z", "5.10", "0.90"));
+        service.record(snapshot("2024-01-02T10:00:00Z", "5.20", "0.91"));
+
+        RateSnapshot asOf = service.getSnapshotAt(Instant.parse("2024-01-01T23:59:59Z"));
+
+        assertEquals(0, new BigDecimal("5.10").compareTo(asOf.rate()));
+        assertEquals(0, new BigDecimal("0.90").compareTo(asOf.rate(CurrencyCode.EUR)));
+        assertEquals(new BigDecimal("51.00"), asOf.toBrl(new BigDecimal("10.00")));
+        assertEquals(0, new BigDecimal("5.20").compareTo(service.getSnapshotAt(Instant.parse("2024-03-01T00:00:00Z")).rate()));
+    }
+
+    @Test
+    void shouldRejectInstantBeforeFirstRecordedRate() {
+        service.record(snapshot("2024-01-01T10:00:00Z", "5.10", "0.90"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getSnapshotAt(Instant.parse("2023-12-31T00:00:00Z")));
+    }
+
+    @Test
+    void shouldReloadHistoryFromDisk() {
+        service.record(snapshot("2024-01-01T10:00:00Z", "5.10", "0.90"));
+        service.record(snapshot("2024-01-01T15:00:00Z", "5.15", "0.90"));
+        service.record(snapshot("2024-01-01T15:10:00Z", "5.16", "0.92"));
+
+        RateHistoryServiceImpl restarted = newService();
+
+        assertEquals(0, new BigDecimal("5.10").compareTo(restarted.getSnapshotAt(Instant.parse("2024-01-01T14:00:00Z")).rate()));
+        assertEquals(0, new BigDecimal("0.92").compareTo(restarted.getSnapshotAt(Instant.parse("2024-01-01T16:00:00Z")).rate(CurrencyCode.EUR)));
+    }
+
+    private RateHistoryServiceImpl newService() {
+        RateProviderProperties properties = new RateProviderProperties();
+        properties.setHistoryDirectory(tempDir);
+        RateHistoryRepository repository = new RateHistoryRepository();
+        ReflectionTestUtils.setField(repository, "rateProviderProperties", properties);
+
+        RateHistoryServiceImpl historyService = new RateHistoryServiceImpl();
+        ReflectionTestUtils.setField(historyService, "rateHistoryRepository", repository);
+        historyService.load();
+        return historyService;
+    }
+
+    private RateSnapshot snapshot(String at, String brl, String eur) {
+        return RateSnapshot.historical(
+                Map.of(CurrencyCode.BRL, new BigDecimal(brl), CurrencyCode.EUR, new BigDecimal(eur)),
+                Instant.parse(at));
+    }
+}
@@ -0,0 +1,156 @@
+package com.vehicle.management.service.impl;
+
+import com.vehicle.management.dto.VehicleAnalyticsGroupDTO;
+import com.vehicle.management.dto.VehicleAnalyticsReportDTO;
+import com.vehicle.management.dto.response.AppResponseDTO;
+import com.vehicle.management.event.VehicleBulkChangedEvent;
+import com.vehicle.management.event.VehicleChangedEvent;
+import com.vehicle.management.model.entity.Vehicle;
+import com.vehicle.management.model.projection.VehicleRow;
+import com.vehicle.management.model.rate.CurrencyCode;
+import com.vehicle.management.model.rate.RateSnapshot;
+import com.vehicle.management.repository.VehicleManagementRepository;
+import com.vehicle.management.service.VehiclePriceConversionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VehicleAnalyticsServiceImplTest {
+
+    @InjectMocks
+    private VehicleAnalyticsServiceImpl service;
+
+    @Mock
+    private VehicleManagementRepository repository;
+
+    @Mock
+    private VehiclePriceConversionService vehiclePriceConversionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "parallelism", 2);
+        ReflectionTestUtils.setField(service, "priceBandWidth", new BigDecimal("10000"));
+        ReflectionTestUtils.setField(service, "rebuildBatchSize", 2);
+        service.start();
+        when(vehiclePriceConversionService.getRateSnapshot())
+                .thenReturn(RateSnapshot.of(new BigDecimal("5.00"), Duration.ofMinutes(10), Duration.ofMinutes(2)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    void shouldAggregateInRequestedCurrencyAfterWrites() {
+        service.onVehicleChanged(new VehicleChangedEvent(null, VehicleRow.of(vehicle("Ford", 2018, "10000.00"))));
+        service.onVehicleChanged(new VehicleChangedEvent(null, VehicleRow.of(vehicle("Ford", 2018, "20000.00"))));
+        Vehicle removed = vehicle("Ford", 2019, "90000.00");
+        service.onVehicleChanged(new VehicleChangedEvent(null, VehicleRow.of(removed)));
+        service.onVehicleChanged(new VehicleChangedEvent(VehicleRow.of(removed), null));
+
+        AppResponseDTO<VehicleAnalyticsReportDTO> response =
+                service.getReport("marca", null, null, null, new BigDecimal("40000"), null, CurrencyCode.BRL, true);
+
+        VehicleAnalyticsReportDTO report = response.getContent();
+        assertEquals(List.of("marca"), report.getDimensions());
+        assertEquals(2, report.getTotalVehicles());
+        assertEquals(0, new BigDecimal("50000.00").compareTo(report.getPriceBandWidth()));
+
+        VehicleAnalyticsGroupDTO ford = report.getGroups().get(0);
+        assertEquals("Ford", ford.getBrand());
+        assertNull(ford.getVehicleYear());
+        assertEquals(0, new BigDecimal("50000.00").compareTo(ford.getMinPrice()));
+        assertEquals(0, new BigDecimal("100000.00").compareTo(ford.getMaxPrice()));
+        assertEquals(0, new BigDecimal("75000.00").compareTo(ford.getAveragePrice()));
+        assertEquals(2, ford.getHistogram().size());
+        assertEquals(1L, ford.getHistogram().get(1).getCount());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReplaceWritesWithDatabaseStateOnRebuild() {
+        service.onVehicleChanged(new VehicleChangedEvent(null, VehicleRow.of(vehicle("Stale", 2010, "1000.00"))));
+        doAnswer(invocation -> {
+            Consumer<VehicleRow> consumer = invocation.getArgument(1);
+            consumer.accept(row("Ford", "10000.00"));
+            consumer.accept(row("Fiat", "20000.00"));
+            consumer.accept(row("Ford", "30000.00"));
+            return null;
+        }).when(repository).forEachActiveRow(eq(2), any());
+
+        service.rebuild();
+
+        AppResponseDTO<VehicleAnalyticsReportDTO> response =
+                service.getReport("marca", null, null, null, null, null, CurrencyCode.USD, false);
+
+        List<VehicleAnalyticsGroupDTO> groups = response.getContent().getGroups();
+        assertEquals(List.of("Fiat", "Ford"), groups.stream().map(VehicleAnalyticsGroupDTO::getBrand).toList());
+        assertEquals(2L, groups.get(1).getCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReplayWritesReceivedDuringRebuild() {
+        Vehicle repriced = vehicle("Ford", 2020, "10000.00");
+        Vehicle removed = vehicle("Fiat", 2020, "20000.00");
+        doAnswer(invocation -> {
+            Consumer<VehicleRow> consumer = invocation.getArgument(1);
+            consumer.accept(VehicleRow.of(repriced));
+            service.onVehicleChanged(new VehicleChangedEvent(VehicleRow.of(removed), null));
+            consumer.accept(VehicleRow.of(removed));
+            repriced.setPrice(new BigDecimal("30000.00"));
+            service.onVehicleChanged(new VehicleChangedEvent(null, VehicleRow.of(repriced)));
+            return null;
+        }).when(repository).forEachActiveRow(eq(2), any());
+
+        service.onVehiclesChangedInBulk(new VehicleBulkChangedEvent(2));
+        verify(repository, never()).forEachActiveRow(anyInt(), any());
+        service.rebuildIfStale();
+        service.rebuildIfStale();
+        verify(repository, times(1)).forEachActiveRow(eq(2), any());
+
+        AppResponseDTO<VehicleAnalyticsReportDTO> response =
+                service.getReport("marca", null, null, null, null, null, CurrencyCode.USD, false);
+
+        List<VehicleAnalyticsGroupDTO> groups = response.getContent().getGroups();
+        assertEquals(List.of("Ford"), groups.stream().map(VehicleAnalyticsGroupDTO::getBrand).toList());
+        assertEquals(0, new BigDecimal("30000.00").compareTo(groups.get(0).getMaxPrice()));
+    }
+
+    @Test
+    void shouldReturnEmptyMessageWhenNothingMatches() {
+        AppResponseDTO<VehicleAnalyticsReportDTO> response =
+                service.getReport(null, "Ford", null, null, null, null, CurrencyCode.BRL, false);
+
+        assertNull(response.getContent());
+        assertEquals(200, response.getStatus());
+    }
+
+    private static Vehicle vehicle(String brand, int vehicleYear, String price) {
+        Vehicle vehicle = new Vehicle(UUID.randomUUID().toString(), brand, "Preto", vehicleYear, new BigDecimal(price));
+        vehicle.setId(UUID.randomUUID());
+        return vehicle;
+    }
+
+    private static VehicleRow row(String brand, String price) {
+        return new VehicleRow(UUID.randomUUID(), "ABC1234", brand, "Preto", 2020, new BigDecimal(price), null, null);
+    }
+}
@@ -0,0 +1,97 @@
+package com.vehicle.management.service.impl;
+
+import com.vehicle.management.dto.ArchivedVehicleDTO;
+import com.vehicle.management.dto.response.AppResponseDTO;
+import com.vehicle.management.event.CacheRegion;
+import com.vehicle.management.model.entity.ArchivedVehicle;
+import com.vehicle.management.repository.VehicleArchiveRepository;
+import com.vehicle.management.repository.VehicleManagementRepository;
+import com.vehicle.management.service.CacheInvalidationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VehicleArchiveServiceImplTest {
+
+    @InjectMocks
+    private VehicleArchiveServiceImpl service;
+
+    @Mock
+    private VehicleManagementRepository repository;
+
+    @Mock
+    private VehicleArchiveRepository archiveRepository;
+
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+    }
+
+    @Test
+    void shouldMoveVehicleOnlyWhenThisCallDeactivatedIt() {
+        UUID id = UUID.randomUUID();
+        when(repository.deactivateById(id)).thenReturn(1, 0);
+
+        assertTrue(service.archive(id));
+        assertFalse(service.archive(id));
+
+        verify(archiveRepository, times(1)).moveInactive(List.of(id));
+    }
+
+    @Test
+    void shouldDrainDeactivatedVehiclesInBatches() {
+        List<UUID> first = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> second = List.of(UUID.randomUUID());
+        when(archiveRepository.findInactiveIds(PageRequest.of(0, 2))).thenReturn(first, second, List.of());
+        when(archiveRepository.moveInactive(first)).thenReturn(2);
+        when(archiveRepository.moveInactive(second)).thenReturn(1);
+
+        assertEquals(3, service.archiveDeactivated());
+
+        verify(cacheInvalidationService).invalidateAll(CacheRegion.VEHICLE);
+    }
+
+    @Test
+    void shouldNotInvalidateCachesWhenNothingWasMoved() {
+        when(archiveRepository.findInactiveIds(any())).thenReturn(List.of());
+
+        assertEquals(0, service.archiveDeactivated());
+
+        verifyNoInteractions(cacheInvalidationService);
+    }
+
+    @Test
+    void shouldFilterArchivedVehiclesByNormalizedPlate() {
+        Pageable pageable = PageRequest.of(0, 10);
+        ArchivedVehicle archived = new ArchivedVehicle(UUID.randomUUID(), "ABC1D23", "abc1d23", "Ford", "Preto", 2018,
+                new BigDecimal("55000.00"), Instant.parse("2024-01-30T15:00:00Z"));
+        when(archiveRepository.findByPlateNormalized("abc1d23", pageable))
+                .thenReturn(new PageImpl<>(List.of(archived), pageable, 1));
+
+        AppResponseDTO<Page<ArchivedVehicleDTO>> response = service.getArchivedVehicles("ABC1D23", pageable);
+
+        assertEquals("Ford", response.getContent().getContent().get(0).getBrand());
+        verify(archiveRepository, never()).findAll(any(Pageable.class));
+    }
+}
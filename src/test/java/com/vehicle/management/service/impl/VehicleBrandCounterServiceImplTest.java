@@ -0,0 +1,169 @@
+package com.vehicle.management.service.impl;
+
+import com.vehicle.management.dto.VehicleBrandReportDTO;
+import com.vehicle.management.event.VehicleBatchImportedEvent;
+import com.vehicle.management.event.VehicleBulkChangedEvent;
+import com.vehicle.management.event.VehicleChangedEvent;
+import com.vehicle.management.model.projection.VehicleRow;
+import com.vehicle.management.repository.VehicleManagementRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VehicleBrandCounterServiceImplTest {
+
+    @InjectMocks
+    private VehicleBrandCounterServiceImpl service;
+
+    @Mock
+    private VehicleManagementRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "maxReconcileRetries", 3);
+    }
+
+    @Test
+    void shouldKeepCountsFromWritesWithoutQueryingVehicles() {
+        service.onVehicleChanged(changed(null, "Ford"));
+        service.onVehicleChanged(changed(null, "Ford"));
+        service.onVehicleChanged(changed(null, "Fiat"));
+        service.onVehicleChanged(changed("Fiat", "Honda"));
+        service.onVehicleChanged(changed("Ford", null));
+
+        Page<VehicleBrandReportDTO> report = service.getReport(PageRequest.of(0, 10, Sort.by("brand")));
+
+        assertEquals(List.of(new VehicleBrandReportDTO("Ford", 1L), new VehicleBrandReportDTO("Honda", 1L)), report.getContent());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void shouldCountEveryVehicleOfAnImportedBatch() {
+        service.onVehicleChanged(changed(null, "Ford"));
+        service.onVehiclesImported(new VehicleBatchImportedEvent(List.of(row("Ford"), row("Fiat"), row("Ford"))));
+
+        Page<VehicleBrandReportDTO> report = service.getReport(PageRequest.of(0, 10, Sort.by("brand")));
+
+        assertEquals(List.of(new VehicleBrandReportDTO("Fiat", 1L), new VehicleBrandReportDTO("Ford", 3L)), report.getContent());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void shouldIgnoreUpdatesThatKeepTheBrand() {
+        service.onVehicleChanged(changed(null, "Ford"));
+        service.onVehicleChanged(changed("Ford", "Ford"));
+
+        Page<VehicleBrandReportDTO> report = service.getReport(PageRequest.of(0, 10));
+
+        assertEquals(List.of(new VehicleBrandReportDTO("Ford", 1L)), report.getContent());
+    }
+
+    @Test
+    void shouldPageAndSortByCount() {
+        service.onVehicleChanged(changed(null, "Ford"));
+        service.onVehicleChanged(changed(null, "Fiat"));
+        service.onVehicleChanged(changed(null, "Fiat"));
+        service.onVehicleChanged(changed(null, "Honda"));
+        service.onVehicleChanged(changed(null, "Honda"));
+        service.onVehicleChanged(changed(null, "Honda"));
+
+        Page<VehicleBrandReportDTO> report = service.getReport(PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "count")));
+
+        assertEquals(3, report.getTotalElements());
+        assertEquals(List.of(new VehicleBrandReportDTO("Ford", 1L)), report.getContent());
+    }
+
+    @Test
+    void shouldRejectUnsupportedSort() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getReport(PageRequest.of(0, 10, Sort.by("color"))));
+    }
+
+    @Test
+    void shouldReplaceCountsWithDatabaseOnReconciliation() {
+        service.onVehicleChanged(changed(null, "Ford"));
+        when(repository.countVehiclesByBrand())
+                .thenReturn(List.of(new VehicleBrandReportDTO("Ford", 4L), new VehicleBrandReportDTO("Fiat", 2L)));
+
+        service.reconcile();
+
+        Page<VehicleBrandReportDTO> report = service.getReport(PageRequest.of(0, 10, Sort.by("brand")));
+        assertEquals(List.of(new VehicleBrandReportDTO("Fiat", 2L), new VehicleBrandReportDTO("Ford", 4L)), report.getContent());
+    }
+
+    @Test
+    void shouldSkipReconciliationWhenAWriteHappensDuringTheCount() {
+        when(repository.countVehiclesByBrand())
+                .thenAnswer(invocation -> {
+                    service.onVehicleChanged(changed(null, "Ford"));
+                    return List.of(new VehicleBrandReportDTO("Ford", 7L));
+                });
+
+        service.reconcile();
+
+        Page<VehicleBrandReportDTO> report = service.getReport(PageRequest.of(0, 10));
+        assertEquals(List.of(new VehicleBrandReportDTO("Ford", 1L)), report.getContent());
+    }
+
+    @Test
+    void shouldRetrySkippedReconciliationUntilItSucceeds() {
+        when(repository.countVehiclesByBrand())
+                .thenAnswer(invocation -> {
+                    service.onVehicleChanged(changed(null, "Ford"));
+                    return List.of(new VehicleBrandReportDTO("Ford", 7L));
+                })
+                .thenReturn(List.of(new VehicleBrandReportDTO("Ford", 8L)));
+
+        service.onVehiclesChangedInBulk(new VehicleBulkChangedEvent(7));
+        service.retryPendingReconcile();
+        service.retryPendingReconcile();
+
+        Page<VehicleBrandReportDTO> report = service.getReport(PageRequest.of(0, 10));
+        assertEquals(List.of(new VehicleBrandReportDTO("Ford", 8L)), report.getContent());
+        verify(repository, times(2)).countVehiclesByBrand();
+    }
+
+    @Test
+    void shouldAcceptCountAfterLastRetryWhenWritesNeverStop() {
+        when(repository.countVehiclesByBrand())
+                .thenAnswer(invocation -> {
+                    service.onVehicleChanged(changed(null, "Ford"));
+                    return List.of(new VehicleBrandReportDTO("Ford", 9L), new VehicleBrandReportDTO("Fiat", 4L));
+                });
+
+        service.reconcile();
+        for (int retry = 0; retry < 5; retry++) {
+            service.retryPendingReconcile();
+        }
+
+        Page<VehicleBrandReportDTO> report = service.getReport(PageRequest.of(0, 10, Sort.by("brand")));
+        assertEquals(List.of(new VehicleBrandReportDTO("Fiat", 4L), new VehicleBrandReportDTO("Ford", 9L)), report.getContent());
+        verify(repository, times(4)).countVehiclesByBrand();
+    }
+
+    private VehicleChangedEvent changed(String previousBrand, String newBrand) {
+        return new VehicleChangedEvent(row(previousBrand), row(newBrand));
+    }
+
+    private VehicleRow row(String brand) {
+        if (brand == null) {
+            return null;
+        }
+        return new VehicleRow(UUID.randomUUID(), "ABC1234", brand, "Preto", 2020, new BigDecimal("10000.00"), null, null);
+    }
+}
@@ -0,0 +1,155 @@
+package com.vehicle.management.service.impl;
+
+import com.vehicle.management.dto.VehicleBulkResultDTO;
+import com.vehicle.management.dto.request.VehicleBulkFilterDTO;
+import com.vehicle.management.dto.request.VehicleBulkUpdateRequestDTO;
+import com.vehicle.management.dto.response.AppResponseDTO;
+import com.vehicle.management.event.CacheRegion;
+import com.vehicle.management.event.VehicleBulkChangedEvent;
+import com.vehicle.management.event.VehicleChangedEvent;
+import com.vehicle.management.model.rate.CurrencyCode;
+import com.vehicle.management.model.rate.RateSnapshot;
+import com.vehicle.management.repository.VehicleManagementRepository;
+import com.vehicle.management.service.CacheInvalidationService;
+import com.vehicle.management.service.VehicleArchiveService;
+import com.vehicle.management.service.VehiclePriceConversionService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VehicleBulkServiceImplTest {
+
+    @InjectMocks
+    private VehicleBulkServiceImpl service;
+
+    @Mock
+    private VehicleManagementRepository repository;
+
+    @Mock
+    private VehicleArchiveService vehicleArchiveService;
+
+    @Mock
+    private VehiclePriceConversionService vehiclePriceConversionService;
+
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void shouldUpdateWithOneStatementAndInvalidateOnceWithPriceFiltersInUsd() {
+        when(vehiclePriceConversionService.getRateSnapshot())
+                .thenReturn(RateSnapshot.of(new BigDecimal("5.00"), Duration.ofMinutes(10), Duration.ofMinutes(2)));
+        when(repository.updateByFilters(any(), any(), any(), any(), any(), any(), any(), any())).thenReturn(250);
+
+        AppResponseDTO<VehicleBulkResultDTO> response = service.updateVehicles(VehicleBulkUpdateRequestDTO.builder()
+                .filters(VehicleBulkFilterDTO.builder()
+                        .brand("Ford")
+                        .color(" ")
+                        .maxPrice(new BigDecimal("50000.00"))
+                        .currency(CurrencyCode.BRL)
+                        .build())
+                .color("Prata")
+                .priceAdjustmentPercent(new BigDecimal("-5.5"))
+                .build());
+
+        verify(repository).updateByFilters(isNull(), eq("Ford"), isNull(), isNull(), isNull(),
+                argThat(max -> max.compareTo(new BigDecimal("10000.00")) == 0), eq("Prata"),
+                argThat(factor -> factor.compareTo(new BigDecimal("0.945")) == 0));
+        verify(cacheInvalidationService, times(1)).invalidateAll(CacheRegion.VEHICLE);
+        verify(cacheInvalidationService, never()).invalidate(any(), any());
+        verify(eventPublisher, times(1)).publishEvent(new VehicleBulkChangedEvent(250));
+        verify(eventPublisher, never()).publishEvent(any(VehicleChangedEvent.class));
+        assertEquals(250, response.getContent().getAffected());
+        assertEquals("Ford", response.getParameters().get("marca"));
+    }
+
+    @Test
+    void shouldRequireAtLeastOneFilterAndOneChange() {
+        VehicleBulkFilterDTO noFilters = VehicleBulkFilterDTO.builder().brand(" ").currency(CurrencyCode.USD).build();
+
+        assertThrows(IllegalArgumentException.class, () -> service.updateVehicles(VehicleBulkUpdateRequestDTO.builder()
+                .filters(noFilters)
+                .color("Prata")
+                .build()));
+        assertThrows(IllegalArgumentException.class, () -> service.updateVehicles(VehicleBulkUpdateRequestDTO.builder()
+                .filters(VehicleBulkFilterDTO.builder().brand("Ford").build())
+                .build()));
+        assertThrows(IllegalArgumentException.class, () -> service.deleteVehicles(noFilters));
+
+        verifyNoInteractions(repository, vehicleArchiveService, cacheInvalidationService, eventPublisher);
+    }
+
+    @Test
+    void shouldRespondWithoutReloadingLocalAggregates() {
+        VehicleAnalyticsServiceImpl analytics = new VehicleAnalyticsServiceImpl();
+        VehicleSearchIndexServiceImpl searchIndex = new VehicleSearchIndexServiceImpl();
+        VehicleBrandCounterServiceImpl brandCounters = new VehicleBrandCounterServiceImpl();
+        for (Object aggregate : List.of(analytics, searchIndex, brandCounters)) {
+            ReflectionTestUtils.setField(aggregate, "repository", repository);
+        }
+        ReflectionTestUtils.setField(searchIndex, "enabled", true);
+        doAnswer(invocation -> {
+            VehicleBulkChangedEvent event = invocation.getArgument(0);
+            analytics.onVehiclesChangedInBulk(event);
+            searchIndex.onVehiclesChangedInBulk(event);
+            brandCounters.onVehiclesChangedInBulk(event);
+            return null;
+        }).when(eventPublisher).publishEvent(any(VehicleBulkChangedEvent.class));
+        when(repository.updateByFilters(isNull(), eq("Ford"), isNull(), isNull(), isNull(), isNull(), eq("Prata"), isNull()))
+                .thenReturn(3);
+
+        AppResponseDTO<VehicleBulkResultDTO> response = service.updateVehicles(VehicleBulkUpdateRequestDTO.builder()
+                .filters(VehicleBulkFilterDTO.builder().brand("Ford").build())
+                .color("Prata")
+                .build());
+
+        assertEquals(3, response.getContent().getAffected());
+        verify(eventPublisher).publishEvent(any(VehicleBulkChangedEvent.class));
+        verify(repository, never()).forEachActiveRow(anyInt(), any());
+        verify(repository, never()).countVehiclesByBrand();
+        assertFalse(searchIndex.isAvailable());
+    }
+
+    @Test
+    void shouldRejectAdjustmentThatOverflowsThePriceColumn() {
+        when(repository.updateByFilters(isNull(), eq("Ford"), isNull(), isNull(), isNull(), isNull(), isNull(), any()))
+                .thenThrow(new DataIntegrityViolationException("Value too long for column PRICE"));
+
+        assertThrows(IllegalArgumentException.class, () -> service.updateVehicles(VehicleBulkUpdateRequestDTO.builder()
+                .filters(VehicleBulkFilterDTO.builder().brand("Ford").build())
+                .priceAdjustmentPercent(new BigDecimal("1000"))
+                .build()));
+
+        verifyNoInteractions(cacheInvalidationService, eventPublisher);
+    }
+
+    @Test
+    void shouldArchiveThroughArchiveServiceAndSkipInvalidationWhenNothingMatched() {
+        when(vehicleArchiveService.archiveByFilters(any(), any(), any(), any(), any(), any())).thenReturn(0);
+
+        AppResponseDTO<VehicleBulkResultDTO> response = service.deleteVehicles(VehicleBulkFilterDTO.builder()
+                .vehicleYear(2010)
+                .build());
+
+        verify(vehicleArchiveService).archiveByFilters(null, null, 2010, null, null, null);
+        verify(vehiclePriceConversionService, never()).getRateSnapshot();
+        verifyNoInteractions(cacheInvalidationService, eventPublisher);
+        assertEquals(0, response.getContent().getAffected());
+    }
+}
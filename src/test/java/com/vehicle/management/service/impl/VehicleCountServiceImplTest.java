@@ -0,0 +1,70 @@
+package com.vehicle.management.service.impl;
+
+import com.vehicle.management.event.CacheInvalidationEvent;
+import com.vehicle.management.event.CacheRegion;
+import com.vehicle.management.repository.VehicleManagementRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VehicleCountServiceImplTest {
+
+    @InjectMocks
+    private VehicleCountServiceImpl service;
+
+    @Mock
+    private VehicleManagementRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "maxEntries", 16);
+        ReflectionTestUtils.setField(service, "ttl", Duration.ofMinutes(1));
+    }
+
+    @Test
+    void shouldReuseCountForEquivalentFilters() {
+        when(repository.countByFilters(null, "Ford", 2018, null, new BigDecimal("1000.00"), null)).thenReturn(7L);
+
+        assertEquals(7, service.countByFilters(null, "Ford", 2018, null, new BigDecimal("1000.00"), null));
+        assertEquals(7, service.countByFilters(null, "FORD", 2018, null, new BigDecimal("1000"), null));
+
+        verify(repository, times(1)).countByFilters(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldRecountAfterVehicleInvalidationOnly() {
+        when(repository.countByFilters(null, "Ford", null, null, null, null)).thenReturn(3L, 4L);
+
+        assertEquals(3, service.countByFilters(null, "Ford", null, null, null, null));
+        service.onCacheInvalidation(new CacheInvalidationEvent(CacheRegion.RATE, null));
+        assertEquals(3, service.countByFilters(null, "Ford", null, null, null, null));
+        service.onCacheInvalidation(new CacheInvalidationEvent(CacheRegion.VEHICLE, "42"));
+        assertEquals(4, service.countByFilters(null, "Ford", null, null, null, null));
+
+        verify(repository, times(2)).countByFilters(null, "Ford", null, null, null, null);
+    }
+
+    @Test
+    void shouldNotCacheCountComputedWhileAWriteWasInvalidating() {
+        when(repository.countByFilters(null, "Ford", null, null, null, null))
+                .thenAnswer(invocation -> {
+                    service.onCacheInvalidation(new CacheInvalidationEvent(CacheRegion.VEHICLE, "42"));
+                    return 3L;
+                })
+                .thenReturn(4L);
+
+        assertEquals(3, service.countByFilters(null, "Ford", null, null, null, null));
+        assertEquals(4, service.countByFilters(null, "Ford", null, null, null, null));
+    }
+}
@@ -0,0 +1,100 @@
+package com.vehicle.management.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vehicle.management.model.projection.VehicleRow;
+import com.vehicle.management.model.rate.CurrencyCode;
+import com.vehicle.management.model.rate.RateSnapshot;
+import com.vehicle.management.model.transfer.VehicleFileFormat;
+import com.vehicle.management.repository.VehicleManagementRepository;
+import com.vehicle.management.service.VehiclePriceConversionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VehicleExportServiceImplTest {
+
+    @InjectMocks
+    private VehicleExportServiceImpl service;
+
+    @Mock
+    private VehicleManagementRepository repository;
+
+    @Mock
+    private VehiclePriceConversionService vehiclePriceConversionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(service, "fetchSize", 250);
+        when(vehiclePriceConversionService.getRateSnapshot())
+                .thenReturn(RateSnapshot.of(new BigDecimal("5.00"), Duration.ofMinutes(10), Duration.ofMinutes(2)));
+    }
+
+    @Test
+    void shouldResolveRateBeforeStreamingAndConvertEveryRowWithIt() throws IOException {
+        doAnswer(invocation -> {
+            Consumer<VehicleRow> consumer = invocation.getArgument(7);
+            consumer.accept(new VehicleRow(UUID.randomUUID(), "AAA1001", "Ford", "Preto", 2018, new BigDecimal("10000.00"), null, null));
+            consumer.accept(new VehicleRow(UUID.randomUUID(), "AAA1002", "Ford", "Azul", 2019, new BigDecimal("12000.00"), null, null));
+            return null;
+        }).when(repository).forEachByFilters(any(), any(), any(), any(), any(), any(), anyInt(), any());
+
+        StreamingResponseBody body = service.exportVehicles(
+                null, "Ford", null, null, new BigDecimal("50000.00"), null, CurrencyCode.BRL, VehicleFileFormat.CSV
+        );
+        verify(vehiclePriceConversionService).getRateSnapshot();
+        verifyNoInteractions(repository);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        body.writeTo(output);
+
+        verify(repository).forEachByFilters(isNull(), eq("Ford"), isNull(), isNull(),
+                argThat(min -> min.compareTo(new BigDecimal("10000.00")) == 0), isNull(), eq(250), any());
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[1].endsWith(",AAA1001,Ford,Preto,2018,50000.00"));
+        assertTrue(lines[2].endsWith(",AAA1002,Ford,Azul,2019,60000.00"));
+    }
+
+    @Test
+    void shouldRethrowIoFailureWhenClientDisconnects() {
+        doAnswer(invocation -> {
+            Consumer<VehicleRow> consumer = invocation.getArgument(7);
+            for (int i = 0; i < 100_000; i++) {
+                consumer.accept(new VehicleRow(UUID.randomUUID(), "AAA" + i, "Ford", "Preto", 2018, new BigDecimal("10000.00"), null, null));
+            }
+            return null;
+        }).when(repository).forEachByFilters(any(), any(), any(), any(), any(), any(), anyInt(), any());
+
+        StreamingResponseBody body = service.exportVehicles(
+                null, null, null, null, null, null, CurrencyCode.USD, VehicleFileFormat.NDJSON
+        );
+        OutputStream closed = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThrows(IOException.class, () -> body.writeTo(closed));
+    }
+}
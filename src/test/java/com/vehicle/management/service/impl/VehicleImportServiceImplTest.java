@@ -0,0 +1,177 @@
+package com.vehicle.management.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vehicle.management.dto.VehicleImportErrorDTO;
+import com.vehicle.management.dto.VehicleImportReportDTO;
+import com.vehicle.management.dto.response.AppResponseDTO;
+import com.vehicle.management.event.CacheRegion;
+import com.vehicle.management.event.VehicleBatchImportedEvent;
+import com.vehicle.management.event.VehicleChangedEvent;
+import com.vehicle.management.model.entity.Vehicle;
+import com.vehicle.management.model.projection.VehicleRow;
+import com.vehicle.management.model.rate.RateSnapshot;
+import com.vehicle.management.model.transfer.VehicleFileFormat;
+import com.vehicle.management.repository.VehicleManagementRepository;
+import com.vehicle.management.service.CacheInvalidationService;
+import com.vehicle.management.service.VehiclePriceConversionService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VehicleImportServiceImplTest {
+
+    @InjectMocks
+    private VehicleImportServiceImpl service;
+
+    @Mock
+    private VehicleManagementRepository repository;
+
+    @Mock
+    private VehiclePriceConversionService vehiclePriceConversionService;
+
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(service, "validator", Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+        ReflectionTestUtils.setField(service, "maxErrors", 1000);
+        when(vehiclePriceConversionService.getRateSnapshot())
+                .thenReturn(RateSnapshot.of(new BigDecimal("5.00"), Duration.ofMinutes(10), Duration.ofMinutes(2)));
+    }
+
+    @Test
+    void shouldInsertValidRowsInChunksWithOneRateAndOneInvalidationPerChunk() {
+        when(repository.findExistingPlates(anyCollection())).thenReturn(List.of());
+        when(repository.insertAll(anyList())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+
+        AppResponseDTO<VehicleImportReportDTO> response = service.importVehicles(body("""
+                placa,marca,cor,ano,preco
+                AAA1001,Ford,Preto,2018,55000.00
+                AAA1002,Fiat,Branco,2019,42000.00
+                AAA1003,Honda,Prata,2020,90000.00
+                """), VehicleFileFormat.CSV);
+
+        ArgumentCaptor<List<Vehicle>> inserted = ArgumentCaptor.captor();
+        verify(repository, times(2)).insertAll(inserted.capture());
+        assertEquals(List.of(2, 1), inserted.getAllValues().stream().map(List::size).toList());
+        assertEquals(0, new BigDecimal("11000.00").compareTo(inserted.getAllValues().get(0).get(0).getPrice()));
+        verify(vehiclePriceConversionService, times(1)).getRateSnapshot();
+        verify(repository, times(2)).findExistingPlates(anyCollection());
+        ArgumentCaptor<VehicleBatchImportedEvent> events = ArgumentCaptor.forClass(VehicleBatchImportedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertEquals(List.of(2, 1), events.getAllValues().stream().map(event -> event.rows().size()).toList());
+        verify(eventPublisher, never()).publishEvent(any(VehicleChangedEvent.class));
+        verify(cacheInvalidationService, times(2)).invalidateAll(CacheRegion.VEHICLE);
+        verify(cacheInvalidationService, never()).invalidate(any(), any());
+
+        VehicleImportReportDTO report = response.getContent();
+        assertEquals(3, report.getRows());
+        assertEquals(3, report.getImported());
+        assertEquals(0, report.getRejected());
+        assertEquals(new BigDecimal("5.00"), response.getExchangeRate());
+    }
+
+    @Test
+    void shouldReportInvalidDuplicatedAndExistingPlatesPerLine() {
+        when(repository.findExistingPlates(anyCollection())).thenAnswer(invocation ->
+                invocation.<java.util.Collection<String>>getArgument(0).stream().filter("AAA1009"::equals).toList());
+        when(repository.insertAll(anyList())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+
+        AppResponseDTO<VehicleImportReportDTO> response = service.importVehicles(body("""
+                {"placa":"AAA1001","marca":"Ford","cor":"Preto","ano":2018,"preco":55000.00}
+                {"placa":"AAA1001","marca":"Ford","cor":"Azul","ano":2018,"preco":55000.00}
+                {"placa":"AAA1002","marca":"","cor":"Preto","preco":55000.00}
+                {"placa":"AAA1009","marca":"Ford","cor":"Preto","ano":2018,"preco":55000.00}
+                {"placa":
+                """), VehicleFileFormat.NDJSON);
+
+        VehicleImportReportDTO report = response.getContent();
+        assertEquals(5, report.getRows());
+        assertEquals(1, report.getImported());
+        assertEquals(4, report.getRejected());
+        assertEquals(List.of(2L, 3L, 4L, 5L), report.getErrors().stream().map(VehicleImportErrorDTO::getLine).toList());
+        assertEquals(List.of("Placa repetida no arquivo (linha 1)."), report.getErrors().get(0).getMessages());
+        assertEquals(List.of("Ano é obrigatório", "Marca é obrigatória"), report.getErrors().get(1).getMessages());
+        assertEquals(List.of("Já existe um veículo com a placa (AAA1009) informada."), report.getErrors().get(2).getMessages());
+        assertNull(report.getErrors().get(3).getPlate());
+    }
+
+    @Test
+    void shouldRetryRowByRowWhenAConcurrentWriterTakesAPlate() {
+        when(repository.findExistingPlates(anyCollection())).thenReturn(List.of());
+        when(repository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Vehicle> vehicles = invocation.getArgument(0);
+            if (vehicles.size() > 1 || vehicles.get(0).getPlate().equals("AAA1002")) {
+                throw new DataIntegrityViolationException("unique");
+            }
+            return withIds(vehicles);
+        });
+
+        AppResponseDTO<VehicleImportReportDTO> response = service.importVehicles(body("""
+                placa,marca,cor,ano,preco
+                AAA1001,Ford,Preto,2018,55000.00
+                AAA1002,Fiat,Branco,2019,42000.00
+                """), VehicleFileFormat.CSV);
+
+        assertEquals(1, response.getContent().getImported());
+        assertEquals("AAA1002", response.getContent().getErrors().get(0).getPlate());
+        ArgumentCaptor<VehicleBatchImportedEvent> event = ArgumentCaptor.forClass(VehicleBatchImportedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(List.of("AAA1001"), event.getValue().rows().stream().map(VehicleRow::plate).toList());
+    }
+
+    @Test
+    void shouldKeepOnlyTheFirstErrorsButCountEveryRejectedRow() {
+        ReflectionTestUtils.setField(service, "maxErrors", 2);
+
+        AppResponseDTO<VehicleImportReportDTO> response = service.importVehicles(body("""
+                placa,marca,cor,ano,preco
+                ,Ford,Preto,2018,55000.00
+                ,Ford,Preto,2018,55000.00
+                ,Ford,Preto,2018,55000.00
+                """), VehicleFileFormat.CSV);
+
+        VehicleImportReportDTO report = response.getContent();
+        assertEquals(3, report.getRejected());
+        assertEquals(2, report.getErrors().size());
+        assertTrue(report.isErrorsTruncated());
+        verify(repository, never()).insertAll(anyList());
+        verify(cacheInvalidationService, never()).invalidateAll(any());
+    }
+
+    private InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<Vehicle> withIds(List<Vehicle> vehicles) {
+        vehicles.forEach(vehicle -> vehicle.setId(UUID.randomUUID()));
+        return vehicles;
+    }
+}
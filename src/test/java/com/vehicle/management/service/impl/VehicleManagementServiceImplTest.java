@@ -1,23 +1,43 @@
 package com.vehicle.management.service.impl;
 
+import com.vehicle.management.dto.VehicleBrandReportDTO;
 import com.vehicle.management.dto.VehicleDTO;
 import com.vehicle.management.dto.request.VehiclePatchRequestDTO;
 import com.vehicle.management.dto.request.VehicleRequestDTO;
 import com.vehicle.management.dto.response.AppResponseDTO;
+import com.vehicle.management.dto.response.CursorPageDTO;
+import com.vehicle.management.event.CacheRegion;
+import com.vehicle.management.event.VehicleChangedEvent;
 import com.vehicle.management.exception.ConflictException;
 import com.vehicle.management.model.entity.Vehicle;
+import com.vehicle.management.model.page.KeysetCursor;
+import com.vehicle.management.model.projection.VehicleRow;
+import com.vehicle.management.model.rate.CurrencyCode;
+import com.vehicle.management.model.rate.RateSnapshot;
 import com.vehicle.management.repository.VehicleManagementRepository;
+import com.vehicle.management.service.CacheInvalidationService;
+import com.vehicle.management.service.RateHistoryService;
+import com.vehicle.management.service.VehicleArchiveService;
+import com.vehicle.management.service.VehicleBrandCounterService;
+import com.vehicle.management.service.VehicleCountService;
 import com.vehicle.management.service.VehiclePriceConversionService;
+import com.vehicle.management.service.VehicleSearchCacheService;
+import com.vehicle.management.service.VehicleSearchIndexService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -30,11 +50,37 @@ class VehicleManagementServiceImplTest {
     @Mock
     private VehiclePriceConversionService priceConversionService;
 
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Mock
+    private RateHistoryService rateHistoryService;
+
+    @Mock
+    private VehicleCountService vehicleCountService;
+
+    @Mock
+    private VehicleBrandCounterService vehicleBrandCounterService;
+
+    @Mock
+    private VehicleSearchIndexService vehicleSearchIndexService;
+
+    @Mock
+    private VehicleSearchCacheService vehicleSearchCacheService;
+
+    @Mock
+    private VehicleArchiveService vehicleArchiveService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private VehicleManagementServiceImpl service;
 
     private Vehicle vehicle;
+    private VehicleRow row;
     private VehicleRequestDTO requestDTO;
+    private RateSnapshot rateSnapshot;
 
     @BeforeEach
     void setup() {
@@ -47,6 +93,8 @@ class VehicleManagementServiceImplTest {
         vehicle.setPrice(new BigDecimal("20000"));
         vehicle.setActive(true);
 
+        row = new VehicleRow(vehicle.getId(), "ABC1234", "Toyota", "Preto", 2022, new BigDecimal("20000"), null, null);
+
         requestDTO = VehicleRequestDTO.builder()
                 .plate("ABC1234")
                 .brand("Toyota")
@@ -54,50 +102,187 @@ class VehicleManagementServiceImplTest {
                 .vehicleYear(2022)
                 .price(new BigDecimal("100000"))
                 .build();
+
+        rateSnapshot = RateSnapshot.of(new BigDecimal("5.00"), Duration.ofMinutes(10), Duration.ofMinutes(2));
+
+        // Cache de resultados sempre vazio: cada listagem vai ao repositório
+        lenient().when(vehicleSearchCacheService.getPage(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<Page<VehicleRow>>>getArgument(7).get());
     }
 
     @Test
     void shouldReturnVehiclesWhenFiltersMatch() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Vehicle> page = new PageImpl<>(List.of(vehicle));
+        Slice<VehicleRow> page = new SliceImpl<>(List.of(row));
 
-        when(priceConversionService.convertBrlToUsd(any()))
-                .thenReturn(new BigDecimal("20000"));
-        when(priceConversionService.convertUsdToBrl(any()))
-                .thenReturn(new BigDecimal("100000"));
-        when(repository.findByFilters(
+        when(priceConversionService.getRateSnapshot())
+                .thenReturn(rateSnapshot);
+        when(repository.findSliceByFilters(
                 any(), any(), any(), any(), any(), any(), eq(pageable))
         ).thenReturn(page);
 
         AppResponseDTO<Page<VehicleDTO>> response =
                 service.getVehiclesByFilters(
                         null, "Toyota", 2022, "Preto",
-                        new BigDecimal("90000"), null, pageable
+                        new BigDecimal("90000"), null, CurrencyCode.BRL, null, pageable
                 );
 
         assertTrue(response.getSuccess());
         assertEquals(1, response.getContent().getTotalElements());
-        verify(repository).findByFilters(any(), any(), any(), any(), any(), any(), eq(pageable));
+        assertEquals(new BigDecimal("100000.00"), response.getContent().getContent().get(0).getPrice());
+        assertEquals(new BigDecimal("5.00"), response.getExchangeRate());
+        verify(priceConversionService, times(1)).getRateSnapshot();
+        verify(repository).findSliceByFilters(any(), any(), any(), any(), any(), any(), eq(pageable));
+    }
+
+    @Test
+    void shouldServeRepeatedSearchFromResultCache() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        when(priceConversionService.getRateSnapshot()).thenReturn(rateSnapshot);
+        doReturn(new PageImpl<>(List.of(row), pageable, 1)).when(vehicleSearchCacheService)
+                .getPage(isNull(), eq("Toyota"), isNull(), isNull(), isNull(), isNull(), eq(pageable), any());
+
+        AppResponseDTO<Page<VehicleDTO>> response = service.getVehiclesByFilters(
+                null, "Toyota", null, null, null, null, CurrencyCode.BRL, null, pageable);
+
+        assertEquals(new BigDecimal("100000.00"), response.getContent().getContent().get(0).getPrice());
+        verifyNoInteractions(repository, vehicleCountService);
+    }
+
+    @Test
+    void shouldAnswerFromSearchIndexWhenAvailable() {
+        Pageable pageable = PageRequest.of(1, 1);
+
+        when(priceConversionService.getRateSnapshot()).thenReturn(rateSnapshot);
+        when(vehicleSearchIndexService.isAvailable()).thenReturn(true);
+        when(vehicleSearchIndexService.search(null, "Toyota", null, null, null, null, pageable))
+                .thenReturn(new PageImpl<>(List.of(row), pageable, 7));
+
+        AppResponseDTO<Page<VehicleDTO>> response = service.getVehiclesByFilters(
+                null, "Toyota", null, null, null, null, CurrencyCode.BRL, null, pageable);
+
+        assertEquals(7, response.getContent().getTotalElements());
+        verifyNoInteractions(repository, vehicleCountService);
+    }
+
+    @Test
+    void shouldTakeTotalFromCountServiceOnlyWhenPageIsFull() {
+        Pageable pageable = PageRequest.of(2, 1);
+
+        when(priceConversionService.getRateSnapshot()).thenReturn(rateSnapshot);
+        when(repository.findSliceByFilters(any(), any(), any(), any(), any(), any(), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(row), pageable, true));
+        when(vehicleCountService.countByFilters(null, "Toyota", null, null, null, null)).thenReturn(42L);
+
+        AppResponseDTO<Page<VehicleDTO>> response = service.getVehiclesByFilters(
+                null, "Toyota", null, null, null, null, CurrencyCode.BRL, null, pageable);
+
+        assertEquals(42, response.getContent().getTotalElements());
+        verify(repository, never()).countByFilters(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldReturnSliceWithoutCountingWhenTotalIsNotRequested() {
+        Pageable pageable = PageRequest.of(0, 1);
+
+        when(priceConversionService.getRateSnapshot()).thenReturn(rateSnapshot);
+        when(repository.findSliceByFilters(any(), any(), any(), any(), any(), any(), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(row), pageable, true));
+
+        AppResponseDTO<Slice<VehicleDTO>> response = service.getVehicleSliceByFilters(
+                null, null, null, null, null, null, CurrencyCode.BRL, null, pageable);
+
+        assertTrue(response.getContent().hasNext());
+        assertEquals(1, response.getContent().getNumberOfElements());
+        verifyNoInteractions(vehicleCountService);
     }
 
     @Test
     void shouldReturnEmptyMessageWhenNoVehiclesFound() {
         Pageable pageable = PageRequest.of(0, 10);
 
-        when(repository.findByFilters(any(), any(), any(), any(), any(), any(), eq(pageable)))
-                .thenReturn(Page.empty());
+        when(repository.findSliceByFilters(any(), any(), any(), any(), any(), any(), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of()));
 
         AppResponseDTO<Page<VehicleDTO>> response =
-                service.getVehiclesByFilters(null, null, null, null, null, null, pageable);
+                service.getVehiclesByFilters(null, null, null, null, null, null, CurrencyCode.BRL, null, pageable);
 
         assertTrue(response.getSuccess());
         assertNull(response.getContent());
         assertEquals("Não há veículos para os parâmetros informados.", response.getMessage());
     }
 
+    @Test
+    void shouldReturnPricesAndFiltersInRequestedCurrency() {
+        Pageable pageable = PageRequest.of(0, 10);
+        RateSnapshot matrix = RateSnapshot.of(
+                Map.of(CurrencyCode.BRL, new BigDecimal("5.00"), CurrencyCode.EUR, new BigDecimal("0.80")),
+                Duration.ofMinutes(10), Duration.ofMinutes(2));
+
+        when(priceConversionService.getRateSnapshot()).thenReturn(matrix);
+        when(repository.findSliceByFilters(
+                any(), any(), any(), any(), eq(new BigDecimal("10000.0000")), any(), eq(pageable))
+        ).thenReturn(new SliceImpl<>(List.of(row)));
+
+        AppResponseDTO<Page<VehicleDTO>> response = service.getVehiclesByFilters(
+                null, null, null, null, new BigDecimal("8000"), null, CurrencyCode.EUR, null, pageable);
+
+        assertEquals(new BigDecimal("16000.00"), response.getContent().getContent().get(0).getPrice());
+        assertEquals(CurrencyCode.EUR, response.getCurrency());
+        assertEquals(new BigDecimal("0.80"), response.getExchangeRate());
+    }
+
+    @Test
+    void shouldReturnNextCursorWhenMoreRowsExistInCursorMode() {
+        Pageable pageable = PageRequest.of(0, 1, Sort.by("price"));
+        VehicleRow next = new VehicleRow(UUID.randomUUID(), "XYZ9K87", "Fiat", "Azul", 2020, new BigDecimal("30000"), null, null);
+
+        when(priceConversionService.getRateSnapshot()).thenReturn(rateSnapshot);
+        when(repository.findByFiltersAfter(
+                any(), any(), any(), any(), any(), any(), isNull(), eq("price"), eq(Sort.Direction.ASC), eq(2))
+        ).thenReturn(List.of(row, next));
+
+        AppResponseDTO<CursorPageDTO<VehicleDTO>> response = service.getVehiclesByCursor(
+                null, null, null, null, null, null, CurrencyCode.BRL, null, "", pageable);
+
+        CursorPageDTO<VehicleDTO> content = response.getContent();
+        assertEquals(1, content.getSize());
+        assertTrue(content.isHasNext());
+        KeysetCursor cursor = KeysetCursor.decode(content.getNextCursor(), "price", Sort.Direction.ASC);
+        assertEquals(vehicle.getId(), cursor.id());
+        assertEquals(new BigDecimal("20000"), cursor.value());
+        verify(repository, never()).findSliceByFilters(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldRejectSortWithoutKeysetIndexInCursorMode() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("brand"));
+
+        assertThrows(IllegalArgumentException.class, () -> service.getVehiclesByCursor(
+                null, null, null, null, null, null, CurrencyCode.BRL, null, "", pageable));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void shouldConvertWithHistoricalRateWhenAsOfIsInformed() {
+        Instant asOf = Instant.parse("2024-01-02T12:00:00Z");
+        RateSnapshot historical = RateSnapshot.historical(Map.of(CurrencyCode.BRL, new BigDecimal("4.00")), asOf);
+
+        when(repository.findRowById(vehicle.getId())).thenReturn(Optional.of(row));
+        when(rateHistoryService.getSnapshotAt(asOf)).thenReturn(historical);
+
+        AppResponseDTO<VehicleDTO> response = service.getVehicleById(vehicle.getId(), CurrencyCode.BRL, asOf);
+
+        assertEquals(new BigDecimal("80000.00"), response.getContent().getPrice());
+        assertEquals(new BigDecimal("4.00"), response.getExchangeRate());
+        assertEquals("2024-01-02T12:00:00Z", response.getParameters().get("data_cotacao"));
+        verify(priceConversionService, never()).getRateSnapshot();
+    }
+
     @Test
     void shouldFailWhenPlateAlreadyExists() {
-        when(repository.findByPlateAndActiveTrue("ABC1234"))
+        when(repository.findByPlate("ABC1234"))
                 .thenReturn(Optional.of(vehicle));
 
         ConflictException ex = assertThrows(
@@ -110,12 +295,10 @@ class VehicleManagementServiceImplTest {
 
     @Test
     void shouldSaveVehicleSuccessfully() {
-        when(repository.findByPlateAndActiveTrue("ABC1234"))
+        when(repository.findByPlate("ABC1234"))
                 .thenReturn(Optional.empty());
-        when(priceConversionService.convertBrlToUsd(any()))
-                .thenReturn(new BigDecimal("20000"));
-        when(priceConversionService.convertUsdToBrl(any()))
-                .thenReturn(new BigDecimal("100000"));
+        when(priceConversionService.getRateSnapshot())
+                .thenReturn(rateSnapshot);
         when(repository.save(any(Vehicle.class)))
                 .thenReturn(vehicle);
 
@@ -124,12 +307,14 @@ class VehicleManagementServiceImplTest {
         assertEquals(201, response.getStatus());
         assertNotNull(response.getContent());
         verify(repository).save(any(Vehicle.class));
+        verify(eventPublisher).publishEvent(new VehicleChangedEvent(null, VehicleRow.of(vehicle)));
+        verify(cacheInvalidationService).invalidate(CacheRegion.VEHICLE, vehicle.getId());
     }
 
 
     @Test
     void shouldFailUpdateWhenVehicleNotFound() {
-        when(repository.findByIdAndActiveTrue(any()))
+        when(repository.findById(any()))
                 .thenReturn(Optional.empty());
 
         assertThrows(
@@ -140,20 +325,24 @@ class VehicleManagementServiceImplTest {
 
     @Test
     void shouldUpdateVehicleSuccessfully() {
-        when(repository.findByIdAndActiveTrue(any()))
+        when(repository.findById(any()))
                 .thenReturn(Optional.of(vehicle));
-        when(priceConversionService.convertBrlToUsd(any()))
-                .thenReturn(new BigDecimal("20000"));
-        when(priceConversionService.convertUsdToBrl(any()))
-                .thenReturn(new BigDecimal("100000"));
+        when(priceConversionService.getRateSnapshot())
+                .thenReturn(rateSnapshot);
         when(repository.save(any()))
                 .thenReturn(vehicle);
 
+        requestDTO.setBrand("Honda");
+
         AppResponseDTO<VehicleDTO> response =
                 service.updateVehicle(vehicle.getId(), requestDTO);
 
         assertTrue(response.getSuccess());
         verify(repository).save(vehicle);
+        VehicleChangedEvent event = captureChangedEvent();
+        assertEquals("Toyota", event.before().brand());
+        assertEquals("Honda", event.after().brand());
+        verify(cacheInvalidationService).invalidate(CacheRegion.VEHICLE, vehicle.getId());
     }
 
 
@@ -163,8 +352,10 @@ class VehicleManagementServiceImplTest {
                 .color("Azul")
                 .build();
 
-        when(repository.findByIdAndActiveTrue(any()))
+        when(repository.findById(any()))
                 .thenReturn(Optional.of(vehicle));
+        when(priceConversionService.getRateSnapshot())
+                .thenReturn(rateSnapshot);
         when(repository.save(any()))
                 .thenReturn(vehicle);
 
@@ -173,17 +364,54 @@ class VehicleManagementServiceImplTest {
 
         assertTrue(response.getSuccess());
         assertEquals("Azul", response.getContent().getColor());
+        VehicleChangedEvent event = captureChangedEvent();
+        assertEquals("Preto", event.before().color());
+        assertEquals("Azul", event.after().color());
     }
 
     @Test
     void shouldDeactivateVehicle() {
-        when(repository.findByIdAndActiveTrue(any()))
+        when(repository.findById(any()))
                 .thenReturn(Optional.of(vehicle));
+        when(vehicleArchiveService.archive(vehicle.getId()))
+                .thenReturn(true);
 
         AppResponseDTO<?> response =
                 service.deleteVehicle(vehicle.getId());
 
         assertTrue(response.getSuccess());
-        verify(repository).deactivateById(vehicle.getId());
+        verify(vehicleArchiveService).archive(vehicle.getId());
+        verify(eventPublisher).publishEvent(new VehicleChangedEvent(VehicleRow.of(vehicle), null));
+        verify(cacheInvalidationService).invalidate(CacheRegion.VEHICLE, vehicle.getId());
+    }
+
+    @Test
+    void shouldNotPublishRemovalWhenAnotherDeleteDeactivatedFirst() {
+        when(repository.findById(any()))
+                .thenReturn(Optional.of(vehicle));
+        when(vehicleArchiveService.archive(vehicle.getId()))
+                .thenReturn(false);
+
+        service.deleteVehicle(vehicle.getId());
+
+        verify(eventPublisher, never()).publishEvent(any(VehicleChangedEvent.class));
+    }
+
+    @Test
+    void shouldServeBrandReportFromCounters() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("brand"));
+        when(vehicleBrandCounterService.getReport(pageable))
+                .thenReturn(new PageImpl<>(List.of(new VehicleBrandReportDTO("Toyota", 2L)), pageable, 1));
+
+        AppResponseDTO<Page<VehicleBrandReportDTO>> response = service.getVehicleBrandReport(pageable);
+
+        assertEquals(1, response.getContent().getTotalElements());
+        verifyNoInteractions(repository);
+    }
+
+    private VehicleChangedEvent captureChangedEvent() {
+        ArgumentCaptor<VehicleChangedEvent> captor = ArgumentCaptor.forClass(VehicleChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        return captor.getValue();
     }
-}
\ No newline at end of file
+}
@@ -1,17 +1,40 @@
 package com.vehicle.management.service.impl;
 
+import com.vehicle.management.client.RateProviderCircuitBreaker;
+import com.vehicle.management.config.RateProviderProperties;
+import com.vehicle.management.event.CacheInvalidationEvent;
+import com.vehicle.management.event.CacheRegion;
+import com.vehicle.management.event.ExchangeRateChangedEvent;
+import com.vehicle.management.model.rate.CurrencyCode;
+import com.vehicle.management.model.rate.LastKnownGoodRate;
+import com.vehicle.management.model.rate.RateSnapshot;
+import com.vehicle.management.repository.LastKnownGoodRateRepository;
+import com.vehicle.management.service.CacheInvalidationService;
+import com.vehicle.management.service.RateHistoryService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -31,6 +54,24 @@ class VehiclePriceConversionServiceImplTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private LastKnownGoodRateRepository lastKnownGoodRateRepository;
+
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Mock
+    private RateHistoryService rateHistoryService;
+
+    @Spy
+    private RateProviderProperties rateProviderProperties = new RateProviderProperties();
+
+    @Spy
+    private RateProviderCircuitBreaker circuitBreaker = new RateProviderCircuitBreaker(2, Duration.ofMinutes(1));
+
     @BeforeEach
     void setup() {
         when(redisTemplate.opsForValue()).thenReturn(valueOps);
@@ -38,7 +79,7 @@ class VehiclePriceConversionServiceImplTest {
 
     @Test
     void shouldReturnRateFromRedis() {
-        when(valueOps.get("USD_BRL_RATE")).thenReturn("5.10");
+        when(valueOps.get("USD_RATES")).thenReturn("BRL=5.10");
 
         BigDecimal rate = service.getUsdToBrlRate();
 
@@ -48,7 +89,7 @@ class VehiclePriceConversionServiceImplTest {
 
     @Test
     void shouldFetchRateFromPrimaryApiWhenRedisIsEmpty() {
-        when(valueOps.get("USD_BRL_RATE")).thenReturn(null);
+        when(valueOps.get("USD_RATES")).thenReturn(null);
 
         Map<String, Object> usdbrl = Map.of("bid", "5.30");
         Map<String, Map<String, Object>> response = Map.of("USDBRL", usdbrl);
@@ -60,12 +101,14 @@ class VehiclePriceConversionServiceImplTest {
         BigDecimal rate = service.getUsdToBrlRate();
 
         assertEquals(new BigDecimal("5.30"), rate);
-        verify(valueOps).set(eq("USD_BRL_RATE"), eq("5.30"), any());
+        verify(valueOps).set(eq("USD_RATES"), eq("BRL=5.30"), any());
+        verify(cacheInvalidationService).invalidate(CacheRegion.RATE, "USD_RATES");
+        verify(rateHistoryService).record(argThat(snapshot -> snapshot.rate().equals(new BigDecimal("5.30"))));
     }
 
     @Test
     void shouldUseFallbackWhenPrimaryApiFails() {
-        when(valueOps.get("USD_BRL_RATE")).thenReturn(null);
+        when(valueOps.get("USD_RATES")).thenReturn(null);
 
         when(restTemplate.getForObject(
                 contains("awesomeapi"), eq(Map.class)))
@@ -85,7 +128,7 @@ class VehiclePriceConversionServiceImplTest {
 
     @Test
     void shouldThrowExceptionWhenAllApisFail() {
-        when(valueOps.get("USD_BRL_RATE")).thenReturn(null);
+        when(valueOps.get("USD_RATES")).thenReturn(null);
 
         when(restTemplate.getForObject(anyString(), eq(Map.class)))
                 .thenThrow(new RuntimeException("API down"));
@@ -95,7 +138,7 @@ class VehiclePriceConversionServiceImplTest {
 
     @Test
     void shouldConvertBrlToUsdCorrectly() {
-        when(valueOps.get("USD_BRL_RATE")).thenReturn("5.00");
+        when(valueOps.get("USD_RATES")).thenReturn("BRL=5.00");
 
         BigDecimal usd = service.convertBrlToUsd(new BigDecimal("10.00"));
 
@@ -104,10 +147,285 @@ class VehiclePriceConversionServiceImplTest {
 
     @Test
     void shouldConvertUsdToBrlCorrectly() {
-        when(valueOps.get("USD_BRL_RATE")).thenReturn("5.00");
+        when(valueOps.get("USD_RATES")).thenReturn("BRL=5.00");
 
         BigDecimal brl = service.convertUsdToBrl(new BigDecimal("10.00"));
 
         assertEquals(new BigDecimal("50.00"), brl);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldServeRepeatedLookupsFromLocalSnapshot() {
+        when(valueOps.get("USD_RATES")).thenReturn("BRL=5.10");
+
+        service.getUsdToBrlRate();
+        service.convertUsdToBrl(new BigDecimal("10.00"));
+        BigDecimal rate = service.getUsdToBrlRate();
+
+        assertEquals(new BigDecimal("5.10"), rate);
+        verify(valueOps, times(1)).get("USD_RATES");
+    }
+
+    @Test
+    void shouldRefreshAheadFromProviderWhenRedisKeyIsAboutToExpire() {
+        when(valueOps.get("USD_RATES")).thenReturn("BRL=5.10");
+        when(redisTemplate.getExpire(eq("USD_RATES"), any(TimeUnit.class))).thenReturn(60_000L);
+        when(valueOps.setIfAbsent(eq("USD_RATES:LEASE"), anyString(), any(Duration.class))).thenReturn(true);
+        when(restTemplate.getForObject(contains("awesomeapi"), eq(Map.class)))
+                .thenReturn(Map.of("USDBRL", Map.of("bid", "5.30")));
+
+        assertEquals(new BigDecimal("5.10"), service.getUsdToBrlRate());
+
+        service.refreshAhead();
+
+        assertEquals(new BigDecimal("5.30"), service.getUsdToBrlRate());
+        verify(valueOps).set(eq("USD_RATES"), eq("BRL=5.30"), any());
+        verify(eventPublisher).publishEvent(new ExchangeRateChangedEvent(new BigDecimal("5.30")));
+    }
+
+    @Test
+    void shouldNotRefreshAheadWhileSnapshotIsFresh() {
+        when(valueOps.get("USD_RATES")).thenReturn("BRL=5.10");
+
+        service.getUsdToBrlRate();
+        service.refreshAhead();
+
+        verify(valueOps, times(1)).get("USD_RATES");
+        verify(restTemplate, never()).getForObject(anyString(), any());
+    }
+
+    @Test
+    void shouldExposeRateSnapshotUsedForConversions() {
+        when(valueOps.get("USD_RATES")).thenReturn("BRL=5.00");
+
+        RateSnapshot snapshot = service.getRateSnapshot();
+
+        assertEquals(new BigDecimal("5.00"), snapshot.rate());
+        assertEquals(new BigDecimal("2.0000"), snapshot.toUsd(new BigDecimal("10.00")));
+        assertEquals(new BigDecimal("50.00"), snapshot.toBrl(new BigDecimal("10.00")));
+    }
+
+    @Test
+    void shouldKeepServingRedisRateWhenAnotherNodeHoldsTheRefreshLease() {
+        when(valueOps.get("USD_RATES")).thenReturn("BRL=5.10");
+        when(redisTemplate.getExpire(eq("USD_RATES"), any(TimeUnit.class))).thenReturn(60_000L);
+        when(valueOps.setIfAbsent(eq("USD_RATES:LEASE"), anyString(), any(Duration.class))).thenReturn(false);
+
+        service.getUsdToBrlRate();
+        service.refreshAhead();
+
+        assertEquals(new BigDecimal("5.10"), service.getUsdToBrlRate());
+        verify(restTemplate, never()).getForObject(anyString(), any());
+    }
+
+    @Test
+    void shouldCoalesceConcurrentFetchesIntoSingleProviderCall() throws Exception {
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+
+        when(valueOps.get("USD_RATES")).thenReturn(null);
+        when(valueOps.setIfAbsent(eq("USD_RATES:LEASE"), anyString(), any(Duration.class))).thenReturn(true);
+        when(restTemplate.getForObject(contains("awesomeapi"), eq(Map.class))).thenAnswer(invocation -> {
+            fetchStarted.countDown();
+            releaseFetch.await(5, TimeUnit.SECONDS);
+            return Map.of("USDBRL", Map.of("bid", "5.30"));
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<BigDecimal> first = executor.submit(() -> service.getUsdToBrlRate());
+            assertTrue(fetchStarted.await(5, TimeUnit.SECONDS));
+
+            AtomicReference<Thread> waiter = new AtomicReference<>();
+            Future<BigDecimal> second = executor.submit(() -> {
+                waiter.set(Thread.currentThread());
+                return service.getUsdToBrlRate();
+            });
+            awaitParked(waiter);
+            releaseFetch.countDown();
+
+            assertEquals(new BigDecimal("5.30"), first.get(5, TimeUnit.SECONDS));
+            assertEquals(new BigDecimal("5.30"), second.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(Map.class));
+    }
+
+    private void awaitParked(AtomicReference<Thread> thread) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            Thread current = thread.get();
+            if (current != null && current.getState() == Thread.State.WAITING) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        fail("A segunda requisição não aguardou a busca em andamento");
+    }
+
+    @Test
+    void shouldFailFastOnceCircuitIsOpen() {
+        when(valueOps.get("USD_RATES")).thenReturn(null);
+        when(restTemplate.getForObject(anyString(), eq(Map.class)))
+                .thenThrow(new RuntimeException("API down"));
+
+        assertThrows(RuntimeException.class, () -> service.getUsdToBrlRate());
+        assertThrows(RuntimeException.class, () -> service.getUsdToBrlRate());
+        assertEquals(RateProviderCircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        assertThrows(RuntimeException.class, () -> service.getUsdToBrlRate());
+
+        verify(restTemplate, times(4)).getForObject(anyString(), eq(Map.class));
+    }
+
+    @Test
+    void shouldServeLastKnownGoodRateWhenRefreshFails() throws InterruptedException {
+        when(valueOps.get("USD_RATES")).thenReturn("BRL=5.10", (String) null);
+        when(redisTemplate.getExpire(eq("USD_RATES"), any(TimeUnit.class))).thenReturn(1L);
+        when(valueOps.setIfAbsent(eq("USD_RATES:LEASE"), anyString(), any(Duration.class))).thenReturn(true);
+        when(restTemplate.getForObject(anyString(), eq(Map.class)))
+                .thenThrow(new RuntimeException("API down"));
+
+        assertEquals(new BigDecimal("5.10"), service.getUsdToBrlRate());
+        Thread.sleep(5);
+
+        assertEquals(new BigDecimal("5.10"), service.getUsdToBrlRate());
+        assertEquals(new BigDecimal("5.10"), service.getUsdToBrlRate());
+        verify(restTemplate, times(2)).getForObject(anyString(), eq(Map.class));
+    }
+
+    @Test
+    void shouldTreatRedisFailureAsCacheMiss() {
+        when(valueOps.get("USD_RATES")).thenThrow(new RedisConnectionFailureException("Redis down"));
+        when(restTemplate.getForObject(contains("awesomeapi"), eq(Map.class)))
+                .thenReturn(Map.of("USDBRL", Map.of("bid", "5.30")));
+
+        assertEquals(new BigDecimal("5.30"), service.getUsdToBrlRate());
+    }
+
+    @Test
+    void shouldPublishRateChangeOnlyWhenRateDiffers() {
+        when(valueOps.get("USD_RATES")).thenReturn("BRL=5.10");
+        when(redisTemplate.getExpire(eq("USD_RATES"), any(TimeUnit.class))).thenReturn(60_000L);
+        when(valueOps.setIfAbsent(eq("USD_RATES:LEASE"), anyString(), any(Duration.class))).thenReturn(true);
+        when(restTemplate.getForObject(contains("awesomeapi"), eq(Map.class)))
+                .thenReturn(Map.of("USDBRL", Map.of("bid", "5.10")));
+
+        service.getUsdToBrlRate();
+        service.refreshAhead();
+
+        verify(restTemplate).getForObject(contains("awesomeapi"), eq(Map.class));
+        verify(eventPublisher).publishEvent(new ExchangeRateChangedEvent(new BigDecimal("5.10")));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldWarmUpRateOnStartup() {
+        when(valueOps.get("USD_RATES")).thenReturn(null);
+        when(valueOps.setIfAbsent(eq("USD_RATES:LEASE"), anyString(), any(Duration.class))).thenReturn(true);
+        when(restTemplate.getForObject(contains("awesomeapi"), eq(Map.class)))
+                .thenReturn(Map.of("USDBRL", Map.of("bid", "5.30")));
+
+        service.warmUp();
+
+        assertEquals(new BigDecimal("5.30"), service.getUsdToBrlRate());
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(Map.class));
+        verify(lastKnownGoodRateRepository).save(argThat(saved -> saved.rates().equals(Map.of(CurrencyCode.BRL, new BigDecimal("5.30")))));
+    }
+
+    @Test
+    void shouldServePersistedRateWhenProvidersAreDownOnStartup() {
+        when(valueOps.get("USD_RATES")).thenReturn(null);
+        when(valueOps.setIfAbsent(eq("USD_RATES:LEASE"), anyString(), any(Duration.class))).thenReturn(true);
+        when(restTemplate.getForObject(anyString(), eq(Map.class)))
+                .thenThrow(new RuntimeException("API down"));
+        when(lastKnownGoodRateRepository.find())
+                .thenReturn(Optional.of(new LastKnownGoodRate(Map.of(CurrencyCode.BRL, new BigDecimal("5.25")), Instant.parse("2024-01-01T00:00:00Z"))));
+
+        service.warmUp();
+
+        assertEquals(new BigDecimal("5.25"), service.getUsdToBrlRate());
+        verify(eventPublisher).publishEvent(new ExchangeRateChangedEvent(new BigDecimal("5.25")));
+        verify(lastKnownGoodRateRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldFallBackToPersistedRateOnFirstRequestWhenProvidersAreDown() {
+        when(valueOps.get("USD_RATES")).thenReturn(null);
+        when(restTemplate.getForObject(anyString(), eq(Map.class)))
+                .thenThrow(new RuntimeException("API down"));
+        when(lastKnownGoodRateRepository.find())
+                .thenReturn(Optional.of(new LastKnownGoodRate(Map.of(CurrencyCode.BRL, new BigDecimal("5.25")), Instant.now())));
+
+        assertEquals(new BigDecimal("26.25"), service.convertUsdToBrl(new BigDecimal("5.00")));
+    }
+
+    @Test
+    void shouldRereadRedisWhenAnotherNodeInvalidatesTheRate() {
+        when(valueOps.get("USD_RATES")).thenReturn("BRL=5.10", "BRL=5.30");
+
+        assertEquals(new BigDecimal("5.10"), service.getUsdToBrlRate());
+
+        service.onCacheInvalidation(new CacheInvalidationEvent(CacheRegion.VEHICLE, "1"));
+        assertEquals(new BigDecimal("5.10"), service.getUsdToBrlRate());
+
+        service.onCacheInvalidation(new CacheInvalidationEvent(CacheRegion.RATE, "USD_RATES"));
+        assertEquals(new BigDecimal("5.10"), service.getUsdToBrlRate());
+
+        service.onCacheInvalidation(new CacheInvalidationEvent(CacheRegion.RATE, "USD_RATES", true));
+        assertEquals(new BigDecimal("5.30"), service.getUsdToBrlRate());
+        verify(valueOps, times(2)).get("USD_RATES");
+    }
+
+    @Test
+    void shouldFetchWholeRateMatrixInSingleProviderCall() {
+        when(valueOps.get("USD_RATES")).thenReturn(null);
+        when(restTemplate.getForObject(
+                eq("https://economia.awesomeapi.com.br/json/last/USD-BRL,USD-EUR,USD-ARS"), eq(Map.class)))
+                .thenReturn(Map.of(
+                        "USDBRL", Map.of("bid", "5.00"),
+                        "USDEUR", Map.of("bid", "0.80"),
+                        "USDARS", Map.of("bid", "1000.00")
+                ));
+
+        RateSnapshot snapshot = service.getRateSnapshot();
+
+        assertEquals(new BigDecimal("0.80"), snapshot.rate(CurrencyCode.EUR));
+        assertEquals(new BigDecimal("8.00"), snapshot.fromUsd(new BigDecimal("10.00"), CurrencyCode.EUR));
+        assertEquals(new BigDecimal("6.250000"), snapshot.crossRate(CurrencyCode.EUR, CurrencyCode.BRL));
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(Map.class));
+        verify(valueOps).set(eq("USD_RATES"), eq("BRL=5.00;EUR=0.80;ARS=1000.00"), any());
+    }
+
+    @Test
+    void shouldReadWholeRateMatrixFromSingleRedisKey() {
+        when(valueOps.get("USD_RATES")).thenReturn("BRL=5.00;EUR=0.80");
+
+        RateSnapshot snapshot = service.getRateSnapshot();
+
+        assertEquals(new BigDecimal("5.00"), snapshot.rate());
+        assertEquals(new BigDecimal("12.5000"), snapshot.toUsd(new BigDecimal("10.00"), CurrencyCode.EUR));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.rate(CurrencyCode.ARS));
+    }
+
+    @Test
+    void shouldKeepPreviousRateForCurrenciesMissingFromFallbackProvider() {
+        when(valueOps.get("USD_RATES")).thenReturn("BRL=5.10;ARS=1000.00");
+        when(redisTemplate.getExpire(eq("USD_RATES"), any(TimeUnit.class))).thenReturn(60_000L);
+        when(valueOps.setIfAbsent(eq("USD_RATES:LEASE"), anyString(), any(Duration.class))).thenReturn(true);
+        when(restTemplate.getForObject(contains("awesomeapi"), eq(Map.class)))
+                .thenThrow(new RuntimeException("Primary API down"));
+        when(restTemplate.getForObject(contains("frankfurter"), eq(Map.class)))
+                .thenReturn(Map.of("rates", Map.of("BRL", 5.40, "EUR", 0.9)));
+
+        service.getRateSnapshot();
+        service.refreshAhead();
+
+        RateSnapshot snapshot = service.getRateSnapshot();
+        assertEquals(BigDecimal.valueOf(5.40), snapshot.rate());
+        assertEquals(BigDecimal.valueOf(0.9), snapshot.rate(CurrencyCode.EUR));
+        assertEquals(new BigDecimal("1000.00"), snapshot.rate(CurrencyCode.ARS));
+    }
+}
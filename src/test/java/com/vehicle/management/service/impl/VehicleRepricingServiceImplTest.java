@@ -0,0 +1,84 @@
+package com.vehicle.management.service.impl;
+
+import com.vehicle.management.event.ExchangeRateChangedEvent;
+import com.vehicle.management.repository.VehicleManagementRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VehicleRepricingServiceImplTest {
+    @Mock
+    private VehicleManagementRepository repository;
+
+    @InjectMocks
+    private VehicleRepricingServiceImpl service;
+
+    private final BigDecimal rate = new BigDecimal("5.4321");
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+    }
+
+    @Test
+    void shouldRepriceInBatchesUntilNoRowIsPending() {
+        List<UUID> firstBatch = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> secondBatch = List.of(UUID.randomUUID());
+
+        when(repository.findIdsToReprice(eq(rate), any(Pageable.class)))
+                .thenReturn(firstBatch, secondBatch, List.of());
+        when(repository.repriceByIds(firstBatch, rate)).thenReturn(2);
+        when(repository.repriceByIds(secondBatch, rate)).thenReturn(1);
+
+        int total = service.repriceAll(rate);
+
+        assertEquals(3, total);
+        verify(repository, times(2)).repriceByIds(anyList(), eq(rate));
+    }
+
+    @Test
+    void shouldSkipRatesThatCannotBeStoredExactly() {
+        int total = service.repriceAll(new BigDecimal("5.1234567"));
+
+        assertEquals(0, total);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void shouldRepriceWhenRateChanges() {
+        when(repository.findIdsToReprice(eq(rate), any(Pageable.class))).thenReturn(List.of());
+
+        service.onExchangeRateChanged(new ExchangeRateChangedEvent(rate));
+
+        verify(repository).findIdsToReprice(eq(rate), any(Pageable.class));
+    }
+
+    @Test
+    void shouldNotRegisterTheRepricingJobWhenDisabled() {
+        ApplicationContextRunner runner = new ApplicationContextRunner()
+                .withBean(VehicleManagementRepository.class, () -> repository)
+                .withUserConfiguration(VehicleRepricingServiceImpl.class);
+
+        runner.run(context -> assertTrue(context.getBeansOfType(VehicleRepricingServiceImpl.class).isEmpty()));
+        runner.withPropertyValues("vehicle.pricing.materialized-brl.enabled=false")
+                .run(context -> assertTrue(context.getBeansOfType(VehicleRepricingServiceImpl.class).isEmpty()));
+        runner.withPropertyValues("vehicle.pricing.materialized-brl.enabled=true")
+                .run(context -> assertEquals(1, context.getBeansOfType(VehicleRepricingServiceImpl.class).size()));
+        verifyNoInteractions(repository);
+    }
+}
@@ -0,0 +1,129 @@
+package com.vehicle.management.service.impl;
+
+import com.vehicle.management.dto.VehicleSearchCacheStatsDTO;
+import com.vehicle.management.event.CacheInvalidationEvent;
+import com.vehicle.management.event.CacheRegion;
+import com.vehicle.management.event.VehicleChangedEvent;
+import com.vehicle.management.model.projection.VehicleRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VehicleSearchCacheServiceImplTest {
+
+    private final Pageable pageable = PageRequest.of(0, 20, Sort.by("price"));
+
+    private VehicleSearchCacheServiceImpl service;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        service = new VehicleSearchCacheServiceImpl();
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "maxEntries", 100);
+        ReflectionTestUtils.setField(service, "ttl", Duration.ofMinutes(1));
+        service.start();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void shouldReuseResultForEquivalentFilters() {
+        search("Ford", null, new BigDecimal("1000.00"));
+        search("FORD", null, new BigDecimal("1000"));
+
+        assertEquals(1, loads.get());
+        VehicleSearchCacheStatsDTO stats = service.getStats().getContent();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(0.5, stats.getHitRate());
+    }
+
+    @Test
+    void shouldInvalidateOnlySearchesTheWrittenVehicleMatches() {
+        search("Ford", null, null);
+        search("Fiat", null, null);
+        search(null, "Preto", new BigDecimal("50000"));
+
+        // Ford preto de 30 mil: não atende ao filtro de preço mínimo nem à marca Fiat
+        service.onVehicleChanged(new VehicleChangedEvent(null, row("Ford", "Preto", "30000.00")));
+
+        search("Ford", null, null);
+        search("Fiat", null, null);
+        search(null, "Preto", new BigDecimal("50000"));
+        assertEquals(4, loads.get());
+        assertEquals(1, service.getStats().getContent().getInvalidations());
+    }
+
+    @Test
+    void shouldInvalidateSearchesTheVehicleLeavesOnUpdate() {
+        search("Fiat", null, null);
+
+        service.onVehicleChanged(new VehicleChangedEvent(row("Fiat", "Preto", "30000.00"), row("Ford", "Preto", "30000.00")));
+
+        search("Fiat", null, null);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldFlushEverythingOnRemoteOrWholeRegionInvalidation() {
+        search("Ford", null, null);
+        service.onCacheInvalidation(new CacheInvalidationEvent(CacheRegion.VEHICLE, "42"));
+        service.onCacheInvalidation(new CacheInvalidationEvent(CacheRegion.RATE, null, true));
+        search("Ford", null, null);
+        assertEquals(1, loads.get());
+
+        service.onCacheInvalidation(new CacheInvalidationEvent(CacheRegion.VEHICLE, "42", true));
+        search("Ford", null, null);
+        service.onCacheInvalidation(new CacheInvalidationEvent(CacheRegion.VEHICLE, null));
+        search("Ford", null, null);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void shouldNotCacheResultLoadedWhileAWriteHappened() {
+        Supplier<Page<VehicleRow>> loader = () -> {
+            loads.incrementAndGet();
+            service.onVehicleChanged(new VehicleChangedEvent(null, row("Ford", "Preto", "30000.00")));
+            return Page.empty(pageable);
+        };
+        service.getPage(null, "Ford", null, null, null, null, pageable, loader);
+
+        search("Ford", null, null);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldBypassCacheWhenDisabled() {
+        ReflectionTestUtils.setField(service, "enabled", false);
+
+        search("Ford", null, null);
+        search("Ford", null, null);
+
+        assertEquals(2, loads.get());
+    }
+
+    private void search(String brand, String color, BigDecimal minPrice) {
+        service.getPage(null, brand, null, color, minPrice, null, pageable, () -> {
+            loads.incrementAndGet();
+            return new PageImpl<>(List.of(row("Ford", "Preto", "60000.00")), pageable, 1);
+        });
+    }
+
+    private VehicleRow row(String brand, String color, String price) {
+        return new VehicleRow(UUID.randomUUID(), "ABC1234", brand, color, 2020, new BigDecimal(price), null, null);
+    }
+}
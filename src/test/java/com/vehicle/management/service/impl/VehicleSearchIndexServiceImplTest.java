@@ -0,0 +1,119 @@
+package com.vehicle.management.service.impl;
+
+import com.vehicle.management.event.CacheInvalidationEvent;
+import com.vehicle.management.event.CacheRegion;
+import com.vehicle.management.event.VehicleBulkChangedEvent;
+import com.vehicle.management.event.VehicleChangedEvent;
+import com.vehicle.management.model.entity.Vehicle;
+import com.vehicle.management.model.projection.VehicleRow;
+import com.vehicle.management.repository.VehicleManagementRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VehicleSearchIndexServiceImplTest {
+
+    @InjectMocks
+    private VehicleSearchIndexServiceImpl service;
+
+    @Mock
+    private VehicleManagementRepository repository;
+
+    @Test
+    void shouldStayUnavailableWhenDisabled() {
+        service.rebuild();
+
+        assertFalse(service.isAvailable());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldServeSearchesAfterFirstLoadAndFollowWrites() {
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "rebuildBatchSize", 500);
+        doAnswer(invocation -> {
+            Consumer<VehicleRow> consumer = invocation.getArgument(1);
+            consumer.accept(new VehicleRow(UUID.randomUUID(), "AAA0001", "Ford", "Preto", 2018, new BigDecimal("40000.00"), null, null));
+            return null;
+        }).when(repository).forEachActiveRow(eq(500), any());
+
+        assertFalse(service.isAvailable());
+        service.rebuild();
+        assertTrue(service.isAvailable());
+
+        Vehicle vehicle = new Vehicle("BBB0001", "Ford", "Azul", 2020, new BigDecimal("45000.12345"));
+        vehicle.setId(UUID.randomUUID());
+        service.onVehicleChanged(new VehicleChangedEvent(null, VehicleRow.of(vehicle)));
+
+        Page<VehicleRow> page = service.search(null, "ford", null, null,
+                new BigDecimal("40000.00001"), null, PageRequest.of(0, 10));
+
+        assertEquals(1, page.getTotalElements());
+        assertEquals(new BigDecimal("45000.12"), page.getContent().get(0).price());
+
+        service.onVehicleChanged(new VehicleChangedEvent(VehicleRow.of(vehicle), null));
+        assertEquals(1, service.search(null, "Ford", null, null, null, null, PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void shouldFallBackToDatabaseUntilRebuiltAfterRemoteInvalidation() {
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "rebuildBatchSize", 500);
+        service.rebuild();
+        assertTrue(service.isAvailable());
+
+        service.onCacheInvalidation(new CacheInvalidationEvent(CacheRegion.VEHICLE, UUID.randomUUID().toString()));
+        assertTrue(service.isAvailable());
+
+        service.onCacheInvalidation(new CacheInvalidationEvent(CacheRegion.VEHICLE, UUID.randomUUID().toString(), true));
+        service.onCacheInvalidation(new CacheInvalidationEvent(CacheRegion.VEHICLE, null, true));
+        assertFalse(service.isAvailable());
+
+        service.rebuildIfStale();
+        service.rebuildIfStale();
+
+        assertTrue(service.isAvailable());
+        verify(repository, times(2)).forEachActiveRow(eq(500), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReplayWritesReceivedDuringBulkRebuild() {
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "rebuildBatchSize", 500);
+        VehicleRow removed = new VehicleRow(UUID.randomUUID(), "AAA0001", "Ford", "Preto", 2018, new BigDecimal("40000.00"), null, null);
+        VehicleRow added = new VehicleRow(UUID.randomUUID(), "AAA0002", "Ford", "Azul", 2019, new BigDecimal("41000.00"), null, null);
+        doAnswer(invocation -> {
+            Consumer<VehicleRow> consumer = invocation.getArgument(1);
+            service.onVehicleChanged(new VehicleChangedEvent(removed, null));
+            assertFalse(service.isAvailable());
+            consumer.accept(removed);
+            service.onVehicleChanged(new VehicleChangedEvent(null, added));
+            return null;
+        }).when(repository).forEachActiveRow(eq(500), any());
+
+        service.onVehiclesChangedInBulk(new VehicleBulkChangedEvent(1));
+        verify(repository, never()).forEachActiveRow(anyInt(), any());
+        service.rebuildIfStale();
+
+        assertTrue(service.isAvailable());
+        Page<VehicleRow> page = service.search(null, "Ford", null, null, null, null, PageRequest.of(0, 10));
+        assertEquals(1, page.getTotalElements());
+        assertEquals("AAA0002", page.getContent().get(0).plate());
+    }
+}